@@ -6,85 +6,152 @@ import view.EnemyAnimationSet;
 import java.awt.image.BufferedImage;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 
 /**
  * Manages all game assets, such as images and animations.
  * This class follows the Singleton pattern to ensure that assets are loaded only once
  * and are accessible globally from a single point.
+ * <p>
+ * At startup the images are decoded in parallel by {@link #preload(Executor, Runnable)}, while the
+ * loading screen is shown; the instance is only published once every image is loaded.
  */
 public class AssetLoader {
-    private static AssetLoader instance;
+    private static volatile AssetLoader instance;
+    private static CompletableFuture<AssetLoader> loading;
     private Map<String, BufferedImage> images;
     
     /**
      * A map to store user avatars, publicly accessible for convenience.
      */
-    public static Map<String, BufferedImage> avatars = new HashMap<>();
+    public static Map<String, BufferedImage> avatars = new ConcurrentHashMap<>();
     private static final String[] AVATAR_IDS = {"avatar1", "avatar2", "avatar3", "avatar4", "avatar5", "avatar6"};
     private static Map<EnemyType, EnemyAnimationSet> enemyAnimations = new HashMap<>();
 
+    /**
+     * The primary game assets, as pairs of resource path and key: sprites for the player,
+     * tiles, enemies, and elevator components.
+     */
+    private static final String[][] ASSETS = {
+        // Player sprites
+        {"/png/player/Running_Atlas_32x32.png", "runningAtlas"},
+        {"/png/player/Idle_32x32.png", "idleAtlas"},
+        {"/png/player/Jumping_Atlas_32x32.png", "jumpingAtlas"},
+        {"/png/player/Searching_Atlas_32x32.png", "searchingAtlas"},
+        
+        // Tile sprites
+        {"/png/tiles/Wall_Tile_32x32.png", "wallTile"},
+        {"/png/tiles/Platform_Tile_32x32.png", "platformTile"},
+        {"/png/tiles/Lift_Tile_32x32.png", "liftTile"},
+        {"/png/tiles/Computer_Tile_32x32.png", "pcTile"},
+        {"/png/tiles/Jukebox_Tile_32x32.png", "jukeboxTile"},
+        {"/png/tiles/Cigarette_Tile_32x32.png", "cigaretteTile"},
+        {"/png/tiles/Library_Tile_32x32.png", "libraryTile"},
+        {"/png/tiles/Candy_Tile_32x32.png", "candyTile"},
+        {"/png/tiles/Desk_Tile_32x32.png", "deskTile"},
+        
+        // Enemy sprites (standard and white variants)
+        {"/png/enemies/Robot_Flashing_Atlas_32x32.png", "flashingAtlas"},
+        {"/png/enemies/Robot_Turning_Atlas_32x32.png", "turningAtlas"},
+        {"/png/enemies/Robot_Attacking_Atlas_96x32.png", "attackingAtlas"},
+        {"/png/enemies/Robot_Flashing_Atlas_32x32_WHITE.png", "flashingAtlasWHITE"},
+        {"/png/enemies/Robot_Turning_Atlas_32x32_WHITE.png", "turningAtlasWHITE"},
+        {"/png/enemies/Robot_Attacking_Atlas_96x32_WHITE.png", "attackingAtlasWHITE"},
+        
+        // Elevator sprites
+        {"/png/elevator/ElevatorCabin.png", "elevatorCabin"},
+        {"/png/elevator/ElevatorShaft.png", "elevatorShaft"}
+    };
+
     /**
      * Private constructor to prevent instantiation from outside the class.
-     * Initializes asset collections and triggers the loading of all game resources.
+     * The assets are loaded by {@link #loadAll(Executor, Runnable)}.
      */
     private AssetLoader() {
-        images = new HashMap<>();
-        loadAllAssets();
-        loadAvatars();
-        loadEnemyAnimations();
+        images = new ConcurrentHashMap<>();
     }
 
     /**
-     * Returns the single instance of the AssetLoader, creating it if it doesn't exist.
+     * Returns the single instance of the AssetLoader, loading all the assets on the calling thread
+     * if it doesn't exist. If {@link #preload(Executor, Runnable)} is in progress, waits for it instead.
+     * Synchronized, so that concurrent callers never load the assets twice.
      *
      * @return The singleton instance of AssetLoader.
      */
-    public static AssetLoader getInstance() {
+    public static synchronized AssetLoader getInstance() {
         if (instance == null) {
-            instance = new AssetLoader();
+            if (loading == null) {
+                loading = new AssetLoader().loadAll(Runnable::run, () -> {});
+            }
+            instance = loading.join();
         }
         return instance;
     }
 
     /**
-     * Loads all primary game assets into memory. This includes sprites for the player,
-     * tiles, enemies, and elevator components.
+     * Starts loading all the assets in parallel, one task per image, so that a loading screen can
+     * be shown meanwhile. Does nothing if they are already loaded or being loaded.
+     *
+     * @param executor The executor decoding the images.
+     * @param onLoaded Called, from the executor, after each image is loaded (successfully or not).
+     * @return A future completed with the instance once every asset is loaded.
      */
-    private void loadAllAssets() {
-        // Player sprites
-        loadAsset("/png/player/Running_Atlas_32x32.png", "runningAtlas");
-        loadAsset("/png/player/Idle_32x32.png", "idleAtlas");
-        loadAsset("/png/player/Jumping_Atlas_32x32.png", "jumpingAtlas");
-        loadAsset("/png/player/Searching_Atlas_32x32.png", "searchingAtlas");
-        
-        // Tile sprites
-        loadAsset("/png/tiles/Wall_Tile_32x32.png", "wallTile");
-        loadAsset("/png/tiles/Platform_Tile_32x32.png", "platformTile");
-        loadAsset("/png/tiles/Lift_Tile_32x32.png", "liftTile");
-        loadAsset("/png/tiles/Computer_Tile_32x32.png", "pcTile");
-        loadAsset("/png/tiles/Jukebox_Tile_32x32.png", "jukeboxTile");
-        loadAsset("/png/tiles/Cigarette_Tile_32x32.png", "cigaretteTile");
-        loadAsset("/png/tiles/Library_Tile_32x32.png", "libraryTile");
-        loadAsset("/png/tiles/Candy_Tile_32x32.png", "candyTile");
-        loadAsset("/png/tiles/Desk_Tile_32x32.png", "deskTile");
-        
-        // Enemy sprites (standard and white variants)
-        loadAsset("/png/enemies/Robot_Flashing_Atlas_32x32.png", "flashingAtlas");
-        loadAsset("/png/enemies/Robot_Turning_Atlas_32x32.png", "turningAtlas");
-        loadAsset("/png/enemies/Robot_Attacking_Atlas_96x32.png", "attackingAtlas");
-        loadAsset("/png/enemies/Robot_Flashing_Atlas_32x32_WHITE.png", "flashingAtlasWHITE");
-        loadAsset("/png/enemies/Robot_Turning_Atlas_32x32_WHITE.png", "turningAtlasWHITE");
-        loadAsset("/png/enemies/Robot_Attacking_Atlas_96x32_WHITE.png", "attackingAtlasWHITE");
-        
-        // Elevator sprites
-        loadAsset("/png/elevator/ElevatorCabin.png", "elevatorCabin");
-        loadAsset("/png/elevator/ElevatorShaft.png", "elevatorShaft");
+    public static synchronized CompletableFuture<AssetLoader> preload(Executor executor, Runnable onLoaded) {
+        if (loading == null) {
+            loading = new AssetLoader().loadAll(executor, onLoaded);
+        }
+        return loading;
+    }
+
+    /**
+     * @return The number of images loaded by {@link #preload(Executor, Runnable)}.
+     */
+    public static int getAssetCount() {
+        return ASSETS.length + AVATAR_IDS.length;
+    }
+
+    /**
+     * Loads the game assets and the avatars, then assembles the enemy animations.
+     *
+     * @param executor The executor decoding the images.
+     * @param onLoaded Called after each image is loaded.
+     * @return A future completed with this loader once everything is loaded.
+     */
+    private CompletableFuture<AssetLoader> loadAll(Executor executor, Runnable onLoaded) {
+        List<CompletableFuture<Void>> tasks = new ArrayList<>();
+        for (String[] asset : ASSETS) {
+            tasks.add(CompletableFuture.runAsync(() -> {
+                try {
+                    loadAsset(asset[0], asset[1]);
+                } finally {
+                    onLoaded.run();
+                }
+            }, executor));
+        }
+        for (String id : AVATAR_IDS) {
+            tasks.add(CompletableFuture.runAsync(() -> {
+                try {
+                    loadAvatar(id);
+                } finally {
+                    onLoaded.run();
+                }
+            }, executor));
+        }
+        return CompletableFuture.allOf(tasks.toArray(new CompletableFuture<?>[0])).thenApply(done -> {
+            loadEnemyAnimations();
+            return this;
+        });
     }
 
     /**
      * Loads a single image asset from the given path and stores it in the images map with a specified key.
+     * A missing or unreadable image is reported and left out of the map, so {@link #getImage(String)} returns null.
      *
      * @param path The resource path to the image file.
      * @param key  The key to associate with the loaded image for later retrieval.
@@ -92,9 +159,13 @@ public class AssetLoader {
     private void loadAsset(String path, String key) {
         InputStream is = getClass().getResourceAsStream(path);
         try {
-            BufferedImage img = ImageIO.read(is);
-            images.put(key, img);
-        } catch (IOException e) {
+            BufferedImage img = ImageIO.read(is); // Throws if the resource is missing
+            if (img != null) {
+                images.put(key, img);
+            } else {
+                System.err.println("Unsupported image format: " + path);
+            }
+        } catch (Exception e) {
             System.err.println("Error loading image: " + path);
             e.printStackTrace();
         } finally {
@@ -117,16 +188,19 @@ public class AssetLoader {
     }
     
     /**
-     * Loads all user avatar images from the resources.
+     * Loads a user avatar image from the resources.
+     *
+     * @param id The ID of the avatar to load (e.g., "avatar1").
      */
-    public void loadAvatars() {
-        for (String id : AVATAR_IDS) {
-            try {
-                InputStream is = AssetLoader.class.getResourceAsStream("/avatars/" + id + ".png");
-                avatars.put(id, ImageIO.read(is));
-            } catch (Exception e) {
-                e.printStackTrace();
+    private void loadAvatar(String id) {
+        try {
+            InputStream is = AssetLoader.class.getResourceAsStream("/avatars/" + id + ".png");
+            BufferedImage img = ImageIO.read(is);
+            if (img != null) {
+                avatars.put(id, img);
             }
+        } catch (Exception e) {
+            e.printStackTrace();
         }
     }
     
@@ -145,7 +219,7 @@ public class AssetLoader {
      * This method retrieves the necessary sprite sheets and assembles them into
      * {@link EnemyAnimationSet} objects, which are then stored for each enemy type.
      */
-    public void loadEnemyAnimations() {
+    private void loadEnemyAnimations() {
         // Standard robot (STANDING_ROBOT) animation set
         BufferedImage standingAtlas = getImage("flashingAtlas");
         BufferedImage turningAtlas = getImage("turningAtlas");
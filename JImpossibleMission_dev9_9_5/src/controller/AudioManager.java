@@ -2,8 +2,12 @@ package controller;
 
 import java.io.BufferedInputStream;
 import java.io.InputStream;
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 import javax.sound.sampled.AudioInputStream;
 import javax.sound.sampled.AudioSystem;
 import javax.sound.sampled.Clip;
@@ -12,9 +16,43 @@ import javax.sound.sampled.Clip;
  * Manages all audio playback for the game, including sound effects (SFX) and music.
  * This class follows the Singleton pattern to provide a centralized point of control for audio.
  * It pre-loads all sound effects to ensure low-latency playback during gameplay.
+ * <p>
+ * At startup the clips are opened in parallel by {@link #preload(Executor, Runnable)}, like the
+ * images of the {@link AssetLoader}.
  */
 public class AudioManager {
-    private static AudioManager instance;
+    private static volatile AudioManager instance;
+    private static CompletableFuture<AudioManager> loading;
+    
+    /**
+     * The sound effects and music tracks, as pairs of key and resource path.
+     */
+    private static final String[][] SOUNDS = {
+        {"jump", "/audio/sfx/jump.wav"},
+        {"step", "/audio/sfx/step.wav"},
+        {"step_2", "/audio/sfx/step_2.wav"},
+        {"death", "/audio/sfx/death.wav"},
+        {"freeze", "/audio/sfx/freeze.wav"},
+        {"hover", "/audio/sfx/hover.wav"},
+        {"confirm", "/audio/sfx/confirm.wav"},
+        {"pause", "/audio/sfx/pause.wav"},
+        {"unpause", "/audio/sfx/unpause.wav"},
+        {"piece_found", "/audio/sfx/piece_found.wav"},
+        {"click", "/audio/sfx/click.wav"},
+        {"click_2", "/audio/sfx/click_2.wav"},
+        {"woosh", "/audio/sfx/woosh.wav"},
+        {"keystroke", "/audio/sfx/keystroke.wav"},
+        {"energy_beam", "/audio/sfx/energy_beam.wav"},
+        {"elevator_moving", "/audio/sfx/elevator_moving.wav"},
+        {"robot_bleep", "/audio/sfx/robot_bleep.wav"},
+        {"menu_theme", "/audio/bgm/theme1.wav"}
+    };
+    
+    /**
+     * When true, no sound is loaded or played. Used when the game runs without a window,
+     * where an audio device may not even exist.
+     */
+    private static boolean silent = false;
 
     /**
      * A map to store pre-loaded sound effect clips for quick access.
@@ -33,47 +71,82 @@ public class AudioManager {
 
     /**
      * Private constructor to enforce the Singleton pattern.
-     * Initializes the sound clips map and pre-loads all sounds.
+     * Initializes the sound clips map; the sounds are loaded by {@link #loadAllSounds(Executor, Runnable)}.
      */
     private AudioManager() {
-        soundClips = new HashMap<>();
-        loadAllSounds();
+        soundClips = new ConcurrentHashMap<>();
+    }
+    
+    /**
+     * Enables the silent mode, in which every playback request is ignored.
+     * Must be called before the first call to {@link #getInstance()}.
+     *
+     * @param silent True to disable all audio.
+     */
+    public static void setSilent(boolean silent) {
+        AudioManager.silent = silent;
     }
 
     /**
-     * Returns the single instance of the AudioManager, creating it if necessary.
+     * Returns the single instance of the AudioManager, loading all the sounds on the calling thread
+     * if it doesn't exist. If {@link #preload(Executor, Runnable)} is in progress, waits for it instead.
+     * Synchronized, since simulations may request it from several threads at once.
      *
      * @return The singleton instance of AudioManager.
      */
-    public static AudioManager getInstance() {
+    public static synchronized AudioManager getInstance() {
         if (instance == null) {
-            instance = new AudioManager();
+            if (loading == null) {
+                loading = new AudioManager().loadAllSounds(Runnable::run, () -> {});
+            }
+            instance = loading.join();
         }
         return instance;
     }
     
     /**
-     * Loads all sound effects and music tracks into memory at startup.
-     */
-    private void loadAllSounds() {
-        loadSound("jump", "/audio/sfx/jump.wav");
-        loadSound("step", "/audio/sfx/step.wav");
-        loadSound("step_2", "/audio/sfx/step_2.wav");
-        loadSound("death", "/audio/sfx/death.wav");
-        loadSound("freeze", "/audio/sfx/freeze.wav");
-        loadSound("hover", "/audio/sfx/hover.wav");
-        loadSound("confirm", "/audio/sfx/confirm.wav");
-        loadSound("pause", "/audio/sfx/pause.wav");
-        loadSound("unpause", "/audio/sfx/unpause.wav");
-        loadSound("piece_found", "/audio/sfx/piece_found.wav");
-        loadSound("click", "/audio/sfx/click.wav");
-        loadSound("click_2", "/audio/sfx/click_2.wav");
-        loadSound("woosh", "/audio/sfx/woosh.wav");
-        loadSound("keystroke", "/audio/sfx/keystroke.wav");
-        loadSound("energy_beam", "/audio/sfx/energy_beam.wav");
-        loadSound("elevator_moving", "/audio/sfx/elevator_moving.wav");
-        loadSound("robot_bleep", "/audio/sfx/robot_bleep.wav");
-        loadSound("menu_theme", "/audio/bgm/theme1.wav");
+     * Starts loading all the sounds in parallel, one task per clip. Does nothing if they are
+     * already loaded or being loaded.
+     *
+     * @param executor The executor opening the clips.
+     * @param onLoaded Called, from the executor, after each sound is loaded (successfully or not).
+     * @return A future completed with the instance once every sound is loaded.
+     */
+    public static synchronized CompletableFuture<AudioManager> preload(Executor executor, Runnable onLoaded) {
+        if (loading == null) {
+            loading = new AudioManager().loadAllSounds(executor, onLoaded);
+        }
+        return loading;
+    }
+    
+    /**
+     * @return The number of sounds loaded by {@link #preload(Executor, Runnable)}, none in silent mode.
+     */
+    public static int getSoundCount() {
+        return silent ? 0 : SOUNDS.length;
+    }
+    
+    /**
+     * Loads all sound effects and music tracks into memory at startup, unless in silent mode.
+     *
+     * @param executor The executor opening the clips.
+     * @param onLoaded Called after each sound is loaded.
+     * @return A future completed with this manager once every sound is loaded.
+     */
+    private CompletableFuture<AudioManager> loadAllSounds(Executor executor, Runnable onLoaded) {
+        List<CompletableFuture<Void>> tasks = new ArrayList<>();
+        if (!silent) {
+            for (String[] sound : SOUNDS) {
+                tasks.add(CompletableFuture.runAsync(() -> {
+                    try {
+                        loadSound(sound[0], sound[1]);
+                    } finally {
+                        onLoaded.run();
+                    }
+                }, executor));
+            }
+        }
+        return CompletableFuture.allOf(tasks.toArray(new CompletableFuture<?>[0])).thenApply(done -> this);
     }
 
     /**
@@ -147,6 +220,9 @@ public class AudioManager {
      */
     public void loopMusic(String filename) {
         stopMusic();
+        if (silent) {
+            return;
+        }
         
         try {
             InputStream is = getClass().getResourceAsStream(filename);
@@ -0,0 +1,211 @@
+package controller;
+
+import static model.GameConstants.FPS_SET;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import model.GameSession;
+import model.GameState;
+
+/**
+ * Runs many complete game sessions in parallel and aggregates their results, for balance tuning.
+ * Each session is a fully isolated {@link HeadlessSimulation} (its own model, player, elevator,
+ * clock and levels, generated from the session seed), so sessions can run on any thread.
+ * They are distributed on a work-stealing {@link ForkJoinPool} using all the cores by default.
+ * <p>
+ * Usage: {@code BatchSimulator [--sessions N] [--seed S] [--threads T] [--ticks N] [--script FILE]}.
+ * Session {@code i} uses the seed {@code S + i}. Without a script, every session is driven by
+ * its own random input policy, see {@link ScriptedInputSource#random(Random, long)}.
+ */
+public class BatchSimulator {
+
+    /**
+     * The outcome of a single simulated session.
+     */
+    public static class SessionResult {
+        private final long seed;
+        private final boolean won;
+        private final long ticks;
+        private final Map<Integer, Integer> deathsPerLevel;
+        private final List<Long> pieceFoundTimes;
+
+        SessionResult(long seed, boolean won, long ticks, Map<Integer, Integer> deathsPerLevel, List<Long> pieceFoundTimes) {
+            this.seed = seed;
+            this.won = won;
+            this.ticks = ticks;
+            this.deathsPerLevel = deathsPerLevel;
+            this.pieceFoundTimes = pieceFoundTimes;
+        }
+
+        public long getSeed() { return seed; }
+        public boolean isWon() { return won; }
+        public long getTicks() { return ticks; }
+        public Map<Integer, Integer> getDeathsPerLevel() { return deathsPerLevel; }
+        public List<Long> getPieceFoundTimes() { return pieceFoundTimes; }
+    }
+
+    private final int parallelism;
+    private final long maxTicks;
+    private final List<String> script;
+
+    /**
+     * Constructs a BatchSimulator.
+     *
+     * @param parallelism The number of worker threads.
+     * @param maxTicks    The maximum number of ticks simulated per session.
+     * @param script      The lines of the input script shared by all sessions, or null for random inputs.
+     */
+    public BatchSimulator(int parallelism, long maxTicks, List<String> script) {
+        this.parallelism = parallelism;
+        this.maxTicks = maxTicks;
+        this.script = script;
+    }
+
+    /**
+     * Simulates the given number of sessions.
+     *
+     * @param sessions The number of sessions to run.
+     * @param baseSeed The seed of the first session; the following ones are incremented by one.
+     * @return The results, in session order.
+     * @throws InterruptedException If the calling thread is interrupted while waiting.
+     * @throws ExecutionException If a session throws an exception.
+     */
+    public List<SessionResult> run(int sessions, long baseSeed) throws InterruptedException, ExecutionException {
+        List<Callable<SessionResult>> tasks = new ArrayList<>(sessions);
+        for (int i = 0; i < sessions; i++) {
+            long seed = baseSeed + i;
+            tasks.add(() -> runSession(seed));
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            List<SessionResult> results = new ArrayList<>(sessions);
+            for (Future<SessionResult> future : pool.invokeAll(tasks)) {
+                results.add(future.get());
+            }
+            return results;
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Runs one session to its end.
+     * @param seed The seed of the session, used for the levels and the random inputs.
+     * @return The outcome of the session.
+     */
+    private SessionResult runSession(long seed) {
+        ScriptedInputSource input = (script != null)
+                ? ScriptedInputSource.fromLines(script)
+                : ScriptedInputSource.random(new Random(seed), maxTicks);
+
+        HeadlessSimulation simulation = new HeadlessSimulation(input, seed);
+        simulation.run(maxTicks);
+
+        GameSession session = simulation.getGameModel().getCurrentGameSession();
+        boolean won = simulation.getGameModel().getGameState() == GameState.VICTORY_SCREEN;
+        return new SessionResult(seed, won, simulation.getTicks(), session.getDeathsPerLevel(), session.getPieceFoundTimes());
+    }
+
+    /**
+     * Prints the aggregated statistics of a batch: win rate, deaths per room and the average
+     * session time at which each puzzle piece was found.
+     *
+     * @param results The results of the batch.
+     */
+    public static void printReport(List<SessionResult> results) {
+        int wins = 0;
+        long totalTicks = 0;
+        Map<Integer, Integer> deathsPerLevel = new TreeMap<>();
+        List<long[]> pieceTimes = new ArrayList<>(); // {sum, count} per piece index
+
+        for (SessionResult result : results) {
+            if (result.isWon()) {
+                wins++;
+            }
+            totalTicks += result.getTicks();
+            result.getDeathsPerLevel().forEach((level, deaths) -> deathsPerLevel.merge(level, deaths, Integer::sum));
+            List<Long> times = result.getPieceFoundTimes();
+            for (int i = 0; i < times.size(); i++) {
+                if (pieceTimes.size() <= i) {
+                    pieceTimes.add(new long[2]);
+                }
+                pieceTimes.get(i)[0] += times.get(i);
+                pieceTimes.get(i)[1]++;
+            }
+        }
+
+        int n = results.size();
+        System.out.println(String.format("Sessions: %d, win rate: %.1f%%, average length: %.1f s",
+                n, 100.0 * wins / n, totalTicks / (double) n / FPS_SET));
+
+        System.out.println("Deaths per room (average per session):");
+        deathsPerLevel.forEach((level, deaths) -> System.out.println(String.format("  %-9s %6d (%.3f)",
+                level == -1 ? "elevator" : "room " + level, deaths, deaths / (double) n)));
+
+        System.out.println("Time to puzzle piece (average over the sessions that found it):");
+        for (int i = 0; i < pieceTimes.size(); i++) {
+            long[] sumCount = pieceTimes.get(i);
+            System.out.println(String.format("  piece %d: %7.1f s (%d sessions)",
+                    i + 1, sumCount[0] / (double) sumCount[1] / 1000.0, sumCount[1]));
+        }
+    }
+
+    /**
+     * Entry point of the batch simulator.
+     *
+     * @param args {@code --sessions N}, {@code --seed S}, {@code --threads T}, {@code --ticks N}
+     *             and {@code --script FILE}, all optional.
+     */
+    public static void main(String[] args) {
+        System.setProperty("java.awt.headless", "true");
+        AudioManager.setSilent(true);
+
+        int sessions = 1000;
+        long seed = new Random().nextLong();
+        int threads = Runtime.getRuntime().availableProcessors();
+        long maxTicks = (GameSession.TIME_LIMIT_MS / 1000 + 1) * FPS_SET;
+        List<String> script = null;
+        try {
+            for (int i = 0; i < args.length; i++) {
+                switch (args[i]) {
+                    case "--sessions": sessions = Integer.parseInt(args[++i]); break;
+                    case "--seed": seed = Long.parseLong(args[++i]); break;
+                    case "--threads": threads = Integer.parseInt(args[++i]); break;
+                    case "--ticks": maxTicks = Long.parseLong(args[++i]); break;
+                    case "--script": script = Files.readAllLines(Paths.get(args[++i])); break;
+                    default:
+                        System.err.println("Unknown argument: " + args[i]);
+                        System.exit(2);
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            System.err.println("Invalid arguments: " + e.getMessage());
+            System.exit(2);
+        }
+
+        BatchSimulator simulator = new BatchSimulator(threads, maxTicks, script);
+        long start = System.nanoTime();
+        try {
+            List<SessionResult> results = simulator.run(sessions, seed);
+            double elapsedSec = (System.nanoTime() - start) / 1_000_000_000.0;
+            printReport(results);
+            System.out.println(String.format("Simulated in %.2f s on %d threads, base seed %d", elapsedSec, threads, seed));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            System.err.println("A session failed:");
+            e.getCause().printStackTrace();
+            System.exit(1);
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package controller;
+
+import java.awt.Point;
+import java.util.ArrayList;
+import java.util.Random;
+import model.Level;
+import model.LevelTemplate;
+import model.Player;
+import model.TileTypes;
+
+/**
+ * The microbenchmark of the ground test, {@link PhysicsHandler#isOnGround(Player, Level)}, which
+ * runs at every tick. Room 2 is tiled into larger and larger levels, keeping only the lifts of the
+ * original block so that their number stays constant, and the player is placed at random spots of
+ * that block. Since only the cells under the player and the lifts are tested, the time per call
+ * must not grow with the size of the level.
+ * <p>
+ * Usage: {@code CollisionBenchmark [--calls N] [--rounds R] [--seed S]}. Each scale is measured
+ * over R rounds of N calls, and the best round is printed.
+ */
+public class CollisionBenchmark {
+
+    private static final String ROOM = "/levels/level2.txt";
+    private static final int[] SCALES = {1, 4, 10};
+    private static final int POSITIONS = 1024; // Drawn before measuring, per scale
+
+    private static volatile int sink; // Keeps the results alive
+
+    /**
+     * Builds room 2 repeated {@code scale} times in both directions, without enemies.
+     * The lifts outside the first copy are replaced by empty cells.
+     *
+     * @param scale The number of copies of the room per row and per column.
+     * @return A new level.
+     */
+    static Level createLevel(int scale) {
+        LevelTemplate room = LevelLoader.getTemplate(ROOM);
+        int rows = room.getRows();
+        int cols = room.getCols();
+        TileTypes[][] cells = new TileTypes[rows * scale][cols * scale];
+        for (int row = 0; row < cells.length; row++) {
+            for (int col = 0; col < cells[row].length; col++) {
+                TileTypes type = room.getTileType(row % rows, col % cols);
+                if (type == TileTypes.LIFT && (row >= rows || col >= cols)) {
+                    type = TileTypes.EMPTY;
+                }
+                cells[row][col] = type;
+            }
+        }
+        return new LevelTemplate(cells, room.getPlayerSpawn(), new ArrayList<>(), new ArrayList<>())
+                .instantiate(new Random(1));
+    }
+
+    /**
+     * Measures the ground test on one level.
+     *
+     * @param level  The level.
+     * @param xs     The x-coordinates of the player.
+     * @param ys     The y-coordinates of the player.
+     * @param calls  The number of calls per round.
+     * @param rounds The number of rounds.
+     * @return The best time of a round, in nanoseconds per call.
+     */
+    static double measure(Level level, float[] xs, float[] ys, int calls, int rounds) {
+        Player player = new Player(new Point(0, 0));
+        double best = Double.MAX_VALUE;
+        for (int round = 0; round < rounds; round++) {
+            int grounded = 0;
+            long start = System.nanoTime();
+            for (int i = 0; i < calls; i++) {
+                int position = i % POSITIONS;
+                player.getHitbox().x = xs[position];
+                player.getHitbox().y = ys[position];
+                if (PhysicsHandler.isOnGround(player, level)) {
+                    grounded++;
+                }
+            }
+            best = Math.min(best, (System.nanoTime() - start) / (double) calls);
+            sink = grounded;
+        }
+        return best;
+    }
+
+    /**
+     * Entry point of the benchmark.
+     *
+     * @param args {@code --calls N}, {@code --rounds R} and {@code --seed S}, all optional.
+     */
+    public static void main(String[] args) {
+        System.setProperty("java.awt.headless", "true");
+        AudioManager.setSilent(true);
+
+        int calls = 1_000_000;
+        int rounds = 5;
+        long seed = 1;
+        try {
+            for (int i = 0; i < args.length; i++) {
+                switch (args[i]) {
+                    case "--calls": calls = Integer.parseInt(args[++i]); break;
+                    case "--rounds": rounds = Integer.parseInt(args[++i]); break;
+                    case "--seed": seed = Long.parseLong(args[++i]); break;
+                    default:
+                        System.err.println("Unknown argument: " + args[i]);
+                        System.exit(2);
+                }
+            }
+        } catch (RuntimeException e) {
+            System.err.println("Invalid arguments: " + e.getMessage());
+            System.exit(2);
+        }
+
+        for (int scale : SCALES) {
+            Level level = createLevel(scale);
+            Random random = new Random(seed);
+            float[] xs = new float[POSITIONS];
+            float[] ys = new float[POSITIONS];
+            for (int i = 0; i < POSITIONS; i++) {
+                xs[i] = random.nextFloat() * (level.getCols() / scale) * 32;
+                ys[i] = random.nextFloat() * (level.getRows() / scale) * 32;
+            }
+            double nanos = measure(level, xs, ys, calls, rounds);
+            System.out.println(String.format("grid %dx%d: %.1f ns/call", level.getCols(), level.getRows(), nanos));
+        }
+    }
+}
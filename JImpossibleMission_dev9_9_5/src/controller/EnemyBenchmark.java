@@ -0,0 +1,195 @@
+package controller;
+
+import java.awt.Point;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import model.Enemy;
+import model.EnemyStore;
+import model.EnemyType;
+import model.GameClock;
+import model.Level;
+import model.LevelTemplate;
+import model.Player;
+import model.TileTypes;
+
+/**
+ * The microbenchmark of the enemy updates: many robots, half moving and half standing, on the
+ * floors of room 2, with the player out of reach so that they only patrol, turn and attack.
+ * Each round advances the game clock tick by tick and updates every robot, then prints the time
+ * and the bytes allocated per tick.
+ * <p>
+ * The measured rounds start after a warm-up, which lets the JIT compile the updates: rounds of the
+ * same length are run, unmeasured, for at least {@code WARMUP_UPDATES} robot updates and until one
+ * of them allocates nothing.
+ * <p>
+ * The robots are updated either as objects, through their behaviors, or by the loops of an
+ * {@link EnemyStore}, the struct-of-arrays model of {@code -Djim.enemies=soa}. With
+ * {@code --model both}, the two models run one after the other on identical levels, in the same JVM.
+ * <p>
+ * Usage: {@code EnemyBenchmark [--model objects|soa|both] [--robots N] [--ticks T] [--rounds R]
+ * [--seed S] [--check]}. With {@code --check}, the exit status is 1 if the warm-up never reached a
+ * round without allocation or if any measured round allocated, since the enemy updates must not
+ * allocate at steady state.
+ */
+public class EnemyBenchmark {
+
+    private static final String ROOM = "/levels/level2.txt";
+    private static final int[] FLOOR_ROWS = {3, 7, 12}; // The rows standing on a floor of the room
+    private static final long WARMUP_UPDATES = 20_000_000;
+    private static final long MAX_WARMUP_UPDATES = 10 * WARMUP_UPDATES;
+
+    /**
+     * Builds room 2 with the given number of robots, at random places of its floors.
+     *
+     * @param robots The number of robots.
+     * @param seed   The seed of the placement.
+     * @return A new level.
+     */
+    static Level createLevel(int robots, long seed) {
+        LevelTemplate room = LevelLoader.getTemplate(ROOM);
+        TileTypes[][] cells = new TileTypes[room.getRows()][room.getCols()];
+        for (int row = 0; row < cells.length; row++) {
+            for (int col = 0; col < cells[row].length; col++) {
+                cells[row][col] = room.getTileType(row, col);
+            }
+        }
+
+        Random random = new Random(seed);
+        List<EnemyType> types = new ArrayList<>();
+        List<Point> spawns = new ArrayList<>();
+        for (int i = 0; i < robots; i++) {
+            int row = FLOOR_ROWS[random.nextInt(FLOOR_ROWS.length)];
+            types.add(i % 2 == 0 ? EnemyType.MOVING_ROBOT : EnemyType.STANDING_ROBOT);
+            spawns.add(new Point((2 + random.nextInt(14)) * 32 + 2, row * 32));
+        }
+        return new LevelTemplate(cells, room.getPlayerSpawn(), types, spawns).instantiate(new Random(seed));
+    }
+
+    /**
+     * Warms up, then runs and prints the rounds of one model.
+     *
+     * @param soa    True to update the robots with an {@link EnemyStore}, false as objects.
+     * @param robots The number of robots.
+     * @param ticks  The number of ticks per round.
+     * @param rounds The number of rounds.
+     * @param seed   The seed of the placement.
+     * @return The bytes allocated by the measured rounds, or -1 if the warm-up never reached a
+     *         round without allocation.
+     */
+    static long run(boolean soa, int robots, int ticks, int rounds, long seed) {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long thread = Thread.currentThread().getId();
+        Level level = createLevel(robots, seed);
+        List<Enemy> enemies = level.getEnemies();
+        EnemyStore store = soa ? new EnemyStore(enemies) : null;
+        Player player = new Player(new Point(-500, -500));
+        GameClock clock = new GameClock();
+        String name = soa ? "soa" : "objects";
+
+        long updatesPerRound = (long) ticks * Math.max(1, enemies.size());
+        int warmupRounds = 0;
+        long warmupBytes;
+        do {
+            long bytesBefore = threads.getThreadAllocatedBytes(thread);
+            advance(clock, ticks, level, enemies, store, player);
+            warmupBytes = threads.getThreadAllocatedBytes(thread) - bytesBefore;
+            warmupRounds++;
+        } while ((warmupBytes != 0 || warmupRounds * updatesPerRound < WARMUP_UPDATES)
+                && warmupRounds * updatesPerRound < MAX_WARMUP_UPDATES);
+        System.out.println(String.format("%-7s warm-up: %d rounds, %d bytes in the last one",
+                name, warmupRounds, warmupBytes));
+        if (warmupBytes != 0) {
+            return -1;
+        }
+
+        long steadyBytes = 0;
+        for (int round = 0; round < rounds; round++) {
+            long bytesBefore = threads.getThreadAllocatedBytes(thread);
+            long start = System.nanoTime();
+            advance(clock, ticks, level, enemies, store, player);
+            long elapsed = System.nanoTime() - start;
+            long bytes = threads.getThreadAllocatedBytes(thread) - bytesBefore;
+            steadyBytes += bytes;
+            System.out.println(String.format("%-7s round %d: %.3f ms/tick, %.1f bytes/tick (%d robots)",
+                    name, round, elapsed / 1e6 / ticks, bytes / (double) ticks, enemies.size()));
+        }
+        return steadyBytes;
+    }
+
+    private static void advance(GameClock clock, int ticks, Level level, List<Enemy> enemies, EnemyStore store, Player player) {
+        for (int tick = 0; tick < ticks; tick++) {
+            clock.tick();
+            long now = clock.millis();
+            if (store != null) {
+                store.update(now, level, player);
+            } else {
+                for (int i = 0; i < enemies.size(); i++) {
+                    enemies.get(i).update(now, level, player);
+                }
+            }
+        }
+    }
+
+    /**
+     * Entry point of the benchmark.
+     *
+     * @param args {@code --model objects|soa|both}, {@code --robots N}, {@code --ticks T},
+     *             {@code --rounds R}, {@code --seed S} and {@code --check}, all optional.
+     */
+    public static void main(String[] args) {
+        System.setProperty("java.awt.headless", "true");
+        AudioManager.setSilent(true);
+
+        String model = EnemyStore.isEnabled() ? "soa" : "objects";
+        int robots = 10_000;
+        int ticks = 1200; // 10 s of game time
+        int rounds = 6;
+        long seed = 3;
+        boolean check = false;
+        try {
+            for (int i = 0; i < args.length; i++) {
+                switch (args[i]) {
+                    case "--model": model = args[++i]; break;
+                    case "--robots": robots = Integer.parseInt(args[++i]); break;
+                    case "--ticks": ticks = Integer.parseInt(args[++i]); break;
+                    case "--rounds": rounds = Integer.parseInt(args[++i]); break;
+                    case "--seed": seed = Long.parseLong(args[++i]); break;
+                    case "--check": check = true; break;
+                    default:
+                        System.err.println("Unknown argument: " + args[i]);
+                        System.exit(2);
+                }
+            }
+        } catch (RuntimeException e) {
+            System.err.println("Invalid arguments: " + e.getMessage());
+            System.exit(2);
+        }
+
+        if (!model.equals("objects") && !model.equals("soa") && !model.equals("both")) {
+            System.err.println("Unknown model: " + model);
+            System.exit(2);
+        }
+
+        boolean failed = false;
+        for (String run : new String[] {"objects", "soa"}) {
+            if (model.equals(run) || model.equals("both")) {
+                long steadyBytes = run(run.equals("soa"), robots, ticks, rounds, seed);
+                if (!check) {
+                    continue;
+                }
+                if (steadyBytes < 0) {
+                    System.err.println("FAILED: the " + run + " updates still allocated after " + MAX_WARMUP_UPDATES + " warm-up updates");
+                    failed = true;
+                } else if (steadyBytes != 0) {
+                    System.err.println("FAILED: the " + run + " updates allocated " + steadyBytes + " bytes at steady state");
+                    failed = true;
+                }
+            }
+        }
+        if (failed) {
+            System.exit(1);
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package controller;
 
-import view.MainGamePanel;
+import view.GameSurface;
+import model.ChangeBus;
 import model.Directions;
 import model.Elevator;
 import model.Enemy;
@@ -8,12 +9,14 @@ import model.FurnitureTile;
 import model.GameModel;
 import model.GameSession;
 import model.GameState;
+import model.Level;
 import model.LiftTile;
 import model.PcTile;
+import model.SnapshotBuffer;
+import model.SpatialGrid;
 import java.awt.event.KeyEvent;
 import java.awt.geom.Rectangle2D;
 import java.util.List;
-import model.Tile;
 import model.UserProfile;
 
 import static model.GameConstants.*;
@@ -28,12 +31,11 @@ import static model.EnemyState.*;
  * @see MainGamePanel
  * @see GameState
  */
-@SuppressWarnings("deprecation")
-public class GameController implements Runnable {
+public class GameController {
 	private GameModel gameModel;
-	private InputHandler inputHandler;
+	private InputSource inputSource;
 	private TerminalHandler terminalHandler;
-	private MainGamePanel mainGamePanel;
+	private GameSurface mainGamePanel;
 	private PopupHandler popupHandler;
 	private PausedHandler pausedHandler;
 	private GameoverHandler gameoverHandler;
@@ -42,8 +44,10 @@ public class GameController implements Runnable {
 	private MainMenuHandler mainMenuHandler;
 	private StatsHandler statsHandler;
 	private LeaderboardHandler leaderboardHandler;
+	private SnapshotBuffer snapshotBuffer;
 
 	private Elevator elevator;
+	private boolean persistProfiles = true;
 
 	private static final double XP_PER_SCORE_POINT = 0.5;
 	private static final int WIN_BONUS_XP = 1000;
@@ -54,7 +58,7 @@ public class GameController implements Runnable {
      * attaches input listeners to the main panel, and starts the game loop.
      *
      * @param gameModel              The main data model of the game.
-     * @param mainGamePanel          The main view component (JPanel) for rendering.
+     * @param mainGamePanel          The main view component for rendering, Swing panel or active canvas.
      * @param inputHandler           The handler for keyboard and mouse inputs.
      * @param terminalHandler        The handler for terminal screen logic.
      * @param pausedHandler          The handler for the paused menu.
@@ -65,15 +69,55 @@ public class GameController implements Runnable {
      * @param popupHandler           The handler for in-game popups.
      * @param victoryHandler         The handler for the victory screen.
      * @param leaderboardHandler     The handler for the leaderboard screen.
+     * @param snapshotBuffer         The buffer through which a frame snapshot is handed to the views after every tick.
      */
-	public GameController(GameModel gameModel, MainGamePanel mainGamePanel, InputHandler inputHandler,
+	public GameController(GameModel gameModel, GameSurface mainGamePanel, InputHandler inputHandler,
+			TerminalHandler terminalHandler, PausedHandler pausedHandler, GameoverHandler gameoverHandler,
+			ProfileSelectionHandler profileSelectionHandler, MainMenuHandler mainMenuHandler, StatsHandler statsHandler,
+			PopupHandler popupHandler, VictoryHandler victoryHandler, LeaderboardHandler leaderboardHandler,
+			SnapshotBuffer snapshotBuffer) {
+
+		this(gameModel, inputHandler, terminalHandler, pausedHandler, gameoverHandler, profileSelectionHandler,
+				mainMenuHandler, statsHandler, popupHandler, victoryHandler, leaderboardHandler);
+		this.mainGamePanel = mainGamePanel;
+		this.snapshotBuffer = snapshotBuffer;
+
+		// Deliver the changes of every tick to the view
+		ChangeBus.getInstance().addListener(this.mainGamePanel);
+
+		// Attach input listeners to the view
+		this.mainGamePanel.getDrawingComponent().addKeyListener(inputHandler);
+		this.mainGamePanel.getDrawingComponent().addMouseListener(inputHandler);
+		this.mainGamePanel.getDrawingComponent().addMouseMotionListener(inputHandler);
+
+		startGameLoop();
+		startRenderLoop();
+	}
+
+    /**
+     * Constructs a game controller without any view.
+     * No thread is started: the caller advances the simulation itself by calling {@link #tick()},
+     * as fast as it wants. Used by the headless simulation.
+     *
+     * @param gameModel              The main data model of the game.
+     * @param inputSource            The source of the inputs, usually scripted.
+     * @param terminalHandler        The handler for terminal screen logic.
+     * @param pausedHandler          The handler for the paused menu.
+     * @param gameoverHandler        The handler for the game over screen.
+     * @param profileSelectionHandler The handler for the profile selection screen.
+     * @param mainMenuHandler        The handler for the main menu screen.
+     * @param statsHandler           The handler for the statistics screen.
+     * @param popupHandler           The handler for in-game popups.
+     * @param victoryHandler         The handler for the victory screen.
+     * @param leaderboardHandler     The handler for the leaderboard screen.
+     */
+	public GameController(GameModel gameModel, InputSource inputSource,
 			TerminalHandler terminalHandler, PausedHandler pausedHandler, GameoverHandler gameoverHandler,
 			ProfileSelectionHandler profileSelectionHandler, MainMenuHandler mainMenuHandler, StatsHandler statsHandler,
 			PopupHandler popupHandler, VictoryHandler victoryHandler, LeaderboardHandler leaderboardHandler) {
 
 		this.gameModel = gameModel;
-		this.mainGamePanel = mainGamePanel;
-		this.inputHandler = inputHandler;
+		this.inputSource = inputSource;
 		this.terminalHandler = terminalHandler;
 		this.pausedHandler = pausedHandler;
 		this.gameoverHandler = gameoverHandler;
@@ -85,65 +129,87 @@ public class GameController implements Runnable {
 		this.leaderboardHandler = leaderboardHandler;
 
 		this.elevator = gameModel.getElevator();
-
-		// Connect observers to their subjects
-		this.gameModel.addObserver(this.mainGamePanel);
-		this.profileSelectionHandler.addObserver(this.mainGamePanel);
-		gameModel.getPlayer().addObserver(this.mainGamePanel);
-		this.elevator.addObserver(this.mainGamePanel);
-
-		// Attach input listeners to the view
-		this.mainGamePanel.getDrawingComponent().addKeyListener(this.inputHandler);
-		this.mainGamePanel.addMouseListener(inputHandler);
-		this.mainGamePanel.addMouseMotionListener(inputHandler);
-
-		startGameLoop();
 	}
 
     /**
      * Initializes and starts the main game loop in a new thread.
+     * The loop runs {@link #tick()} at the fixed rate of {@code FPS_SET} ticks per second
+     * and parks the thread between ticks instead of busy-waiting.
+     * Rendering runs on its own thread, see {@link #startRenderLoop()}.
      */
 	private void startGameLoop() {
-		Thread gameThread = new Thread(this);
+		GameLoop gameLoop = new GameLoop(this::tick, FPS_SET, this::reportLoopStats);
+
+		Thread gameThread = new Thread(gameLoop, "GameLoop");
 		gameThread.start();
 	}
 
     /**
-     * The core game loop, which runs continuously in a dedicated thread.
-     * It manages game updates and rendering to achieve a consistent frame rate (FPS).
+     * Advances the simulation by exactly one fixed-length tick.
+     * When a view is attached, the state needed to draw the tick is then copied into a snapshot
+     * and published to the render side. Finally, the changes of the tick are delivered at once
+     * by flushing the {@link ChangeBus}.
      */
-	public void run() {
-
-		double timePerFrame = 1000000000.0 / FPS_SET;
-		long previousTime = System.nanoTime();
-		long lastCheck = System.currentTimeMillis();
-		int frames = 0;
-		double deltaF = 0;
-
-		while (true) {
-			long currentTime = System.nanoTime();
-
-			deltaF += (currentTime - previousTime) / timePerFrame;
-			previousTime = currentTime;
-
-			if (deltaF >= 1) {
-				updateGame();
-                // The repaint() method is called on every logic update. This ensures that animations
-                // in the view (like PlayerView) are always smooth, even if the model's state
-                // hasn't changed.
-				mainGamePanel.repaint();
-				deltaF--;
-				frames++;
-			}
+	public void tick() {
+		gameModel.advanceClock();
+		gameModel.savePreviousPositions();
+		updateGame();
+		if (snapshotBuffer != null) {
+			snapshotBuffer.getWriteBuffer().capture(gameModel);
+			snapshotBuffer.publish();
+		}
+		ChangeBus.getInstance().flush();
+	}
 
-			if (System.currentTimeMillis() - lastCheck >= 1000) {
-				lastCheck = System.currentTimeMillis();
-				System.out.println("FPS: " + frames);
-				gameModel.setCurrentFps(frames);
-				frames = 0;
-			}
+    /**
+     * Enables or disables saving the active profile to disk when a game ends.
+     * Simulations disable it so that their runs do not pollute the player statistics.
+     *
+     * @param persistProfiles True to save profiles at the end of a game (the default).
+     */
+	public void setPersistProfiles(boolean persistProfiles) {
+		this.persistProfiles = persistProfiles;
+	}
+
+    /**
+     * Starts the render loop, which requests frames at {@code RENDER_FPS_SET} frames per second
+     * regardless of the logic tick rate. The views interpolate between the last two simulation
+     * states, so motion stays smooth whether the display is slower or faster than the simulation.
+     * With a rate of 0 the loop is uncapped and requests a new frame as soon as the previous one is painted.
+     * With the active-rendering canvas, the render thread draws and shows each frame itself.
+     */
+	private void startRenderLoop() {
+		Runnable renderLoop;
+		if (RENDER_FPS_SET > 0) {
+			renderLoop = new GameLoop(mainGamePanel::requestFrame, RENDER_FPS_SET, null);
+		} else {
+			renderLoop = () -> {
+				while (true) {
+					mainGamePanel.paintNow();
+				}
+			};
 		}
 
+		Thread renderThread = new Thread(renderLoop, "RenderLoop");
+		renderThread.setDaemon(true);
+		renderThread.start();
+	}
+
+    /**
+     * Publishes the statistics of the game loop, called once per second, with the input-to-frame
+     * latency of the view when keys or buttons were pressed.
+     *
+     * @param ticks       The number of ticks executed in the last second.
+     * @param avgJitterMs The average tick lateness, in milliseconds.
+     * @param maxJitterMs The worst tick lateness, in milliseconds.
+     * @param skipped     The number of ticks dropped in the last second.
+     */
+	private void reportLoopStats(int ticks, double avgJitterMs, double maxJitterMs, int skipped) {
+		int frames = mainGamePanel.getAndResetFrameCount();
+		String latency = mainGamePanel.getLatency().getAndReset();
+		System.out.println(String.format("FPS: %d, TPS: %d (jitter avg %.2f ms, max %.2f ms, skipped %d)%s",
+				frames, ticks, avgJitterMs, maxJitterMs, skipped, (latency != null) ? ", " + latency : ""));
+		gameModel.setCurrentFps(frames);
 	}
 
     /**
@@ -151,7 +217,7 @@ public class GameController implements Runnable {
      * to prevent unwanted continuous movement.
      */
 	public void gameLostFocus() {
-		inputHandler.resetKeys();
+		inputSource.resetKeys();
 	}
 
     /**
@@ -180,24 +246,24 @@ public class GameController implements Runnable {
 			gameModel.getPlayer().setInAir(false);
 
 			// Allow pausing from the elevator
-			if (inputHandler.isKeyPressed(KeyEvent.VK_ESCAPE)) {
+			if (inputSource.isKeyPressed(KeyEvent.VK_ESCAPE)) {
 				AudioManager.getInstance().stopAllSounds();
 				AudioManager.getInstance().play("pause");
 				gameModel.setStateBeforePause(GameState.IN_ELEVATOR);
 				gameModel.setGameState(GameState.PAUSED);
-				inputHandler.resetKeys();
+				inputSource.resetKeys();
 				break;
 			}
 
 			// Player can move if the elevator is not moving
 			if (!elevator.isMoving()) {
 
-				boolean anyMovementKeyPressed = inputHandler.isLeftPressed() || inputHandler.isRightPressed();
+				boolean anyMovementKeyPressed = inputSource.isLeftPressed() || inputSource.isRightPressed();
 				if (anyMovementKeyPressed) {
-					if (inputHandler.isLeftPressed()) {
+					if (inputSource.isLeftPressed()) {
 						gameModel.getPlayer().moveLeft();
 					}
-					if (inputHandler.isRightPressed()) {
+					if (inputSource.isRightPressed()) {
 						gameModel.getPlayer().moveRight();
 					}
 				} else {
@@ -218,12 +284,17 @@ public class GameController implements Runnable {
 				// Move the elevator if the player is in the control area and presses UP/DOWN
 				if (gameModel.getPlayer().getHitbox().x >= (LOGIC_WIDTH / 2.25)
 						&& gameModel.getPlayer().getHitbox().getMaxX() <= (LOGIC_WIDTH / 1.77)) {
-					if (inputHandler.isUpPressed()) {
+					if (inputSource.isUpPressed()) {
 						elevator.moveUp();
-						inputHandler.resetVerticalKeys();
-					} else if (inputHandler.isDownPressed()) {
+						inputSource.resetVerticalKeys();
+					} else if (inputSource.isDownPressed()) {
 						elevator.moveDown();
-						inputHandler.resetVerticalKeys();
+						inputSource.resetVerticalKeys();
+					}
+
+					// The target floor is known: build its rooms while the cabin moves
+					if (elevator.isMoving()) {
+						gameModel.getCurrentGameSession().prefetchFloor(elevator.getCurrentFloor());
 					}
 				}
 			}
@@ -236,21 +307,22 @@ public class GameController implements Runnable {
 			break;
 		case PLAYING:
 
-			if (inputHandler.isKeyPressed(KeyEvent.VK_ESCAPE)) {
+			if (inputSource.isKeyPressed(KeyEvent.VK_ESCAPE)) {
 				AudioManager.getInstance().stopAllSounds();
 				AudioManager.getInstance().play("pause");
 				gameModel.setStateBeforePause(GameState.PLAYING);
 				gameModel.setGameState(GameState.PAUSED);
-				inputHandler.resetKeys();
+				inputSource.resetKeys();
 				break;
 			}
 
-			// Check for collisions with enemies
-			for (Enemy enemy : gameModel.getLevel().getEnemies()) {
-				Rectangle2D.Float playerHb = gameModel.getPlayer().getHitbox();
-				Rectangle2D.Float enemyHb = enemy.getHitbox();
-				Rectangle2D.Float enemyAb = enemy.getAttackBox();
-				if (playerHb.intersects(enemyHb) || (enemy.getState() == ATTACKING && playerHb.intersects(enemyAb))) {
+			// Check for collisions with the enemies near the player
+			Level level = gameModel.getLevel();
+			Rectangle2D.Float playerHb = gameModel.getPlayer().getHitbox();
+			SpatialGrid enemyGrid = level.getEnemyGrid();
+			int nearbyEnemies = enemyGrid.query(playerHb.x, playerHb.y, playerHb.width, playerHb.height);
+			for (int i = 0; i < nearbyEnemies; i++) {
+				if (touchesEnemy(level, enemyGrid.getResult(i), playerHb)) {
 					gameModel.loseLife();
 					popupHandler.hidePopup();
 
@@ -262,7 +334,7 @@ public class GameController implements Runnable {
 					if (gameModel.getLives() > 0) {
 						gameModel.getPlayer().resetPosition();
 					}
-					inputHandler.resetKeys();
+					inputSource.resetKeys();
 					break;
 				}
 			}
@@ -279,26 +351,38 @@ public class GameController implements Runnable {
 				}
 			}
 
-			// Handle interaction with PCs (terminals)
-			for (PcTile pc : gameModel.getPcTiles()) {
+			// Handle interaction with the PCs (terminals) near the player
+			playerHb = gameModel.getPlayer().getHitbox();
+			SpatialGrid pcGrid = level.getPcGrid();
+			int nearbyPcs = pcGrid.query(playerHb.x, playerHb.y, playerHb.width, playerHb.height);
+			for (int i = 0; i < nearbyPcs; i++) {
+				PcTile pc = level.getPcs().get(pcGrid.getResult(i));
 				if (pc.getHitbox().contains(gameModel.getPlayer().getHitbox())) {
-					if (inputHandler.isEPressed()) {
+					if (inputSource.isEPressed()) {
 						AudioManager.getInstance().stopAllSounds();
 						gameModel.setGameState(GameState.TERMINAL_OPEN);
 						AudioManager.getInstance().play("keystroke");
-						inputHandler.resetKeys();
+						inputSource.resetKeys();
 					}
 				}
 			}
 
-			// Handle interaction with furniture
+			// Handle interaction with the furniture near the player, and with the furniture being searched
 			boolean playerIsInteractingWithFurniture = false;
-			for (FurnitureTile furniture : gameModel.getFurnitureTiles()) {
+			SpatialGrid furnitureGrid = level.getFurnitureGrid();
+			int nearbyFurniture = furnitureGrid.query(playerHb.x, playerHb.y, playerHb.width, playerHb.height);
+			for (int i = 0; i < level.getSearchedFurnitureCount(); i++) {
+				nearbyFurniture = furnitureGrid.include(level.getSearchedFurniture(i));
+			}
+			level.clearSearchedFurniture();
+			for (int i = 0; i < nearbyFurniture; i++) {
+				int furnitureIndex = furnitureGrid.getResult(i);
+				FurnitureTile furniture = level.getFurniture().get(furnitureIndex);
 				if (!furniture.isVanished()) {
 					if (furniture.getHitbox().intersects(gameModel.getPlayer().getHitbox())
 							&& furniture.getHitbox().x <= gameModel.getPlayer().getHitbox().getX()
 							&& furniture.getHitbox().getMaxX() >= gameModel.getPlayer().getHitbox().getMaxX()) {
-						if (inputHandler.isEPressed()) {
+						if (inputSource.isEPressed()) {
 							playerIsInteractingWithFurniture = true;
 							furniture.setSearching(true);
 							popupHandler.showSearchPopup(furniture);
@@ -341,17 +425,20 @@ public class GameController implements Runnable {
 						furniture.vanish();
 					}
 				}
+				if (furniture.isSearching()) {
+					level.addSearchedFurniture(furnitureIndex);
+				}
 			}
 
 			popupHandler.updateSearchProgress();
 			gameModel.getPlayer().applyGravity(GRAVITY);
 
-			if (!PhysicsHandler.isOnGround(gameModel.getPlayer(), gameModel.getLevel().getLevelData())) {
+			if (!PhysicsHandler.isOnGround(gameModel.getPlayer(), gameModel.getLevel())) {
 				gameModel.getPlayer().setInAir(true);
 				gameModel.getPlayer().applyGravity(GRAVITY);
 			}
 
-			PhysicsHandler.handleVerticalCollisions(gameModel.getPlayer(), gameModel.getLevel().getLevelData());
+			PhysicsHandler.handleVerticalCollisions(gameModel.getPlayer(), gameModel.getLevel());
 
 			// Handle lifts
 			for (LiftTile lift : gameModel.getLifts()) {
@@ -360,7 +447,7 @@ public class GameController implements Runnable {
 						if (lift.getHitbox().y > lift.getTargetY()) {
 							lift.moveUp();
 							gameModel.getPlayer().moveWithLift(-lift.getSpeed());
-							inputHandler.resetKeys();
+							inputSource.resetKeys();
 						} else {
 							lift.stop();
 						}
@@ -368,46 +455,52 @@ public class GameController implements Runnable {
 						if (lift.getHitbox().y < lift.getTargetY()) {
 							lift.moveDown();
 							gameModel.getPlayer().moveWithLift(lift.getSpeed());
-							inputHandler.resetKeys();
+							inputSource.resetKeys();
 						} else {
 							lift.stop();
 						}
 					}
 				} else {
-					List<Tile> stops = PhysicsHandler.getLiftStops(lift, gameModel.getLevel().getLevelData());
 					if (PhysicsHandler.isOnLift(gameModel.getPlayer(), lift)) {
-						if (inputHandler.isUpPressed()) {
-							PhysicsHandler.moveLiftToNextStop(lift, Directions.UP, gameModel.getLevel().getLevelData(),
-									stops, gameModel.getPlayer());
-							inputHandler.resetVerticalKeys();
-						} else if (inputHandler.isDownPressed()) {
-							PhysicsHandler.moveLiftToNextStop(lift, Directions.DOWN,
-									gameModel.getLevel().getLevelData(), stops, gameModel.getPlayer());
-							inputHandler.resetVerticalKeys();
+						int[] stops = gameModel.getLevel().getLiftStops(lift);
+						if (inputSource.isUpPressed()) {
+							PhysicsHandler.moveLiftToNextStop(lift, Directions.UP, stops);
+							inputSource.resetVerticalKeys();
+						} else if (inputSource.isDownPressed()) {
+							PhysicsHandler.moveLiftToNextStop(lift, Directions.DOWN, stops);
+							inputSource.resetVerticalKeys();
 						}
 					}
 				}
 			}
 
 			// Update enemies if they are not frozen
-			if (gameModel.getLevel() != null && !gameModel.getLevel().areEnemiesFrozen()) {
-				for (Enemy enemy : gameModel.getEnemies()) {
-					enemy.update(System.currentTimeMillis(), gameModel.getLevel(), gameModel.getPlayer());
+			long now = gameModel.getClock().millis();
+			if (gameModel.getLevel() != null && !gameModel.getLevel().areEnemiesFrozen(now)) {
+				if (level.getEnemyStore() != null) {
+					level.getEnemyStore().update(now, level, gameModel.getPlayer());
+					level.updateEnemyCells();
+				} else {
+					List<Enemy> enemies = gameModel.getEnemies();
+					for (int i = 0; i < enemies.size(); i++) {
+						enemies.get(i).update(now, level, gameModel.getPlayer());
+						level.updateEnemyCell(i);
+					}
 				}
 			}
 
 			// Handle player movement if not interacting with furniture
 			if (!playerIsInteractingWithFurniture) {
-				if (inputHandler.isJumpPressed() && !gameModel.getPlayer().isInAir()) {
+				if (inputSource.isJumpPressed() && !gameModel.getPlayer().isInAir()) {
 					gameModel.getPlayer().jump();
 					AudioManager.getInstance().play("jump");
 				}
 
-				boolean anyMovementKeyPressed = inputHandler.isLeftPressed() || inputHandler.isRightPressed();
+				boolean anyMovementKeyPressed = inputSource.isLeftPressed() || inputSource.isRightPressed();
 				if (anyMovementKeyPressed) {
-					if (inputHandler.isLeftPressed()) {
+					if (inputSource.isLeftPressed()) {
 						if (PhysicsHandler.canMoveHere(gameModel.getPlayer(), Directions.LEFT,
-								gameModel.getLevel().getLevelData())) {
+								gameModel.getLevel())) {
 							gameModel.getPlayer().moveLeft();
 						} else
 							gameModel.getPlayer().setIdle();
@@ -415,9 +508,9 @@ public class GameController implements Runnable {
 							gameModel.exitRoom(Directions.LEFT);
 						}
 					}
-					if (inputHandler.isRightPressed()) {
+					if (inputSource.isRightPressed()) {
 						if (PhysicsHandler.canMoveHere(gameModel.getPlayer(), Directions.RIGHT,
-								gameModel.getLevel().getLevelData())) {
+								gameModel.getLevel())) {
 							gameModel.getPlayer().moveRight();
 						} else
 							gameModel.getPlayer().setIdle();
@@ -468,6 +561,23 @@ public class GameController implements Runnable {
 
 	}
 
+	/**
+	 * Checks if an enemy touches the player with its body, or with its beam while attacking.
+	 *
+	 * @param level    The current level.
+	 * @param index    The index of the enemy in the level.
+	 * @param playerHb The hitbox of the player.
+	 * @return True if the player is hit.
+	 */
+	private boolean touchesEnemy(Level level, int index, Rectangle2D.Float playerHb) {
+		if (level.getEnemyStore() != null) {
+			return level.getEnemyStore().touches(index, playerHb);
+		}
+		Enemy enemy = level.getEnemies().get(index);
+		return playerHb.intersects(enemy.getHitbox())
+				|| (enemy.getState() == ATTACKING && playerHb.intersects(enemy.getAttackBox()));
+	}
+
     /**
      * Finalizes the game session when the player wins or loses.
      * This method stops the session timer, calculates the final score and experience points (XP),
@@ -505,7 +615,9 @@ public class GameController implements Runnable {
 
 		long playtime = session.getElapsedTime();
 		profile.endGame(won, score, playtime, xpGained);
-		ProfileManager.saveProfile(profile);
+		if (persistProfiles) {
+			ProfileManager.saveProfile(profile);
+		}
 
 		gameModel.setGameState(won ? GameState.VICTORY_SCREEN : GameState.GAMEOVER);
 	}
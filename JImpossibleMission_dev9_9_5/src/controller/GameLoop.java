@@ -0,0 +1,135 @@
+package controller;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A fixed-timestep scheduler that runs a task at a constant rate on the calling thread.
+ * Instead of busy-spinning on {@link System#nanoTime()}, the thread is parked between ticks
+ * and only spins for the last fraction of a millisecond before each deadline, which keeps the
+ * timing precise without pinning a CPU core. When the task falls behind, a bounded number of
+ * catch-up ticks are executed before the schedule is realigned, so a long stall never turns
+ * into a burst of updates.
+ */
+public class GameLoop implements Runnable {
+
+	/**
+	 * Receives the scheduler statistics once per second.
+	 */
+	public interface StatsListener {
+
+		/**
+		 * @param ticks       The number of ticks executed in the last second.
+		 * @param avgJitterMs The average lateness of a tick compared to its deadline, in milliseconds.
+		 * @param maxJitterMs The worst lateness observed in the last second, in milliseconds.
+		 * @param skipped     The number of ticks dropped because the task could not catch up.
+		 */
+		void onStats(int ticks, double avgJitterMs, double maxJitterMs, int skipped);
+	}
+
+	// Below this distance from the deadline the thread spins instead of parking,
+	// since parkNanos cannot reliably wake up with sub-millisecond precision.
+	private static final long SPIN_THRESHOLD_NS = 1_500_000;
+	private static final int MAX_CATCH_UP_TICKS = 5;
+	private static final long REPORT_INTERVAL_NS = 1_000_000_000L;
+
+	private final Runnable task;
+	private final long tickNanos;
+	private final StatsListener statsListener;
+	private volatile boolean running = true;
+
+	/**
+	 * Constructs a GameLoop.
+	 *
+	 * @param task           The task to run on every tick.
+	 * @param ticksPerSecond The fixed number of ticks per second.
+	 * @param statsListener  The listener notified every second with the loop statistics, or null.
+	 */
+	public GameLoop(Runnable task, int ticksPerSecond, StatsListener statsListener) {
+		this.task = task;
+		this.tickNanos = 1_000_000_000L / ticksPerSecond;
+		this.statsListener = statsListener;
+	}
+
+	/**
+	 * Runs the loop until {@link #stop()} is called.
+	 */
+	@Override
+	public void run() {
+		long nextTick = System.nanoTime();
+		long lastReport = nextTick;
+		int ticks = 0;
+		int skipped = 0;
+		int jitterSamples = 0;
+		long jitterSum = 0;
+		long jitterMax = 0;
+
+		while (running) {
+			waitUntil(nextTick);
+
+			long now = System.nanoTime();
+			long lateness = now - nextTick;
+			jitterSum += lateness;
+			jitterMax = Math.max(jitterMax, lateness);
+			jitterSamples++;
+
+			// Run the due tick plus a bounded number of catch-up ticks
+			int executed = 0;
+			while (now - nextTick >= 0 && executed < MAX_CATCH_UP_TICKS) {
+				task.run();
+				nextTick += tickNanos;
+				executed++;
+				now = System.nanoTime();
+			}
+			ticks += executed;
+
+			// Still behind: drop the backlog and realign the schedule with the present
+			if (now - nextTick >= 0) {
+				skipped += (int) ((now - nextTick) / tickNanos) + 1;
+				nextTick = now + tickNanos;
+			}
+
+			if (now - lastReport >= REPORT_INTERVAL_NS) {
+				if (statsListener != null) {
+					statsListener.onStats(ticks, jitterSum / (jitterSamples * 1_000_000.0), jitterMax / 1_000_000.0, skipped);
+				}
+				lastReport = now;
+				ticks = 0;
+				skipped = 0;
+				jitterSamples = 0;
+				jitterSum = 0;
+				jitterMax = 0;
+			}
+		}
+	}
+
+	/**
+	 * Blocks until the given deadline, parking the thread while the deadline is far
+	 * and spinning only for the last part of the wait.
+	 *
+	 * @param deadline The target value of {@link System#nanoTime()}.
+	 */
+	private void waitUntil(long deadline) {
+		long remaining;
+		while ((remaining = deadline - System.nanoTime()) > 0) {
+			if (remaining > SPIN_THRESHOLD_NS) {
+				LockSupport.parkNanos(remaining - SPIN_THRESHOLD_NS);
+			} else {
+				Thread.onSpinWait();
+			}
+		}
+	}
+
+	/**
+	 * Requests the loop to terminate after the current tick.
+	 */
+	public void stop() {
+		running = false;
+	}
+
+	/**
+	 * @return The fixed duration of a tick, in nanoseconds.
+	 */
+	public long getTickNanos() {
+		return tickNanos;
+	}
+}
@@ -13,7 +13,7 @@ import java.awt.event.MouseEvent;
 public class GameoverHandler {
     
     private GameModel gameModel;
-    private InputHandler inputHandler;
+    private InputSource inputSource;
     
     private Rectangle menuButtonBounds = new Rectangle((int)(245 * SCALE), (int)(225 * SCALE), (int)(150 * SCALE), (int)(25 * SCALE));
     private boolean menuHover = false;
@@ -23,11 +23,11 @@ public class GameoverHandler {
      * Constructs a GameoverHandler.
      *
      * @param gameModel    The main game model, used to change the game state.
-     * @param inputHandler The input handler for detecting mouse events.
+     * @param inputSource The input handler for detecting mouse events.
      */
-    public GameoverHandler(GameModel gameModel, InputHandler inputHandler) {
+    public GameoverHandler(GameModel gameModel, InputSource inputSource) {
         this.gameModel = gameModel;
-        this.inputHandler = inputHandler;
+        this.inputSource = inputSource;
     }
     
     /**
@@ -35,8 +35,8 @@ public class GameoverHandler {
      * Checks for mouse hovering and clicks on the "Return to Menu" button.
      */
     public void handleInput() {
-        int mx = inputHandler.getMouseX();
-        int my = inputHandler.getMouseY();
+        int mx = inputSource.getMouseX();
+        int my = inputSource.getMouseY();
         menuHover = menuButtonBounds.contains(mx, my);
         
         boolean isCurrentlyHovered = menuHover;
@@ -48,13 +48,13 @@ public class GameoverHandler {
         
         wasAnyButtonHovered = isCurrentlyHovered;
         
-        if (inputHandler.isMouseButtonPressed(MouseEvent.BUTTON1)) {
+        if (inputSource.isMouseButtonPressed(MouseEvent.BUTTON1)) {
             if (menuHover) {
             	AudioManager.getInstance().play("click");
                 gameModel.setGameState(GameState.HOMESCREEN);
                 AudioManager.getInstance().loopMenuMusic("menu_theme");
             }
-            inputHandler.resetMouse();
+            inputSource.resetMouse();
         }
     }
     
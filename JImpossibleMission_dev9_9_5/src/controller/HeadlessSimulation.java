@@ -0,0 +1,141 @@
+package controller;
+
+import static model.GameConstants.FPS_SET;
+import static model.GameConstants.LOGIC_HEIGHT;
+import static model.GameConstants.LOGIC_WIDTH;
+import java.awt.Point;
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.Random;
+import model.Elevator;
+import model.GameClock;
+import model.GameModel;
+import model.GameSession;
+import model.GameState;
+import model.Player;
+import model.UserProfile;
+
+/**
+ * Runs the game logic without any window, sound or rendering.
+ * The same {@link GameController} used by the game is driven by a {@link ScriptedInputSource}
+ * and advanced tick by tick as fast as the CPU allows, which makes it possible to check level
+ * changes and balance on machines without a display (for example with {@code -Djava.awt.headless=true}).
+ * <p>
+ * Usage: {@code HeadlessSimulation [--ticks N] [--script FILE] [--seed S]}, or
+ * {@code JImpossibleMission --headless [...]}. The run stops when the game is won or lost, or
+ * after the given number of ticks (by default, the whole session time limit).
+ * Profiles are never saved to disk.
+ */
+public class HeadlessSimulation {
+
+    private final GameModel gameModel;
+    private final GameController gameController;
+    private final ScriptedInputSource input;
+    private long ticks = 0;
+
+    /**
+     * Builds the model and the controllers for a new game of a throwaway profile.
+     *
+     * @param input The scripted input driving the simulation.
+     * @param seed  The seed from which the levels are generated.
+     */
+    public HeadlessSimulation(ScriptedInputSource input, long seed) {
+        this.input = input;
+
+        Elevator elevator = new Elevator(5, 1);
+        Player player = new Player(new Point((int)(LOGIC_WIDTH / 2.24), (int)(LOGIC_HEIGHT / 4.1)));
+        GameClock clock = new GameClock();
+        this.gameModel = new GameModel(player, elevator, new GameSession(clock), clock);
+
+        PopupHandler popupHandler = new PopupHandler();
+        TerminalHandler terminalHandler = new TerminalHandler(gameModel, input);
+        PausedHandler pausedHandler = new PausedHandler(gameModel, input);
+        GameoverHandler gameoverHandler = new GameoverHandler(gameModel, input);
+        VictoryHandler victoryHandler = new VictoryHandler(gameModel, input);
+        ProfileSelectionHandler profileSelectionHandler = new ProfileSelectionHandler(gameModel, input);
+        StatsHandler statsHandler = new StatsHandler(gameModel, input);
+        LeaderboardHandler leaderboardHandler = new LeaderboardHandler(gameModel, input);
+        MainMenuHandler mainMenuHandler = new MainMenuHandler(gameModel, input, profileSelectionHandler, leaderboardHandler);
+
+        this.gameController = new GameController(gameModel, input, terminalHandler, pausedHandler,
+                gameoverHandler, profileSelectionHandler, mainMenuHandler, statsHandler, popupHandler,
+                victoryHandler, leaderboardHandler);
+        this.gameController.setPersistProfiles(false);
+
+        gameModel.setActiveProfile(new UserProfile("headless", "avatar1"));
+        gameModel.startNewGame(seed);
+    }
+
+    /**
+     * Advances the simulation until the game ends or the tick limit is reached.
+     *
+     * @param maxTicks The maximum number of ticks to simulate.
+     */
+    public void run(long maxTicks) {
+        while (ticks < maxTicks && !isGameOver()) {
+            input.advanceTo(ticks);
+            gameController.tick();
+            ticks++;
+        }
+    }
+
+    /**
+     * @return True once the game has been won or lost.
+     */
+    public boolean isGameOver() {
+        GameState state = gameModel.getGameState();
+        return state == GameState.GAMEOVER || state == GameState.VICTORY_SCREEN;
+    }
+
+    public GameModel getGameModel() { return gameModel; }
+    public long getTicks() { return ticks; }
+
+    /**
+     * Entry point of the headless simulation.
+     *
+     * @param args {@code --ticks N} to limit the run, {@code --script FILE} to load the inputs,
+     *             {@code --seed S} to choose the levels.
+     */
+    public static void main(String[] args) {
+        System.setProperty("java.awt.headless", "true");
+        AudioManager.setSilent(true);
+
+        // One extra second so that a run without a script reaches the time limit
+        long maxTicks = (GameSession.TIME_LIMIT_MS / 1000 + 1) * FPS_SET;
+        ScriptedInputSource input = new ScriptedInputSource();
+        long seed = new Random().nextLong();
+        try {
+            for (int i = 0; i < args.length; i++) {
+                switch (args[i]) {
+                    case "--ticks":
+                        maxTicks = Long.parseLong(args[++i]);
+                        break;
+                    case "--script":
+                        input = ScriptedInputSource.fromFile(Paths.get(args[++i]));
+                        break;
+                    case "--seed":
+                        seed = Long.parseLong(args[++i]);
+                        break;
+                    default:
+                        System.err.println("Unknown argument: " + args[i]);
+                        System.exit(2);
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            System.err.println("Invalid arguments: " + e.getMessage());
+            System.exit(2);
+        }
+
+        HeadlessSimulation simulation = new HeadlessSimulation(input, seed);
+        long start = System.nanoTime();
+        simulation.run(maxTicks);
+        double elapsedSec = (System.nanoTime() - start) / 1_000_000_000.0;
+
+        GameModel model = simulation.getGameModel();
+        System.out.println(String.format("Simulated %d ticks (%.1f s of game time) in %.3f s, %.0f ticks/s",
+                simulation.getTicks(), model.getClock().millis() / 1000.0, elapsedSec,
+                simulation.getTicks() / Math.max(elapsedSec, 1e-9)));
+        System.out.println(String.format("Final state: %s, lives: %d, pieces: %d, seed: %d",
+                model.getGameState(), model.getLives(), model.getPuzzlePiecesFound(), seed));
+    }
+}
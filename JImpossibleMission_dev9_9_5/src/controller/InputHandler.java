@@ -12,8 +12,9 @@ import java.util.Set;
  * Centralized input manager for handling all keyboard and mouse events.
  * It tracks the state of pressed keys and mouse buttons, providing a clean interface
  * for other parts of the game to query user input.
+ * This is the {@link InputSource} used when the game runs in a window.
  */
-public class InputHandler extends KeyAdapter implements MouseListener, MouseMotionListener {
+public class InputHandler extends KeyAdapter implements InputSource, MouseListener, MouseMotionListener {
     // Keyboard state flags
     private boolean upPressed, downPressed, leftPressed, rightPressed;
     private boolean jumpPressed;
@@ -35,6 +36,7 @@ public class InputHandler extends KeyAdapter implements MouseListener, MouseMoti
     /**
      * Resets all keyboard and mouse input states to their default (unpressed) values.
      */
+    @Override
     public void resetAllInputs() {
         upPressed = false;
         downPressed = false;
@@ -50,6 +52,7 @@ public class InputHandler extends KeyAdapter implements MouseListener, MouseMoti
      * Resets only the keyboard input states.
      * For simplicity, this currently resets all inputs.
      */
+    @Override
     public void resetKeys() {
         resetAllInputs();
     }
@@ -57,6 +60,7 @@ public class InputHandler extends KeyAdapter implements MouseListener, MouseMoti
     /**
      * Resets the mouse button state after a click has been processed.
      */
+    @Override
     public void resetMouse() {
         mouseButtonPressed = false;
         mouseButtonCode = -1; // -1 indicates no button pressed
@@ -65,35 +69,38 @@ public class InputHandler extends KeyAdapter implements MouseListener, MouseMoti
     /**
      * Resets only the vertical movement keys (up/down).
      */
+    @Override
     public void resetVerticalKeys() {
         upPressed = false;
         downPressed = false;
     }
 
     // --- KEYBOARD GETTERS ---
-    public boolean isUpPressed() { return upPressed; }
-    public boolean isDownPressed() { return downPressed; }
-    public boolean isLeftPressed() { return leftPressed; }
-    public boolean isRightPressed() { return rightPressed; }
-    public boolean isJumpPressed() { return jumpPressed; }
-    public boolean isEPressed() { return ePressed; }
+    @Override public boolean isUpPressed() { return upPressed; }
+    @Override public boolean isDownPressed() { return downPressed; }
+    @Override public boolean isLeftPressed() { return leftPressed; }
+    @Override public boolean isRightPressed() { return rightPressed; }
+    @Override public boolean isJumpPressed() { return jumpPressed; }
+    @Override public boolean isEPressed() { return ePressed; }
     
     /**
      * Checks if a specific key is currently being held down.
      * @param keyCode The key code to check (e.g., {@link KeyEvent#VK_ESCAPE}).
      * @return True if the key is pressed, false otherwise.
      */
+    @Override
     public boolean isKeyPressed(int keyCode) { return pressedKeys.contains(keyCode); }
 
     // --- MOUSE GETTERS ---
-    public int getMouseX() { return mouseX; }
-    public int getMouseY() { return mouseY; }
+    @Override public int getMouseX() { return mouseX; }
+    @Override public int getMouseY() { return mouseY; }
 
     /**
      * Checks if a specific mouse button is currently pressed.
      * @param buttonCode The mouse button code (e.g., {@link MouseEvent#BUTTON1}).
      * @return True if the specified button is pressed, false otherwise.
      */
+    @Override
     public boolean isMouseButtonPressed(int buttonCode) {
         return mouseButtonPressed && this.mouseButtonCode == buttonCode;
     }
@@ -165,6 +172,7 @@ public class InputHandler extends KeyAdapter implements MouseListener, MouseMoti
      * @param keyCode The key code to check.
      * @return True if the key was pressed, false otherwise.
      */
+    @Override
     public boolean consumeKeyPress(int keyCode) {
         if (pressedKeys.contains(keyCode)) {
             pressedKeys.remove(keyCode);
@@ -0,0 +1,67 @@
+package controller;
+
+/**
+ * The input state queried by the controllers on every tick.
+ * Decoupling the game logic from the AWT listeners allows the same controllers to be driven
+ * by the keyboard and mouse ({@link InputHandler}) or by a script ({@link ScriptedInputSource})
+ * when the game runs without a window.
+ * Key codes follow the {@code java.awt.event.KeyEvent} constants, mouse buttons the
+ * {@code java.awt.event.MouseEvent} constants.
+ */
+public interface InputSource {
+
+    // --- KEYBOARD ---
+    boolean isUpPressed();
+    boolean isDownPressed();
+    boolean isLeftPressed();
+    boolean isRightPressed();
+    boolean isJumpPressed();
+    boolean isEPressed();
+
+    /**
+     * Checks if a specific key is currently being held down.
+     * @param keyCode The key code to check.
+     * @return True if the key is pressed, false otherwise.
+     */
+    boolean isKeyPressed(int keyCode);
+
+    /**
+     * Checks if a key was pressed and then "consumes" it, so that it is reported only once.
+     * @param keyCode The key code to check.
+     * @return True if the key was pressed, false otherwise.
+     */
+    boolean consumeKeyPress(int keyCode);
+
+    // --- MOUSE ---
+    int getMouseX();
+    int getMouseY();
+
+    /**
+     * Checks if a specific mouse button is currently pressed.
+     * @param buttonCode The mouse button code.
+     * @return True if the specified button is pressed, false otherwise.
+     */
+    boolean isMouseButtonPressed(int buttonCode);
+
+    // --- RESETS ---
+
+    /**
+     * Resets all keyboard and mouse input states to their default (unpressed) values.
+     */
+    void resetAllInputs();
+
+    /**
+     * Resets the keyboard input states.
+     */
+    void resetKeys();
+
+    /**
+     * Resets the mouse button state after a click has been processed.
+     */
+    void resetMouse();
+
+    /**
+     * Resets only the vertical movement keys (up/down).
+     */
+    void resetVerticalKeys();
+}
@@ -3,6 +3,11 @@ package controller;
 import java.awt.Point;
 import java.awt.event.WindowEvent;
 import java.awt.event.WindowFocusListener;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 import javax.swing.*;
 import view.*;
 import model.*;
@@ -13,86 +18,168 @@ import static model.GameConstants.*;
  * This class is responsible for initializing all core components of the game,
  * including the model, view, and controller, and setting up the main application window.
  * It follows the Model-View-Controller (MVC) architectural pattern.
+ * <p>
+ * The window opens at once on a {@link LoadingPanel}, while the images and sounds are loaded in
+ * parallel; the game is then assembled and replaces it. The time until the window is shown and
+ * until the game accepts input are printed at startup.
  */
 public class JImpossibleMission {
     
+    // Decoding images and opening clips is mostly waiting on I/O and on the audio system,
+    // so a few threads help even on a single core
+    private static final int LOADER_THREADS = Math.max(2, Math.min(4, Runtime.getRuntime().availableProcessors()));
+    
     /**
      * The main method that starts the application.
      * It ensures that the GUI is created on the Event Dispatch Thread (EDT) for thread safety.
+     * With {@code --headless} as first argument, the game logic runs without any window instead,
+     * see {@link HeadlessSimulation}.
      *
-     * @param args Command-line arguments (not used).
+     * @param args Command-line arguments: {@code --headless} followed by the simulation arguments, or nothing.
      */
     public static void main(String[] args) {
+    	if (args.length > 0 && args[0].equals("--headless")) {
+    		HeadlessSimulation.main(java.util.Arrays.copyOfRange(args, 1, args.length));
+    		return;
+    	}
     	
-        SwingUtilities.invokeLater(() -> {
-        	
-        	// 1. MODEL CREATION
-            // Initialize singletons for asset and audio management first.
-            AssetLoader.getInstance();
-            AudioManager.getInstance();
-            
-            Elevator elevator = new Elevator(5, 1);
-            Player player = new Player(new Point((int)(LOGIC_WIDTH / 2.24), (int)(LOGIC_HEIGHT / 4.1)));
-            GameSession session = new GameSession();
-            GameModel gameModel = new GameModel(player, elevator, session);
+        long startTime = System.nanoTime();
+        SwingUtilities.invokeLater(() -> showLoadingScreen(startTime));
+    }
+    
+    /**
+     * Opens the window on a {@link LoadingPanel} and starts loading the assets and sounds in the
+     * background. Runs on the Event Dispatch Thread.
+     *
+     * @param startTime The {@link System#nanoTime()} at which the application started.
+     */
+    private static void showLoadingScreen(long startTime) {
+        LoadingPanel loadingPanel = new LoadingPanel(AssetLoader.getAssetCount() + AudioManager.getSoundCount());
+        JFrame frame = new JFrame("JImpossibleMission");
+        frame.setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
+        frame.setResizable(false);
+        frame.add(loadingPanel);
+        frame.pack();
+        frame.setLocationRelativeTo(null);
+        frame.setVisible(true);
+        long shownTime = System.nanoTime();
+        
+        AtomicInteger threadCount = new AtomicInteger();
+        ExecutorService loaders = Executors.newFixedThreadPool(LOADER_THREADS, task -> {
+            Thread thread = new Thread(task, "AssetLoader-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        CompletableFuture.allOf(AssetLoader.preload(loaders, loadingPanel::advance),
+                AudioManager.preload(loaders, loadingPanel::advance))
+            .whenComplete((done, error) -> {
+                loaders.shutdown();
+                SwingUtilities.invokeLater(() -> {
+                    if (error != null) {
+                        showLoadingError(frame, error);
+                        return;
+                    }
+                    startGame(frame, loadingPanel);
+                    System.out.println(String.format("Startup: window shown after %d ms, interactive after %d ms (%d threads)",
+                            (shownTime - startTime) / 1_000_000, (System.nanoTime() - startTime) / 1_000_000, LOADER_THREADS));
+                });
+            });
+    }
+    
+    /**
+     * Reports that the assets or sounds could not be loaded, and exits: the game cannot start
+     * without them. Runs on the Event Dispatch Thread.
+     *
+     * @param frame The window of the game, showing the loading screen.
+     * @param error The failure of the loading, usually wrapped in a {@link CompletionException}.
+     */
+    private static void showLoadingError(JFrame frame, Throwable error) {
+        Throwable cause = (error instanceof CompletionException && error.getCause() != null) ? error.getCause() : error;
+        cause.printStackTrace();
+        JOptionPane.showMessageDialog(frame, "The game resources could not be loaded:\n" + cause,
+                "Error", JOptionPane.ERROR_MESSAGE);
+        frame.dispose();
+        System.exit(1);
+    }
+    
+    /**
+     * Creates the model, the controllers and the views, and puts the game in the window in place
+     * of the loading screen. Runs on the Event Dispatch Thread, once the assets are loaded.
+     *
+     * @param frame        The window of the game.
+     * @param loadingPanel The loading screen to replace.
+     */
+    private static void startGame(JFrame frame, LoadingPanel loadingPanel) {
+        // 1. MODEL CREATION
+        // The asset and audio singletons are already loaded.
+        AssetLoader.getInstance();
+        AudioManager.getInstance();
+        
+        Elevator elevator = new Elevator(5, 1);
+        Player player = new Player(new Point((int)(LOGIC_WIDTH / 2.24), (int)(LOGIC_HEIGHT / 4.1)));
+        GameClock clock = new GameClock();
+        GameSession session = new GameSession(clock);
+        GameModel gameModel = new GameModel(player, elevator, session, clock);
+        SnapshotBuffer snapshotBuffer = new SnapshotBuffer();
 
-            
-            // 2. HANDLERS (PARTIAL CONTROLLERS) CREATION
-            InputHandler inputHandler = new InputHandler();
-            PopupHandler popupHandler = new PopupHandler();
-            TerminalHandler terminalHandler = new TerminalHandler(gameModel, inputHandler);
-            PausedHandler pausedHandler = new PausedHandler(gameModel, inputHandler);
-            GameoverHandler gameoverHandler = new GameoverHandler(gameModel, inputHandler);
-            VictoryHandler victoryHandler = new VictoryHandler(gameModel, inputHandler);
-            ProfileSelectionHandler profileSelectionHandler = new ProfileSelectionHandler(gameModel, inputHandler);
-            StatsHandler statsHandler = new StatsHandler(gameModel, inputHandler);
-            LeaderboardHandler leaderboardHandler = new LeaderboardHandler(gameModel, inputHandler);
-            MainMenuHandler mainMenuHandler = new MainMenuHandler(gameModel, inputHandler, profileSelectionHandler, leaderboardHandler);
+        
+        // 2. HANDLERS (PARTIAL CONTROLLERS) CREATION
+        InputHandler inputHandler = new InputHandler();
+        PopupHandler popupHandler = new PopupHandler();
+        TerminalHandler terminalHandler = new TerminalHandler(gameModel, inputHandler);
+        PausedHandler pausedHandler = new PausedHandler(gameModel, inputHandler);
+        GameoverHandler gameoverHandler = new GameoverHandler(gameModel, inputHandler);
+        VictoryHandler victoryHandler = new VictoryHandler(gameModel, inputHandler);
+        ProfileSelectionHandler profileSelectionHandler = new ProfileSelectionHandler(gameModel, inputHandler);
+        StatsHandler statsHandler = new StatsHandler(gameModel, inputHandler);
+        LeaderboardHandler leaderboardHandler = new LeaderboardHandler(gameModel, inputHandler);
+        MainMenuHandler mainMenuHandler = new MainMenuHandler(gameModel, inputHandler, profileSelectionHandler, leaderboardHandler);
 
-            
-            // 3. VIEWS CREATION
-            PlayingView playingView = new PlayingView(gameModel);
-            ElevatorView elevatorView = new ElevatorView(gameModel);
-            TerminalView terminalView = new TerminalView(terminalHandler);
-            PausedView pausedView = new PausedView(pausedHandler);
-            LeaderboardView leaderboardView = new LeaderboardView(gameModel, leaderboardHandler);
-            GameoverView gameoverView = new GameoverView(gameModel, gameoverHandler); 
-            VictoryView victoryView = new VictoryView(gameModel, victoryHandler);
-            ProfileSelectionView profileSelectionView = new ProfileSelectionView(gameModel, profileSelectionHandler, inputHandler);
-            MainMenuView mainMenuView = new MainMenuView(gameModel, mainMenuHandler);
-            StatsView statsView = new StatsView(gameModel, statsHandler);
-            PopupView popupView = new PopupView(popupHandler);
-            HUDView hudView = new HUDView(gameModel);
+        
+        // 3. VIEWS CREATION
+        PlayingView playingView = new PlayingView();
+        ElevatorView elevatorView = new ElevatorView();
+        TerminalView terminalView = new TerminalView(terminalHandler);
+        PausedView pausedView = new PausedView(pausedHandler);
+        LeaderboardView leaderboardView = new LeaderboardView(gameModel, leaderboardHandler);
+        GameoverView gameoverView = new GameoverView(gameModel, gameoverHandler); 
+        VictoryView victoryView = new VictoryView(gameModel, victoryHandler);
+        ProfileSelectionView profileSelectionView = new ProfileSelectionView(gameModel, profileSelectionHandler, inputHandler);
+        MainMenuView mainMenuView = new MainMenuView(gameModel, mainMenuHandler);
+        StatsView statsView = new StatsView(gameModel, statsHandler);
+        PopupView popupView = new PopupView(popupHandler);
+        HUDView hudView = new HUDView();
 
-            
-            // 4. MAIN VIEW ASSEMBLY
-            // The MainGamePanel acts as the primary container for all other views.
-            MainGamePanel mainGamePanel = new MainGamePanel(
-                gameModel, playingView, elevatorView, terminalView, pausedView,
-                gameoverView, profileSelectionView, mainMenuView, statsView, popupView, 
-                victoryView, leaderboardView, hudView
-            );
+        
+        // 4. MAIN VIEW ASSEMBLY
+        // The SceneRenderer draws the frames with all other views, on the Swing MainGamePanel
+        // or, with -Djim.renderer=active, on the GameCanvas.
+        SceneRenderer sceneRenderer = new SceneRenderer(
+            playingView, elevatorView, terminalView, pausedView,
+            gameoverView, profileSelectionView, mainMenuView, statsView, popupView, 
+            victoryView, leaderboardView, hudView
+        );
+        GameSurface mainGamePanel = ACTIVE_RENDERING
+            ? new GameCanvas(snapshotBuffer, sceneRenderer)
+            : new MainGamePanel(snapshotBuffer, sceneRenderer);
 
-            
-            // 5. MAIN CONTROLLER CREATION
-            // The GameController orchestrates the entire game flow.
-            GameController gameController = new GameController(
-                gameModel, mainGamePanel, inputHandler, terminalHandler, pausedHandler,
-                gameoverHandler, profileSelectionHandler, mainMenuHandler, statsHandler, popupHandler, 
-                victoryHandler, leaderboardHandler
-            );
+        
+        // 5. MAIN CONTROLLER CREATION
+        // The GameController orchestrates the entire game flow.
+        GameController gameController = new GameController(
+            gameModel, mainGamePanel, inputHandler, terminalHandler, pausedHandler,
+            gameoverHandler, profileSelectionHandler, mainMenuHandler, statsHandler, popupHandler, 
+            victoryHandler, leaderboardHandler, snapshotBuffer
+        );
 
-            
-            // 6. WINDOW (JFRAME) CONFIGURATION
-            JFrame frame = new JFrame("JImpossibleMission");
-            frame.setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
-            frame.setResizable(false);
-            frame.add(mainGamePanel);
-            frame.pack();
-            frame.setLocationRelativeTo(null);
-            
-            // Add a focus listener to handle when the game window loses focus.
-            frame.addWindowFocusListener(new WindowFocusListener() {
+        
+        // 6. WINDOW (JFRAME) CONFIGURATION
+        frame.remove(loadingPanel);
+        frame.add(mainGamePanel.getDrawingComponent());
+        frame.pack();
+        
+        // Add a focus listener to handle when the game window loses focus.
+        frame.addWindowFocusListener(new WindowFocusListener() {
 				@Override
 				public void windowGainedFocus(WindowEvent e) {
 				}
@@ -101,10 +188,9 @@ public class JImpossibleMission {
 				public void windowLostFocus(WindowEvent e) {
 					gameController.gameLostFocus();
 				}
-            });
-            
-            frame.setVisible(true);
-            mainGamePanel.requestFocusInWindow(); // Ensure the panel has focus to receive input
         });
+        
+        frame.revalidate();
+        mainGamePanel.getDrawingComponent().requestFocusInWindow(); // Ensure the panel has focus to receive input
     }
 }
\ No newline at end of file
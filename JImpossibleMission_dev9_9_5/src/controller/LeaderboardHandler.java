@@ -18,7 +18,7 @@ import java.util.stream.Collectors;
  */
 public class LeaderboardHandler {
 	private GameModel gameModel;
-	private InputHandler inputHandler;
+	private InputSource inputSource;
 	private Rectangle backButtonBounds = new Rectangle((int) (245 * SCALE), (int) (300 * SCALE), (int) (150 * SCALE),
 			(int) (25 * SCALE));
 	private boolean backHover = false;
@@ -33,11 +33,11 @@ public class LeaderboardHandler {
      * Constructs a LeaderboardHandler.
      *
      * @param gameModel    The main game model, used to change the game state.
-     * @param inputHandler The input handler for detecting mouse events.
+     * @param inputSource The input handler for detecting mouse events.
      */
-	public LeaderboardHandler(GameModel gameModel, InputHandler inputHandler) {
+	public LeaderboardHandler(GameModel gameModel, InputSource inputSource) {
 		this.gameModel = gameModel;
-		this.inputHandler = inputHandler;
+		this.inputSource = inputSource;
 		topByScore = Collections.emptyList();
 		topByPlaytime = Collections.emptyList();
 		topByAvgScore = Collections.emptyList();
@@ -73,7 +73,7 @@ public class LeaderboardHandler {
 	 * Handles user input on the leaderboard screen, checking for clicks on the back button.
 	 */
 	public void handleInput() {
-		backHover = backButtonBounds.contains(inputHandler.getMouseX(), inputHandler.getMouseY());
+		backHover = backButtonBounds.contains(inputSource.getMouseX(), inputSource.getMouseY());
 		boolean isCurrentlyHovered = backHover;
 
         if (isCurrentlyHovered && !wasAnyButtonHovered) {
@@ -81,11 +81,11 @@ public class LeaderboardHandler {
 		}
 		wasAnyButtonHovered = isCurrentlyHovered;
 
-		if (inputHandler.isMouseButtonPressed(MouseEvent.BUTTON1) && backHover) {
+		if (inputSource.isMouseButtonPressed(MouseEvent.BUTTON1) && backHover) {
 			AudioManager.getInstance().play("click");
 			gameModel.setGameState(GameState.HOMESCREEN);
 		}
-		inputHandler.resetMouse();
+		inputSource.resetMouse();
 	}
 
 	// --- GETTERS for the View ---
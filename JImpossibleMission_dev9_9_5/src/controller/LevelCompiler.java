@@ -0,0 +1,108 @@
+package controller;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+import model.LevelTemplate;
+
+/**
+ * The build step of the levels: compiles every {@code levelN.txt} of a directory into the binary
+ * format of {@link LevelTemplate}, next to it as {@code levelN.bin}, which {@link LevelLoader}
+ * then reads instead of parsing the text. It must be run again whenever a level is edited: the
+ * loader does not look at the text when a compiled file is present, so a stale compiled level would
+ * be played as it is. The compiled file records the CRC-32 of its text for that reason, and
+ * {@code LevelCompiler --check res/levels} must be run as a build step before packaging the resources.
+ * <p>
+ * Usage: {@code LevelCompiler [--check] [DIR]}, where {@code DIR} defaults to {@code res/levels}.
+ * With {@code --check}, nothing is written: the command fails if a compiled level is missing, or
+ * differs from the compilation of its current text, its CRC-32 included.
+ */
+public class LevelCompiler {
+
+    /**
+     * Compiles or checks the levels of a directory.
+     *
+     * @param dir   The directory of the level text files.
+     * @param check True to only check that the compiled files are up to date.
+     * @return The number of levels that failed to compile, or that are missing or stale when checking.
+     * @throws IOException If the directory cannot be listed or a file cannot be read or written.
+     */
+    public static int compileAll(Path dir, boolean check) throws IOException {
+        List<Path> sources;
+        try (Stream<Path> files = Files.list(dir)) {
+            sources = files.filter(file -> file.getFileName().toString().endsWith(".txt")).sorted()
+                    .collect(Collectors.toList());
+        }
+
+        int failures = 0;
+        for (Path source : sources) {
+            byte[] text = Files.readAllBytes(source);
+            int checksum = checksum(text);
+            LevelTemplate template;
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(new ByteArrayInputStream(text)))) {
+                template = LevelLoader.parseTemplate(reader, source.toString());
+            }
+            Path target = Paths.get(LevelLoader.getCompiledPath(source.toString()));
+            if (template == null) {
+                System.err.println("Cannot compile " + source);
+                failures++;
+            } else if (check) {
+                if (!Files.exists(target) || !Arrays.equals(template.toBinary(checksum), Files.readAllBytes(target))) {
+                    System.err.println("Missing or stale: " + target);
+                    failures++;
+                }
+            } else {
+                byte[] data = template.toBinary(checksum);
+                Files.write(target, data);
+                System.out.println(String.format("%s -> %s (%d bytes)", source, target.getFileName(), data.length));
+            }
+        }
+        return failures;
+    }
+
+    /**
+     * @param source The content of a level's text file.
+     * @return The CRC-32 of the text, recorded in the compiled level.
+     */
+    static int checksum(byte[] source) {
+        CRC32 crc = new CRC32();
+        crc.update(source);
+        return (int) crc.getValue();
+    }
+
+    /**
+     * Entry point of the level compiler.
+     *
+     * @param args {@code --check} to only verify the compiled files, and the directory of the levels.
+     */
+    public static void main(String[] args) {
+        boolean check = false;
+        Path dir = Paths.get("res", "levels");
+        for (String arg : args) {
+            if (arg.equals("--check")) {
+                check = true;
+            } else {
+                dir = Paths.get(arg);
+            }
+        }
+
+        try {
+            int failures = compileAll(dir, check);
+            if (failures > 0) {
+                System.exit(1);
+            }
+        } catch (IOException e) {
+            System.err.println("Level compilation failed: " + e.getMessage());
+            System.exit(2);
+        }
+    }
+}
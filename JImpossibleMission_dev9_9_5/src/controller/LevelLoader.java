@@ -1,18 +1,20 @@
 package controller;
 
-import model.Enemy;
-import model.EnemyFactory;
 import model.EnemyType;
 import model.Level;
-import model.Tile;
-import model.TileFactory;
+import model.LevelTemplate;
+import model.TileTypes;
 import java.io.BufferedReader;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.awt.Point;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
 import static model.GameConstants.*;
 import static model.TileTypes.*;
 
@@ -20,9 +22,20 @@ import static model.TileTypes.*;
  * A utility class for loading game levels from text files.
  * It parses a character-based representation of a level to create a {@link Level} object,
  * populating it with tiles, enemies, and the player's spawn point.
+ * <p>
+ * Each file is parsed only once per JVM into an immutable {@link LevelTemplate}, which is cached
+ * and shared by every session and every thread; loading a level then only instantiates the template.
+ * <p>
+ * The text files are the source of the levels. When a compiled version of a level is found next
+ * to it ({@code levelN.bin}, produced by {@link LevelCompiler}), it is read instead of the text,
+ * in a single bulk read and without parsing; the text file is only read if the compiled file is
+ * missing, of another format version or corrupted. The loader does not check that the compiled
+ * file is up to date with the text: {@code LevelCompiler --check} does, at build time.
  */
 public class LevelLoader {
 
+    private static final Map<String, LevelTemplate> TEMPLATES = new ConcurrentHashMap<>();
+
     /**
      * Loads a level from a specified resource file path.
      * The file should contain a grid of characters, where each character represents a
@@ -32,46 +45,123 @@ public class LevelLoader {
      * @return A new {@link Level} object, or null if the file cannot be read.
      */
     public static Level loadLevel(String levelFilePath) {
-        List<String> rawLevelLines = new ArrayList<>();
-        Point playerSpawn = null;
-        List<Enemy> enemies = new ArrayList<>();
-        int maxCols = 0;
+        return loadLevel(levelFilePath, new Random());
+    }
+
+    /**
+     * Loads a level from a specified resource file path, drawing the furniture types and the
+     * puzzle piece location from the given generator. Two loads with generators seeded
+     * identically produce identical levels.
+     *
+     * @param levelFilePath The resource path to the level's text file.
+     * @param random        The random generator to use.
+     * @return A new {@link Level} object, or null if the file cannot be read.
+     */
+    public static Level loadLevel(String levelFilePath, Random random) {
+        LevelTemplate template = getTemplate(levelFilePath);
+        return (template != null) ? template.instantiate(random) : null;
+    }
+
+    /**
+     * Returns the template of a level file, parsing the file the first time it is requested.
+     * Files that cannot be read are not cached, so they are tried again on the next request.
+     *
+     * @param levelFilePath The resource path to the level's text file.
+     * @return The shared {@link LevelTemplate}, or null if the file cannot be read.
+     */
+    public static LevelTemplate getTemplate(String levelFilePath) {
+        return TEMPLATES.computeIfAbsent(levelFilePath, LevelLoader::loadTemplate);
+    }
 
-        try (InputStream is = LevelLoader.class.getResourceAsStream(levelFilePath);
-             BufferedReader reader = new BufferedReader(new InputStreamReader(is))) {
+    /**
+     * Loads the template of a level, from its compiled file if there is a valid one, otherwise from its text file.
+     *
+     * @param levelFilePath The resource path to the level's text file.
+     * @return A new {@link LevelTemplate}, or null if the level cannot be read.
+     */
+    private static LevelTemplate loadTemplate(String levelFilePath) {
+        LevelTemplate compiled = readCompiledTemplate(getCompiledPath(levelFilePath));
+        if (compiled != null) {
+            return compiled;
+        }
 
+        InputStream is = LevelLoader.class.getResourceAsStream(levelFilePath);
+        if (is == null) {
+            System.err.println("Error: Level file not found at " + levelFilePath);
+            return null;
+        }
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(is))) {
+            return parseTemplate(reader, levelFilePath);
+        } catch (IOException e) {
+            System.err.println("Failed to read level file: " + levelFilePath);
+            e.printStackTrace();
+            return null;
+        }
+    }
+
+    /**
+     * @param levelFilePath The path of a level's text file.
+     * @return The path of its compiled file.
+     */
+    static String getCompiledPath(String levelFilePath) {
+        int extension = levelFilePath.lastIndexOf('.');
+        return (extension > levelFilePath.lastIndexOf('/') ? levelFilePath.substring(0, extension) : levelFilePath) + ".bin";
+    }
+
+    /**
+     * Reads a compiled level resource in a single bulk read.
+     *
+     * @param compiledPath The resource path of the compiled level.
+     * @return The decoded template, or null if there is no valid compiled level at this path.
+     */
+    private static LevelTemplate readCompiledTemplate(String compiledPath) {
+        try (InputStream is = LevelLoader.class.getResourceAsStream(compiledPath)) {
             if (is == null) {
-                System.err.println("Error: Level file not found at " + levelFilePath);
                 return null;
             }
+            return LevelTemplate.fromBinary(ByteBuffer.wrap(is.readAllBytes()));
+        } catch (IOException | IllegalArgumentException e) {
+            System.err.println("Ignoring compiled level " + compiledPath + ": " + e.getMessage());
+            return null;
+        }
+    }
 
-            String line;
-            int currentRow = 0;
-            while ((line = reader.readLine()) != null) {
-                if (line.isEmpty()) {
-                    continue; // Ignore empty lines
-                }
+    /**
+     * Parses the text of a level.
+     *
+     * @param reader        The reader of the level's text.
+     * @param levelFilePath The path of the level, for the error messages.
+     * @return A new {@link LevelTemplate}, or null if the level is empty.
+     * @throws IOException If the text cannot be read.
+     */
+    static LevelTemplate parseTemplate(BufferedReader reader, String levelFilePath) throws IOException {
+        List<String> rawLevelLines = new ArrayList<>();
+        Point playerSpawn = null;
+        List<EnemyType> enemyTypes = new ArrayList<>();
+        List<Point> enemySpawns = new ArrayList<>();
+        int maxCols = 0;
 
-                // Find the player spawn point ('P')
-                int playerCharIndex = line.indexOf('P');
-                if (playerCharIndex != -1) {
-                	int initialX = (playerCharIndex * TILES_DEFAULT_SIZE);
-                	int centerOffsetX = (TILES_DEFAULT_SIZE - 12*2) / 2;
-                	int hbOffsetX = 10 * 2;
-                	playerSpawn = new Point(initialX - hbOffsetX + centerOffsetX, currentRow * TILES_DEFAULT_SIZE - 32);
-                    // Replace 'P' with a space to process it as an empty tile
-                    line = line.replace('P', ' ');
-                }
+        String line;
+        int currentRow = 0;
+        while ((line = reader.readLine()) != null) {
+            if (line.isEmpty()) {
+                continue; // Ignore empty lines
+            }
 
-                rawLevelLines.add(line);
-                maxCols = Math.max(maxCols, line.length());
-                currentRow++;
+            // Find the player spawn point ('P')
+            int playerCharIndex = line.indexOf('P');
+            if (playerCharIndex != -1) {
+            	int initialX = (playerCharIndex * TILES_DEFAULT_SIZE);
+            	int centerOffsetX = (TILES_DEFAULT_SIZE - 12*2) / 2;
+            	int hbOffsetX = 10 * 2;
+            	playerSpawn = new Point(initialX - hbOffsetX + centerOffsetX, currentRow * TILES_DEFAULT_SIZE - 32);
+                // Replace 'P' with a space to process it as an empty tile
+                line = line.replace('P', ' ');
             }
 
-        } catch (IOException e) {
-            System.err.println("Failed to read level file: " + levelFilePath);
-            e.printStackTrace();
-            return null;
+            rawLevelLines.add(line);
+            maxCols = Math.max(maxCols, line.length());
+            currentRow++;
         }
 
         if (rawLevelLines.isEmpty()) {
@@ -81,54 +171,56 @@ public class LevelLoader {
 
         int numRows = rawLevelLines.size();
         int numCols = maxCols;
-        Tile[][] levelData = new Tile[numRows][numCols];
+        TileTypes[][] levelData = new TileTypes[numRows][numCols];
 
-        // Convert the character grid into a 2D array of Tile objects
+        // Convert the character grid into a 2D array of tile types
         for (int r = 0; r < numRows; r++) {
-            String line = rawLevelLines.get(r);
+            line = rawLevelLines.get(r);
             for (int c = 0; c < numCols; c++) {
                 if (c < line.length()) {
                     char tileChar = line.charAt(c);
                     switch (tileChar) {
                         case '#':
-                            levelData[r][c] = TileFactory.getTile(WALL, c * TILES_DEFAULT_SIZE, r * TILES_DEFAULT_SIZE);
+                            levelData[r][c] = WALL;
                             break;
                         case '=':
-                            levelData[r][c] = TileFactory.getTile(PLATFORM, c * TILES_DEFAULT_SIZE, r * TILES_DEFAULT_SIZE);
+                            levelData[r][c] = PLATFORM;
                             break;
                         case 'L':
-                        	levelData[r][c] =TileFactory.getTile(LIFT, c * TILES_DEFAULT_SIZE, r * TILES_DEFAULT_SIZE);
+                        	levelData[r][c] =LIFT;
                         	break;
                         case 'E': // 'E' is used as a redundant character for empty space in level doors
                         case ' ':
-                            levelData[r][c] = TileFactory.getTile(EMPTY, c * TILES_DEFAULT_SIZE, r * TILES_DEFAULT_SIZE);
+                            levelData[r][c] = EMPTY;
                             break;
                         case 'T':
-                        	levelData[r][c] = TileFactory.getTile(PC, c * TILES_DEFAULT_SIZE, r * TILES_DEFAULT_SIZE);
+                        	levelData[r][c] = PC;
                         	break;
                         case 'O':
-                        	levelData[r][c] = TileFactory.getTile(FURNITURE, c * TILES_DEFAULT_SIZE, r * TILES_DEFAULT_SIZE);
+                        	levelData[r][c] = FURNITURE;
                         	break;
                         case 'R': // Standing Robot
-                        	levelData[r][c] = TileFactory.getTile(EMPTY, c * TILES_DEFAULT_SIZE, r * TILES_DEFAULT_SIZE);
+                        	levelData[r][c] = EMPTY;
                         	int x = (c * TILES_DEFAULT_SIZE);
                         	int centerOffset = (TILES_DEFAULT_SIZE - 14*2) / 2;
-                        	enemies.add(EnemyFactory.createEnemy(EnemyType.STANDING_ROBOT, x + centerOffset, r * TILES_DEFAULT_SIZE));
+                        	enemyTypes.add(EnemyType.STANDING_ROBOT);
+                        	enemySpawns.add(new Point(x + centerOffset, r * TILES_DEFAULT_SIZE));
                         	break;
                         case 'M': // Moving Robot
-                        	levelData[r][c] = TileFactory.getTile(EMPTY, c * TILES_DEFAULT_SIZE, r * TILES_DEFAULT_SIZE);
+                        	levelData[r][c] = EMPTY;
                         	int xM = (c * TILES_DEFAULT_SIZE);
                         	int centerOffsetM = (TILES_DEFAULT_SIZE - 14*2) / 2;
-                        	enemies.add(EnemyFactory.createEnemy(EnemyType.MOVING_ROBOT, xM + centerOffsetM, r * TILES_DEFAULT_SIZE));
+                        	enemyTypes.add(EnemyType.MOVING_ROBOT);
+                        	enemySpawns.add(new Point(xM + centerOffsetM, r * TILES_DEFAULT_SIZE));
                         	break;
                         default:
                             System.err.println("Unknown character in level file: '" + tileChar + "' at row " + r + ", col " + c + ". Treating as EMPTY.");
-                            levelData[r][c] = TileFactory.getTile(EMPTY, c * TILES_DEFAULT_SIZE, r * TILES_DEFAULT_SIZE);
+                            levelData[r][c] = EMPTY;
                             break;
                     }
                 } else {
                     // If the line is shorter than maxCols, fill the rest with empty tiles
-                    levelData[r][c] = TileFactory.getTile(EMPTY, c * TILES_DEFAULT_SIZE, r * TILES_DEFAULT_SIZE);
+                    levelData[r][c] = EMPTY;
                 }
             }
         }
@@ -138,10 +230,10 @@ public class LevelLoader {
             playerSpawn = new Point(0, 0);
         }
         
-        if (enemies.isEmpty()) {
+        if (enemyTypes.isEmpty()) {
         	System.err.println("Warning: No enemies found in level file.");
         }
 
-        return new Level(levelData, playerSpawn, enemies);
+        return new LevelTemplate(levelData, playerSpawn, enemyTypes, enemySpawns);
     }
 }
\ No newline at end of file
@@ -15,7 +15,7 @@ import model.GameState;
  */
 public class MainMenuHandler {
 	private GameModel gameModel;
-	private InputHandler inputHandler;
+	private InputSource inputSource;
 	private ProfileSelectionHandler profileSelectionHandler;
 	private LeaderboardHandler leaderboardHandler;
 
@@ -33,13 +33,13 @@ public class MainMenuHandler {
      * Constructs a MainMenuHandler.
      *
      * @param gameModel The main game model.
-     * @param inputHandler The handler for detecting user input.
+     * @param inputSource The handler for detecting user input.
      * @param psh The profile selection handler, used for changing profiles.
      * @param lh The leaderboard handler, used to refresh data before showing the leaderboard.
      */
-	public MainMenuHandler(GameModel gameModel, InputHandler inputHandler, ProfileSelectionHandler psh, LeaderboardHandler lh) {
+	public MainMenuHandler(GameModel gameModel, InputSource inputSource, ProfileSelectionHandler psh, LeaderboardHandler lh) {
 		this.gameModel = gameModel;
-		this.inputHandler = inputHandler;
+		this.inputSource = inputSource;
 		this.profileSelectionHandler = psh;
 		this.leaderboardHandler = lh;
 	}
@@ -49,8 +49,8 @@ public class MainMenuHandler {
 	 * Checks for mouse hovering and clicks on the various menu options.
 	 */
 	public void handleInput() {
-		int mx = inputHandler.getMouseX();
-		int my = inputHandler.getMouseY();
+		int mx = inputSource.getMouseX();
+		int my = inputSource.getMouseY();
 
 		newGameHover = newGameBounds.contains(mx, my);
 		statsHover = statsBounds.contains(mx, my);
@@ -65,7 +65,7 @@ public class MainMenuHandler {
         
         wasAnyButtonHovered = isCurrentlyHovered;
 
-		if (inputHandler.isMouseButtonPressed(MouseEvent.BUTTON1)) {
+		if (inputSource.isMouseButtonPressed(MouseEvent.BUTTON1)) {
 			if (newGameHover) {
 				AudioManager.getInstance().play("click");
 				gameModel.startNewGame();
@@ -83,7 +83,7 @@ public class MainMenuHandler {
 				gameModel.setActiveProfile(null);
 				gameModel.setGameState(GameState.PROFILE_SELECTION);
 			}
-			inputHandler.resetMouse();
+			inputSource.resetMouse();
 		}
 	}
 
@@ -16,7 +16,7 @@ import java.awt.event.MouseEvent;
 public class PausedHandler {
 
 	private GameModel gameModel;
-	private InputHandler inputHandler;
+	private InputSource inputSource;
 
 	// Clickable areas for buttons
 	private Rectangle resumeButtonBounds = new Rectangle((int) (245 * SCALE), (int) (150 * SCALE), (int) (150 * SCALE), (int) (25 * SCALE));
@@ -31,11 +31,11 @@ public class PausedHandler {
      * Constructs a PausedHandler.
      *
      * @param gameModel    The main game model.
-     * @param inputHandler The handler for detecting user input.
+     * @param inputSource The handler for detecting user input.
      */
-	public PausedHandler(GameModel gameModel, InputHandler inputHandler) {
+	public PausedHandler(GameModel gameModel, InputSource inputSource) {
 		this.gameModel = gameModel;
-		this.inputHandler = inputHandler;
+		this.inputSource = inputSource;
 	}
 
 	/**
@@ -44,8 +44,8 @@ public class PausedHandler {
 	 * as well as the 'Escape' key to unpause.
 	 */
 	public void handleInput() {
-		int mx = inputHandler.getMouseX();
-		int my = inputHandler.getMouseY();
+		int mx = inputSource.getMouseX();
+		int my = inputSource.getMouseY();
 		resumeHover = resumeButtonBounds.contains(mx, my);
 		menuHover = menuButtonBounds.contains(mx, my);
 
@@ -56,7 +56,7 @@ public class PausedHandler {
 		}
 		wasAnyButtonHovered = isCurrentlyHovered;
 
-		if (inputHandler.isMouseButtonPressed(MouseEvent.BUTTON1)) {
+		if (inputSource.isMouseButtonPressed(MouseEvent.BUTTON1)) {
 			if (resumeHover) {
 				AudioManager.getInstance().play("unpause");
 				gameModel.setGameState(gameModel.getStateBeforePause());
@@ -67,13 +67,13 @@ public class PausedHandler {
 		}
 
 		// Also allow unpausing with the Escape key
-		if (inputHandler.isKeyPressed(KeyEvent.VK_ESCAPE)) {
+		if (inputSource.isKeyPressed(KeyEvent.VK_ESCAPE)) {
 			AudioManager.getInstance().play("unpause");
 			gameModel.setGameState(gameModel.getStateBeforePause());
 		}
 
-		inputHandler.resetMouse();
-		inputHandler.resetKeys();
+		inputSource.resetMouse();
+		inputSource.resetKeys();
 	}
 
 	/**
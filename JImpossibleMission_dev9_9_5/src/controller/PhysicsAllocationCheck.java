@@ -0,0 +1,113 @@
+package controller;
+
+import java.awt.Point;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Random;
+import model.Directions;
+import model.Level;
+import model.Player;
+
+/**
+ * The allocation regression check of {@link PhysicsHandler#canMoveHere(Player, Directions, Level)},
+ * which runs at every tick while the player walks and must not allocate.
+ * After a warm-up that lets the JIT compile the method, it counts the bytes allocated by the
+ * current thread over many calls, at random positions and in both directions on every level,
+ * and fails if a single byte was allocated.
+ * <p>
+ * Usage: {@code PhysicsAllocationCheck [--calls N] [--seed S]}. The exit status is 0 when no
+ * allocation was measured, 1 otherwise, 2 on invalid arguments or when the JVM cannot count
+ * the allocated bytes.
+ */
+public class PhysicsAllocationCheck {
+
+    private static final int LEVEL_COUNT = 8;
+    private static final int POSITIONS = 4096; // Drawn before measuring, per level
+    private static final int WARMUP_CALLS = 2_000_000;
+
+    private static volatile boolean sink; // Keeps the results alive
+
+    /**
+     * Counts the bytes allocated by the calls to canMoveHere.
+     *
+     * @param calls The number of measured calls.
+     * @param seed  The seed of the random positions.
+     * @return The number of bytes allocated by the measured calls.
+     */
+    public static long measure(int calls, long seed) {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        Random random = new Random(seed);
+        Level[] levels = new Level[LEVEL_COUNT];
+        float[] xs = new float[POSITIONS];
+        float[] ys = new float[POSITIONS];
+        for (int i = 0; i < LEVEL_COUNT; i++) {
+            levels[i] = LevelLoader.loadLevel("/levels/level" + (i + 1) + ".txt", new Random(seed));
+        }
+        for (int i = 0; i < POSITIONS; i++) {
+            xs[i] = random.nextFloat() * levels[0].getCols() * 32;
+            ys[i] = random.nextFloat() * levels[0].getRows() * 32;
+        }
+        Player player = new Player(new Point(0, 0));
+
+        run(player, levels, xs, ys, WARMUP_CALLS);
+        long thread = Thread.currentThread().getId();
+        long before = threads.getThreadAllocatedBytes(thread);
+        run(player, levels, xs, ys, calls);
+        return threads.getThreadAllocatedBytes(thread) - before;
+    }
+
+    private static void run(Player player, Level[] levels, float[] xs, float[] ys, int calls) {
+        boolean result = false;
+        for (int i = 0; i < calls; i++) {
+            int position = i % POSITIONS;
+            player.getHitbox().x = xs[position];
+            player.getHitbox().y = ys[position];
+            Directions direction = (i & 1) == 0 ? Directions.LEFT : Directions.RIGHT;
+            result ^= PhysicsHandler.canMoveHere(player, direction, levels[(i / POSITIONS) % LEVEL_COUNT]);
+        }
+        sink = result;
+    }
+
+    /**
+     * Entry point of the allocation check.
+     *
+     * @param args {@code --calls N} and {@code --seed S}, both optional.
+     */
+    public static void main(String[] args) {
+        System.setProperty("java.awt.headless", "true");
+        AudioManager.setSilent(true);
+
+        int calls = 2_000_000;
+        long seed = 1;
+        try {
+            for (int i = 0; i < args.length; i++) {
+                switch (args[i]) {
+                    case "--calls": calls = Integer.parseInt(args[++i]); break;
+                    case "--seed": seed = Long.parseLong(args[++i]); break;
+                    default:
+                        System.err.println("Unknown argument: " + args[i]);
+                        System.exit(2);
+                }
+            }
+        } catch (RuntimeException e) {
+            System.err.println("Invalid arguments: " + e.getMessage());
+            System.exit(2);
+        }
+
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        if (!(threads instanceof com.sun.management.ThreadMXBean)
+                || !((com.sun.management.ThreadMXBean) threads).isThreadAllocatedMemorySupported()) {
+            System.err.println("This JVM cannot count the bytes allocated by a thread");
+            System.exit(2);
+        }
+        ((com.sun.management.ThreadMXBean) threads).setThreadAllocatedMemoryEnabled(true);
+
+        long bytes = measure(calls, seed);
+        System.out.println(String.format("canMoveHere: %d bytes allocated over %d calls (%.3f bytes/call)",
+                bytes, calls, bytes / (double) calls));
+        if (bytes != 0) {
+            System.err.println("FAILED: canMoveHere must not allocate");
+            System.exit(1);
+        }
+    }
+}
@@ -1,13 +1,10 @@
 package controller;
 
 import static model.GameConstants.*;
-import java.awt.Point;
 import java.awt.geom.Rectangle2D;
-import java.util.ArrayList;
-import java.util.HashSet;
-import java.util.List;
-import java.util.Set;
+import java.util.Arrays;
 import model.Directions;
+import model.Level;
 import model.LiftTile;
 import model.Player;
 import model.Tile;
@@ -22,128 +19,112 @@ public class PhysicsHandler {
 
 	/**
      * Checks if the player can move to a new position without colliding with solid tiles.
+     * The tiles under the corners and the middle of the sides of the hitbox are looked up by
+     * their integer grid coordinates, and the neighbour of each in the direction of movement is
+     * tested against the moved hitbox. Nothing is allocated, as this runs on every tick the
+     * player walks.
      *
      * @param player    The player entity.
      * @param direction The direction of intended movement.
-     * @param lvlData   The 2D array representing the level's tile data.
-     * @return True if the move is possible, false otherwise.
+     * @param level     The current level.
+     * @return True if the move is possible, false otherwise (including when the player is outside the grid).
      */
-	public static boolean canMoveHere(Player player, Directions direction, Tile[][] lvlData) {
+	public static boolean canMoveHere(Player player, Directions direction, Level level) {
 		Rectangle2D.Float hitbox = player.getHitbox();
-		Point upperLeft = new Point((int) hitbox.x / TILES_DEFAULT_SIZE, (int) hitbox.y / TILES_DEFAULT_SIZE);
-		Point upperRight = new Point((int) (hitbox.x + hitbox.width) / TILES_DEFAULT_SIZE, (int) hitbox.y / TILES_DEFAULT_SIZE);
-		Point halfLeft = new Point((int) hitbox.x / TILES_DEFAULT_SIZE, (int) (hitbox.y + (hitbox.height / 2)) / TILES_DEFAULT_SIZE);
-		Point halfRight = new Point((int) (hitbox.x + hitbox.width) / TILES_DEFAULT_SIZE, (int) (hitbox.y + (hitbox.height / 2)) / TILES_DEFAULT_SIZE);
-		Point lowerLeft = new Point((int) hitbox.x / TILES_DEFAULT_SIZE, (int) (hitbox.y + hitbox.height) / TILES_DEFAULT_SIZE);
-		Point lowerRight = new Point((int) (hitbox.x + hitbox.width) / TILES_DEFAULT_SIZE, (int) (hitbox.y + hitbox.height) / TILES_DEFAULT_SIZE);
+		int leftCol = (int) hitbox.x / TILES_DEFAULT_SIZE;
+		int rightCol = (int) (hitbox.x + hitbox.width) / TILES_DEFAULT_SIZE;
+		int topRow = (int) hitbox.y / TILES_DEFAULT_SIZE;
+		int midRow = (int) (hitbox.y + (hitbox.height / 2)) / TILES_DEFAULT_SIZE;
+		int bottomRow = (int) (hitbox.y + hitbox.height) / TILES_DEFAULT_SIZE;
 
-		Set<Tile> currentTiles = new HashSet<Tile>();
-		try {
-			currentTiles.add(lvlData[(int) upperLeft.y][(int) upperLeft.x]);
-			currentTiles.add(lvlData[(int) upperRight.y][(int) upperRight.x]);
-			currentTiles.add(lvlData[(int) halfLeft.y][(int) halfLeft.x]);
-			currentTiles.add(lvlData[(int) halfRight.y][(int) halfRight.x]);
-			currentTiles.add(lvlData[(int) lowerLeft.y][(int) lowerLeft.x]);
-			currentTiles.add(lvlData[(int) lowerRight.y][(int) lowerRight.x]);
-		} catch (ArrayIndexOutOfBoundsException e) {
+		if (!level.isInGrid(topRow, leftCol) || !level.isInGrid(topRow, rightCol)
+				|| !level.isInGrid(midRow, leftCol) || !level.isInGrid(midRow, rightCol)
+				|| !level.isInGrid(bottomRow, leftCol) || !level.isInGrid(bottomRow, rightCol)) {
 			return false;
 		}
 
+		float offsetX, offsetY;
 		switch (direction) {
 		case LEFT:
-			for (Tile t : currentTiles) {
-				Tile adjacentLeft = lvlData[(int) (t.getHitbox().y
-						/ TILES_DEFAULT_SIZE)][(int) ((t.getHitbox().x - player.getSpeed()) / TILES_DEFAULT_SIZE)];
-				Rectangle2D.Float adjacentHitbox = adjacentLeft.getHitbox();
-				Rectangle2D.Float movedHitbox = new Rectangle2D.Float(hitbox.x - player.getSpeed(), hitbox.y,
-						hitbox.width, hitbox.height);
-
-				if (adjacentHitbox.intersects(movedHitbox) || movedHitbox.intersects(adjacentHitbox)) {
-					if (adjacentLeft.isSolid()) {
-						return false;
-					}
-				}
-			}
-
+			offsetX = -player.getSpeed();
+			offsetY = 0;
 			break;
 		case RIGHT:
-			for (Tile t : currentTiles) {
-				Tile adjacentLeft = lvlData[(int) (t.getHitbox().y / TILES_DEFAULT_SIZE)][(int) ((t.getHitbox().x + 1)
-						/ TILES_DEFAULT_SIZE)];
-				Rectangle2D.Float adjacentHitbox = adjacentLeft.getHitbox();
-				Rectangle2D.Float movedHitbox = new Rectangle2D.Float(hitbox.x + 1, hitbox.y, hitbox.width,
-						hitbox.height);
-
-				if (adjacentHitbox.intersects(movedHitbox) || movedHitbox.intersects(adjacentHitbox)) {
-					if (adjacentLeft.isSolid()) {
-						return false;
-					}
-				}
-			}
+			offsetX = 1;
+			offsetY = 0;
 			break;
 		case UP:
-			for (Tile t : currentTiles) {
-				Tile adjacentLeft = lvlData[(int) ((t.getHitbox().y - 1) / TILES_DEFAULT_SIZE)][(int) (t.getHitbox().x
-						/ TILES_DEFAULT_SIZE)];
-				Rectangle2D.Float adjacentHitbox = adjacentLeft.getHitbox();
-				Rectangle2D.Float movedHitbox = new Rectangle2D.Float(hitbox.x, hitbox.y - 1, hitbox.width,
-						hitbox.height);
-
-				if (adjacentHitbox.intersects(movedHitbox) || movedHitbox.intersects(adjacentHitbox)) {
-					if (adjacentLeft.isSolid()) {
-						return false;
-					}
-				}
-			}
+			offsetX = 0;
+			offsetY = -1;
 			break;
 		case DOWN:
-			for (Tile t : currentTiles) {
-				Tile adjacentLeft = lvlData[(int) ((t.getHitbox().y + 1) / TILES_DEFAULT_SIZE)][(int) (t.getHitbox().x
-						/ TILES_DEFAULT_SIZE)];
-				Rectangle2D.Float adjacentHitbox = adjacentLeft.getHitbox();
-				Rectangle2D.Float movedHitbox = new Rectangle2D.Float(hitbox.x, hitbox.y + 1, hitbox.width,
-						hitbox.height);
-
-				if (adjacentHitbox.intersects(movedHitbox) || movedHitbox.intersects(adjacentHitbox)) {
-					if (adjacentLeft.isSolid()) {
-						return false;
-					}
-				}
-			}
+			offsetX = 0;
+			offsetY = 1;
 			break;
 		default:
 			return false;
 		}
 
-		return true;
+		float movedX = hitbox.x + offsetX;
+		float movedY = hitbox.y + offsetY;
+		return !isBlocked(level, topRow, leftCol, offsetX, offsetY, movedX, movedY, hitbox)
+				&& !isBlocked(level, topRow, rightCol, offsetX, offsetY, movedX, movedY, hitbox)
+				&& !isBlocked(level, midRow, leftCol, offsetX, offsetY, movedX, movedY, hitbox)
+				&& !isBlocked(level, midRow, rightCol, offsetX, offsetY, movedX, movedY, hitbox)
+				&& !isBlocked(level, bottomRow, leftCol, offsetX, offsetY, movedX, movedY, hitbox)
+				&& !isBlocked(level, bottomRow, rightCol, offsetX, offsetY, movedX, movedY, hitbox);
+	}
+
+	/**
+     * Checks if the neighbour of a tile in the direction of movement is solid and intersects the moved hitbox.
+     * The neighbour is located from the tile's hitbox rather than from its grid cell, because a lift's
+     * hitbox follows the lift. The solidity of the neighbour is read from the bitset of the level,
+     * so that the tile itself is only touched when it is solid.
+     *
+     * @param level   The current level.
+     * @param tileRow The row of a cell overlapped by the player.
+     * @param tileCol The column of a cell overlapped by the player.
+     * @param offsetX The horizontal movement.
+     * @param offsetY The vertical movement.
+     * @param movedX  The x-coordinate of the moved hitbox.
+     * @param movedY  The y-coordinate of the moved hitbox.
+     * @param hitbox  The current hitbox of the player, for its size.
+     * @return True if the neighbour blocks the movement, false otherwise.
+     */
+	private static boolean isBlocked(Level level, int tileRow, int tileCol, float offsetX, float offsetY,
+			float movedX, float movedY, Rectangle2D.Float hitbox) {
+		Tile tile = level.getTile(tileRow, tileCol);
+		int row = (int) ((tile.getHitboxY(tileRow) + offsetY) / TILES_DEFAULT_SIZE);
+		int col = (int) ((tile.getHitboxX(tileCol) + offsetX) / TILES_DEFAULT_SIZE);
+		if (!level.isInGrid(row, col)) {
+			return true;
+		}
+		return level.isSolid(row, col)
+				&& level.getTile(row, col).intersects(row, col, movedX, movedY, hitbox.width, hitbox.height);
 	}
 
 	/**
      * Handles vertical collisions for the player, such as landing on the ground or hitting a ceiling.
      *
-     * @param player  The player entity.
-     * @param lvlData The 2D array representing the level's tile data.
+     * @param player The player entity.
+     * @param level  The current level.
      */
-	public static void handleVerticalCollisions(Player player, Tile[][] lvlData) {
+	public static void handleVerticalCollisions(Player player, Level level) {
 		Rectangle2D.Float hitbox = player.getHitbox();
 		float yVelocity = player.getYVelocity();
 
 		float nextY = hitbox.y + yVelocity;
-		Rectangle2D.Float testHitbox = new Rectangle2D.Float(hitbox.x, nextY, hitbox.width, hitbox.height);
-
-		for (int row = 0; row < lvlData.length; row++) {
-			for (int col = 0; col < lvlData[0].length; col++) {
-				Tile tile = lvlData[row][col];
-				if (tile.isSolid() && testHitbox.intersects(tile.getHitbox())) {
-					if (yVelocity > 0) { // Falling
-						player.landOnGround(tile.getHitbox().y);
-					} else if (yVelocity < 0) { // Hitting ceiling
-						player.setYVelocity(0);
-						player.setY(tile.getHitbox().y + tile.getHitbox().height);
-					}
-					return;
-				}
+		int cell = findSolidCell(level, hitbox.x, nextY, hitbox.width, hitbox.height);
+		if (cell >= 0) {
+			int row = cell / level.getCols();
+			Tile tile = level.getTile(row, cell % level.getCols());
+			if (yVelocity > 0) { // Falling
+				player.landOnGround(tile.getHitboxY(row));
+			} else if (yVelocity < 0) { // Hitting ceiling
+				player.setYVelocity(0);
+				player.setY(tile.getHitboxY(row) + tile.getHitboxHeight());
 			}
+			return;
 		}
 
 		if (player.getYVelocity() != 0) {
@@ -154,24 +135,58 @@ public class PhysicsHandler {
 	/**
      * Checks if the player is currently standing on a solid tile.
      *
-     * @param player  The player entity.
-     * @param lvlData The 2D array representing the level's tile data.
+     * @param player The player entity.
+     * @param level  The current level.
      * @return True if the player is on the ground, false otherwise.
      */
-	public static boolean isOnGround(Player player, Tile[][] lvlData) {
+	public static boolean isOnGround(Player player, Level level) {
 		Rectangle2D.Float hitbox = player.getHitbox();
-		Rectangle2D.Float groundCheck = new Rectangle2D.Float(hitbox.x, hitbox.y + 1,
-				hitbox.width, hitbox.height);
+		return findSolidCell(level, hitbox.x, hitbox.y + 1, hitbox.width, hitbox.height) >= 0;
+	}
 
-		for (int row = 0; row < lvlData.length; row++) {
-			for (int col = 0; col < lvlData[0].length; col++) {
-				Tile tile = lvlData[row][col];
-				if (tile.isSolid() && groundCheck.intersects(tile.getHitbox())) {
-					return true;
+	/**
+     * Finds the solid tile intersecting an area, testing only the grid cells the area overlaps.
+     * The static tiles never leave their cell, so the cell range bounds every possible hit.
+     * Lifts are the only tiles whose hitbox moves away from the cell they were placed in:
+     * they are tested separately, and the hit that comes first in the row-major order of the
+     * grid wins, exactly like a scan of the whole grid would.
+     *
+     * @param level  The current level.
+     * @param x      The x-coordinate of the area.
+     * @param y      The y-coordinate of the area.
+     * @param width  The width of the area.
+     * @param height The height of the area.
+     * @return The row-major index of the cell holding the first solid tile intersecting the area
+     *         in grid order (the cell a lift was placed in, for lifts), or -1 if there is none.
+     */
+	private static int findSolidCell(Level level, float x, float y, float width, float height) {
+		int cols = level.getCols();
+		int firstRow = Math.max(0, (int) Math.floor(y / TILES_DEFAULT_SIZE));
+		int lastRow = Math.min(level.getRows() - 1, (int) Math.floor(((double) y + height) / TILES_DEFAULT_SIZE));
+		int firstCol = Math.max(0, (int) Math.floor(x / TILES_DEFAULT_SIZE));
+		int lastCol = Math.min(cols - 1, (int) Math.floor(((double) x + width) / TILES_DEFAULT_SIZE));
+
+		int hitIndex = Integer.MAX_VALUE;
+		search:
+		for (int row = firstRow; row <= lastRow; row++) {
+			for (int col = firstCol; col <= lastCol; col++) {
+				if (level.isSolid(row, col) && level.getTileType(row, col) != LIFT
+						&& level.getTile(row, col).intersects(row, col, x, y, width, height)) {
+					hitIndex = row * cols + col;
+					break search;
 				}
 			}
 		}
-		return false;
+
+		for (LiftTile lift : level.getLifts()) {
+			if (lift.getHitbox().intersects(x, y, width, height)) {
+				int index = (lift.getOriginalY() / TILES_DEFAULT_SIZE) * cols + (int) lift.getHitbox().x / TILES_DEFAULT_SIZE;
+				if (index < hitIndex) {
+					hitIndex = index;
+				}
+			}
+		}
+		return hitIndex == Integer.MAX_VALUE ? -1 : hitIndex;
 	}
 
 	/**
@@ -192,106 +207,51 @@ public class PhysicsHandler {
 		return false;
 	}
 
-	/**
-     * Determines all possible stopping points for a lift along its vertical path.
-     * A stop is defined as an empty space adjacent to a solid platform.
-     *
-     * @param lift    The lift tile.
-     * @param lvlData The 2D array representing the level's tile data.
-     * @return A sorted list of tiles representing the valid stops for the lift.
-     */
-	public static List<Tile> getLiftStops(Tile lift, Tile[][] lvlData) {
-		int currentRow = (int)(lift.getHitbox().getY() / TILES_DEFAULT_SIZE);
-		int currentCol = (int)(lift.getHitbox().getX() / TILES_DEFAULT_SIZE);
-		
-		List<Tile> stops = new ArrayList<>();
-		
-		for(int row = 0; row < TILES_IN_HEIGHT; row++) {
-			if(lvlData[row][currentCol].getType() == EMPTY) {
-				if(currentCol - 1 >= 0 && lvlData[row][currentCol-1].getType() == PLATFORM) {
-					stops.add(lvlData[row][currentCol]);
-				} else if (currentCol + 1 < lvlData[0].length && lvlData[row][currentCol+1].getType() == PLATFORM) {
-                    stops.add(lvlData[row][currentCol]);
-                } 
-				else if (row == TILES_IN_HEIGHT-1 && lvlData[row][currentCol].getType() == EMPTY) {
-                	stops.add(lvlData[row][currentCol]);
-                }
-			}
-		}
-		
-		if(lvlData[currentRow][currentCol].getType() == LIFT) {
-			stops.add(lvlData[currentRow][currentCol]);
-		}
-
-        boolean originalYAsStop = false;
-        for (Tile stop : stops) {
-            if (stop.getHitbox().y == ((LiftTile)lift).getOriginalY()) {
-                originalYAsStop = true;
-                break;
-            }
-        }
-        if (!originalYAsStop) {
-            int originalRow = ((LiftTile)lift).getOriginalY() / TILES_DEFAULT_SIZE;
-            if (originalRow >= 0 && originalRow < lvlData.length && !lvlData[originalRow][currentCol].isSolid()) {
-                stops.add(lvlData[originalRow][currentCol]);
-            }
-        }
-		
-        stops.sort((t1, t2) -> Float.compare(t1.getHitbox().y, t2.getHitbox().y));
-		return stops;
-	}
-
 	/**
      * Moves a lift to the next available stop in the specified direction.
+     * The current stop is located by binary search in the fixed stops of the column; the starting
+     * position of the lift counts as an extra stop while the lift is in its starting row.
+     * A lift that is not on a stop goes back to its starting position.
      *
      * @param lift      The lift to move.
      * @param direction The direction to move (UP or DOWN).
-     * @param lvlData   The 2D array of level tiles.
-     * @param stops     The pre-calculated list of valid stops for the lift.
-     * @param player    The player entity.
+     * @param stops     The fixed stops of the lift's column, see {@link Level#getLiftStops(LiftTile)}.
      */
-	public static void moveLiftToNextStop(LiftTile lift, Directions direction, Tile[][] lvlData, List<Tile> stops, Player player) {
+	public static void moveLiftToNextStop(LiftTile lift, Directions direction, int[] stops) {
 		if (lift.getTargetY() != -1) {
             return; 
         }
 
-		int currentRow = (int)(lift.getHitbox().getY() / TILES_DEFAULT_SIZE);
-		int currentCol = (int)(lift.getHitbox().getX() / TILES_DEFAULT_SIZE);
-		
-		Tile currentStop = lvlData[currentRow][currentCol];
-		
-        if (!stops.contains(currentStop)) {
-            lift.setTargetY(lift.getOriginalY());
-            if (lift.getHitbox().y > lift.getOriginalY()) {
-                lift.setCurrentMovementDirection(Directions.UP);
-            } else {
-                lift.setCurrentMovementDirection(Directions.DOWN);
-            }
-            return; 
-        }
+		int liftY = (int) lift.getHitbox().y;
+		int previous, next;
+		if (liftY / TILES_DEFAULT_SIZE == lift.getOriginalY() / TILES_DEFAULT_SIZE) {
+			// The lift is on its own cell, which is never one of the fixed stops
+			int insertionPoint = -Arrays.binarySearch(stops, liftY) - 1;
+			previous = insertionPoint - 1;
+			next = insertionPoint;
+		} else {
+			int index = Arrays.binarySearch(stops, liftY / TILES_DEFAULT_SIZE * TILES_DEFAULT_SIZE);
+			if (index < 0) {
+				lift.setTargetY(lift.getOriginalY());
+				if (lift.getHitbox().y > lift.getOriginalY()) {
+					lift.setCurrentMovementDirection(Directions.UP);
+				} else {
+					lift.setCurrentMovementDirection(Directions.DOWN);
+				}
+				return;
+			}
+			previous = index - 1;
+			next = index + 1;
+		}
 
-		int currentStopIndex = stops.indexOf(currentStop);
-		
 		switch(direction) {
 		case UP:
-			if(currentStopIndex > 0) {
-				Tile nextStop = stops.get(currentStopIndex - 1);
-				lift.setTargetY((int) nextStop.getHitbox().y);
-				lift.setCurrentMovementDirection(Directions.UP);
-			} else {
-                lift.setTargetY(lift.getOriginalY());
-                lift.setCurrentMovementDirection(Directions.UP);
-            }
+			lift.setTargetY(previous >= 0 ? stops[previous] : lift.getOriginalY());
+			lift.setCurrentMovementDirection(Directions.UP);
 			break;
 		case DOWN:
-			if (currentStopIndex < stops.size() - 1) {
-                Tile nextStop = stops.get(currentStopIndex + 1);
-                lift.setTargetY((int) nextStop.getHitbox().y);
-                lift.setCurrentMovementDirection(Directions.DOWN);
-            } else {
-                lift.setTargetY(lift.getOriginalY());
-                lift.setCurrentMovementDirection(Directions.DOWN);
-            }
+			lift.setTargetY(next < stops.length ? stops[next] : lift.getOriginalY());
+			lift.setCurrentMovementDirection(Directions.DOWN);
 			break;
 		default:
 			break;
@@ -2,20 +2,23 @@ package controller;
 
 import java.util.Timer;
 import java.util.TimerTask;
-import java.util.Observable;
+import model.ChangeBus;
+import model.ChangeType;
 import model.FurnitureTile;
 
 /**
  * Manages the state and logic for in-game popups, such as search progress bars and notifications.
- * It extends {@link Observable} to notify the {@link view.PopupView} when its state changes.
+ * It posts a {@link ChangeType#POPUP} change on the {@link ChangeBus} when its state changes.
  */
-@SuppressWarnings("deprecation")
-public class PopupHandler extends Observable {
+public class PopupHandler {
 
     private String popupText = "";
     private float searchProgress = 0.0f;
     private boolean isSearchingPopup = false;
-    private Timer popupTimer;
+    private TimerTask pendingHide;
+    
+    // A single daemon thread hides the notifications of every game running in this JVM
+    private static final Timer POPUP_TIMER = new Timer("PopupTimer", true);
     
     private FurnitureTile currentFurniture = null;
 
@@ -29,8 +32,7 @@ public class PopupHandler extends Observable {
         this.currentFurniture = furniture;
         this.popupText = "Searching...";
         
-        setChanged();
-        notifyObservers();
+        ChangeBus.getInstance().post(ChangeType.POPUP);
     }
 
     /**
@@ -46,19 +48,18 @@ public class PopupHandler extends Observable {
         this.popupText = text;
         this.searchProgress = 0.0f;
         
-        setChanged();
-        notifyObservers();
+        ChangeBus.getInstance().post(ChangeType.POPUP);
         
-        if (popupTimer != null) {
-            popupTimer.cancel();
+        if (pendingHide != null) {
+            pendingHide.cancel();
         }
-        popupTimer = new Timer();
-        popupTimer.schedule(new TimerTask() {
+        pendingHide = new TimerTask() {
             @Override
             public void run() {
                 hidePopup();
             }
-        }, durationMillis);
+        };
+        POPUP_TIMER.schedule(pendingHide, durationMillis);
     }
 
     /**
@@ -70,8 +71,7 @@ public class PopupHandler extends Observable {
         searchProgress = 0.0f;
         currentFurniture = null;
         
-        setChanged();
-        notifyObservers();
+        ChangeBus.getInstance().post(ChangeType.POPUP);
     }
     
     /**
@@ -1,5 +1,7 @@
 package controller;
 
+import model.ChangeBus;
+import model.ChangeType;
 import model.GameModel;
 import model.GameState;
 import model.UserProfile;
@@ -11,18 +13,17 @@ import java.awt.Rectangle;
 import java.awt.event.KeyEvent;
 import java.awt.event.MouseEvent;
 import java.util.List;
-import java.util.Observable;
 
 /**
  * Handles user input and logic for the profile selection screen.
  * This class manages loading profiles, navigating the list, creating new profiles,
- * and deleting existing ones. It extends {@link Observable} to notify the view of changes.
+ * and deleting existing ones. It posts a {@link ChangeType#PROFILES}
+ * change on the {@link ChangeBus} when the list or the selection changes.
  */
-@SuppressWarnings("deprecation")
-public class ProfileSelectionHandler extends Observable {
+public class ProfileSelectionHandler {
 
     private GameModel gameModel;
-    private InputHandler inputHandler;
+    private InputSource inputSource;
     private List<UserProfile> profiles;
     private int selectedIndex = 0;
 
@@ -38,14 +39,13 @@ public class ProfileSelectionHandler extends Observable {
      * Constructs a ProfileSelectionHandler.
      *
      * @param gameModel    The main game model.
-     * @param inputHandler The handler for detecting user input.
+     * @param inputSource The handler for detecting user input.
      */
-    public ProfileSelectionHandler(GameModel gameModel, InputHandler inputHandler) {
+    public ProfileSelectionHandler(GameModel gameModel, InputSource inputSource) {
         this.gameModel = gameModel;
-        this.inputHandler = inputHandler;
+        this.inputSource = inputSource;
         refreshProfiles();
-        setChanged();
-        notifyObservers();
+        ChangeBus.getInstance().post(ChangeType.PROFILES);
     }
     
     /**
@@ -64,8 +64,7 @@ public class ProfileSelectionHandler extends Observable {
         if (selectedIndex >= profiles.size()) {
             selectedIndex = Math.max(0, profiles.size() - 1);
         }
-        setChanged();
-        notifyObservers();
+        ChangeBus.getInstance().post(ChangeType.PROFILES);
     }
 
     /**
@@ -77,7 +76,7 @@ public class ProfileSelectionHandler extends Observable {
             needsRefresh = false;
         }
         
-        createHover = createButtonBounds.contains(inputHandler.getMouseX(), inputHandler.getMouseY());
+        createHover = createButtonBounds.contains(inputSource.getMouseX(), inputSource.getMouseY());
         boolean isCurrentlyHovered = createHover;
 		
         if (isCurrentlyHovered && !wasAnyButtonHovered) {
@@ -86,37 +85,35 @@ public class ProfileSelectionHandler extends Observable {
         
         wasAnyButtonHovered = isCurrentlyHovered;
 
-        if (inputHandler.consumeKeyPress(KeyEvent.VK_DOWN)) {
+        if (inputSource.consumeKeyPress(KeyEvent.VK_DOWN)) {
             if (!profiles.isEmpty()) {
             	AudioManager.getInstance().play("click");
                 selectedIndex = (selectedIndex + 1) % profiles.size();
-                setChanged();
-                notifyObservers();
+                ChangeBus.getInstance().post(ChangeType.PROFILES);
             }
         }
-        if (inputHandler.consumeKeyPress(KeyEvent.VK_UP)) {
+        if (inputSource.consumeKeyPress(KeyEvent.VK_UP)) {
             if (!profiles.isEmpty()) {
             	AudioManager.getInstance().play("click");
                 selectedIndex = (selectedIndex - 1 + profiles.size()) % profiles.size();
-                setChanged();
-                notifyObservers();
+                ChangeBus.getInstance().post(ChangeType.PROFILES);
             }
         }
 
-        if (inputHandler.consumeKeyPress(KeyEvent.VK_ENTER)) {
+        if (inputSource.consumeKeyPress(KeyEvent.VK_ENTER)) {
         	AudioManager.getInstance().play("confirm");
             if (!profiles.isEmpty()) {
                 loadSelectedProfile();
             }
         }
 
-        if (inputHandler.isMouseButtonPressed(MouseEvent.BUTTON1)) {
+        if (inputSource.isMouseButtonPressed(MouseEvent.BUTTON1)) {
         	if (createHover) {
         		AudioManager.getInstance().play("click");
                 createNewProfile();
             } else {
-                int mx = inputHandler.getMouseX();
-                int my = inputHandler.getMouseY();
+                int mx = inputSource.getMouseX();
+                int my = inputSource.getMouseY();
                 for (int i = 0; i < deleteButtonBounds.size(); i++) {
                     if (deleteButtonBounds.get(i).contains(mx, my)) {
                     	AudioManager.getInstance().play("click");
@@ -125,7 +122,7 @@ public class ProfileSelectionHandler extends Observable {
                     }
                 }
             }
-            inputHandler.resetMouse();
+            inputSource.resetMouse();
         }
     }
 
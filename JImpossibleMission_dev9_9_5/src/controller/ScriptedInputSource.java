@@ -0,0 +1,316 @@
+package controller;
+
+import java.awt.event.KeyEvent;
+import java.awt.event.MouseEvent;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+
+/**
+ * An {@link InputSource} driven by code or by a script instead of AWT listeners.
+ * Inputs can be changed directly ({@link #press(int)}, {@link #release(int)}, {@link #click(int, int)})
+ * or scheduled on a given tick with {@link #at(long, Consumer)}; the scheduled actions are applied
+ * by {@link #advanceTo(long)}, which the simulation calls before every tick.
+ * <p>
+ * A script file contains one action per line, in the form {@code <tick> <action> [arguments]}:
+ * <pre>
+ * # Walk right for two seconds, then jump
+ * 0   press RIGHT
+ * 240 release RIGHT
+ * 240 tap SPACE
+ * 300 click 320 200
+ * </pre>
+ * Supported actions are {@code press}, {@code release}, {@code tap} (pressed for a single tick),
+ * {@code move} and {@code click}. Blank lines and lines starting with {@code #} are ignored.
+ */
+public class ScriptedInputSource implements InputSource {
+
+    private static final Map<String, Integer> KEY_NAMES = new HashMap<>();
+    static {
+        KEY_NAMES.put("UP", KeyEvent.VK_UP);
+        KEY_NAMES.put("DOWN", KeyEvent.VK_DOWN);
+        KEY_NAMES.put("LEFT", KeyEvent.VK_LEFT);
+        KEY_NAMES.put("RIGHT", KeyEvent.VK_RIGHT);
+        KEY_NAMES.put("SPACE", KeyEvent.VK_SPACE);
+        KEY_NAMES.put("E", KeyEvent.VK_E);
+        KEY_NAMES.put("ESCAPE", KeyEvent.VK_ESCAPE);
+        KEY_NAMES.put("ENTER", KeyEvent.VK_ENTER);
+        KEY_NAMES.put("Q", KeyEvent.VK_Q);
+        KEY_NAMES.put("1", KeyEvent.VK_1);
+        KEY_NAMES.put("2", KeyEvent.VK_2);
+    }
+
+    // Keyboard state flags
+    private boolean upPressed, downPressed, leftPressed, rightPressed;
+    private boolean jumpPressed;
+    private boolean ePressed;
+    private Set<Integer> pressedKeys = new HashSet<>();
+
+    // Mouse state fields
+    private int mouseX, mouseY;
+    private boolean mouseButtonPressed;
+    private int mouseButtonCode = -1;
+
+    // Actions waiting for their tick, in tick order
+    private TreeMap<Long, List<Consumer<ScriptedInputSource>>> schedule = new TreeMap<>();
+
+    /**
+     * Loads a script file.
+     *
+     * @param scriptFile The path of the script.
+     * @return A new input source with all the actions of the script scheduled.
+     * @throws IOException If the file cannot be read.
+     * @throws IllegalArgumentException If a line of the script is malformed.
+     */
+    public static ScriptedInputSource fromFile(Path scriptFile) throws IOException {
+        return fromLines(Files.readAllLines(scriptFile));
+    }
+
+    /**
+     * Parses the lines of a script.
+     *
+     * @param lines The lines of the script.
+     * @return A new input source with all the actions of the script scheduled.
+     * @throws IllegalArgumentException If a line of the script is malformed.
+     */
+    public static ScriptedInputSource fromLines(List<String> lines) {
+        ScriptedInputSource source = new ScriptedInputSource();
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i).trim();
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            try {
+                source.parseLine(line);
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("Invalid script line " + (i + 1) + ": " + line, e);
+            }
+        }
+        return source;
+    }
+
+    /**
+     * Generates a random input policy: the player alternately walks in a random direction,
+     * jumps, uses lifts and the elevator, and searches whatever is in front of them.
+     * The same seed always generates the same inputs.
+     *
+     * @param random   The generator of the policy.
+     * @param maxTicks The number of ticks to fill with actions.
+     * @return A new input source with the generated actions scheduled.
+     */
+    public static ScriptedInputSource random(Random random, long maxTicks) {
+        ScriptedInputSource source = new ScriptedInputSource();
+        int[] walkKeys = { KeyEvent.VK_LEFT, KeyEvent.VK_RIGHT };
+        int[] tapKeys = { KeyEvent.VK_UP, KeyEvent.VK_DOWN, KeyEvent.VK_SPACE };
+        long tick = 0;
+        while (tick < maxTicks) {
+            long duration = 30 + random.nextInt(300);
+            int action = random.nextInt(10);
+            if (action < 6) { // Walk
+                int keyCode = walkKeys[random.nextInt(walkKeys.length)];
+                source.at(tick, s -> s.press(keyCode));
+                source.at(tick + duration, s -> s.release(keyCode));
+            } else if (action < 9) { // Jump, or ride a lift or the elevator
+                int keyCode = tapKeys[random.nextInt(tapKeys.length)];
+                source.at(tick, s -> s.press(keyCode));
+                source.at(tick + 1, s -> s.release(keyCode));
+                duration = 60;
+            } else { // Search, long enough to complete
+                duration = 400;
+                source.at(tick, s -> s.press(KeyEvent.VK_E));
+                source.at(tick + duration, s -> s.release(KeyEvent.VK_E));
+            }
+            tick += duration + 1;
+        }
+        return source;
+    }
+
+    /**
+     * Schedules the action described by a single script line.
+     * @param line The trimmed, non-empty line.
+     */
+    private void parseLine(String line) {
+        String[] parts = line.split("\\s+");
+        long tick = Long.parseLong(parts[0]);
+        switch (parts[1].toLowerCase()) {
+            case "press": {
+                int keyCode = keyCode(parts[2]);
+                at(tick, s -> s.press(keyCode));
+                break;
+            }
+            case "release": {
+                int keyCode = keyCode(parts[2]);
+                at(tick, s -> s.release(keyCode));
+                break;
+            }
+            case "tap": {
+                int keyCode = keyCode(parts[2]);
+                at(tick, s -> s.press(keyCode));
+                at(tick + 1, s -> s.release(keyCode));
+                break;
+            }
+            case "move": {
+                int x = Integer.parseInt(parts[2]);
+                int y = Integer.parseInt(parts[3]);
+                at(tick, s -> s.moveMouse(x, y));
+                break;
+            }
+            case "click": {
+                int x = Integer.parseInt(parts[2]);
+                int y = Integer.parseInt(parts[3]);
+                at(tick, s -> s.click(x, y));
+                break;
+            }
+            default:
+                throw new IllegalArgumentException("Unknown action: " + parts[1]);
+        }
+    }
+
+    private static int keyCode(String name) {
+        Integer keyCode = KEY_NAMES.get(name.toUpperCase());
+        if (keyCode == null) {
+            throw new IllegalArgumentException("Unknown key: " + name);
+        }
+        return keyCode;
+    }
+
+    /**
+     * Schedules an action to be applied when the simulation reaches the given tick.
+     *
+     * @param tick   The tick on which the action is applied.
+     * @param action The action, receiving this input source.
+     */
+    public void at(long tick, Consumer<ScriptedInputSource> action) {
+        schedule.computeIfAbsent(tick, t -> new ArrayList<>()).add(action);
+    }
+
+    /**
+     * Applies every scheduled action whose tick is lower than or equal to the given one.
+     * @param tick The tick about to be simulated.
+     */
+    public void advanceTo(long tick) {
+        while (!schedule.isEmpty() && schedule.firstKey() <= tick) {
+            for (Consumer<ScriptedInputSource> action : schedule.pollFirstEntry().getValue()) {
+                action.accept(this);
+            }
+        }
+    }
+
+    /**
+     * @return True if no scheduled action is left.
+     */
+    public boolean isScriptFinished() {
+        return schedule.isEmpty();
+    }
+
+    // --- PROGRAMMATIC INPUT ---
+
+    /**
+     * Holds a key down until {@link #release(int)} is called.
+     * @param keyCode The key code of the key.
+     */
+    public void press(int keyCode) {
+        pressedKeys.add(keyCode);
+        setKeyFlag(keyCode, true);
+    }
+
+    /**
+     * Releases a key.
+     * @param keyCode The key code of the key.
+     */
+    public void release(int keyCode) {
+        pressedKeys.remove(keyCode);
+        setKeyFlag(keyCode, false);
+    }
+
+    private void setKeyFlag(int keyCode, boolean pressed) {
+        switch (keyCode) {
+            case KeyEvent.VK_SPACE: jumpPressed = pressed; break;
+            case KeyEvent.VK_UP: case KeyEvent.VK_W: upPressed = pressed; break;
+            case KeyEvent.VK_DOWN: case KeyEvent.VK_S: downPressed = pressed; break;
+            case KeyEvent.VK_LEFT: case KeyEvent.VK_A: leftPressed = pressed; break;
+            case KeyEvent.VK_RIGHT: case KeyEvent.VK_D: rightPressed = pressed; break;
+            case KeyEvent.VK_E: ePressed = pressed; break;
+        }
+    }
+
+    /**
+     * Moves the mouse pointer.
+     * @param x The new x-coordinate, in screen pixels.
+     * @param y The new y-coordinate, in screen pixels.
+     */
+    public void moveMouse(int x, int y) {
+        mouseX = x;
+        mouseY = y;
+    }
+
+    /**
+     * Moves the mouse pointer and presses the left button, until the click is consumed.
+     * @param x The x-coordinate of the click, in screen pixels.
+     * @param y The y-coordinate of the click, in screen pixels.
+     */
+    public void click(int x, int y) {
+        moveMouse(x, y);
+        mouseButtonPressed = true;
+        mouseButtonCode = MouseEvent.BUTTON1;
+    }
+
+    // --- INPUTSOURCE METHODS ---
+    @Override public boolean isUpPressed() { return upPressed; }
+    @Override public boolean isDownPressed() { return downPressed; }
+    @Override public boolean isLeftPressed() { return leftPressed; }
+    @Override public boolean isRightPressed() { return rightPressed; }
+    @Override public boolean isJumpPressed() { return jumpPressed; }
+    @Override public boolean isEPressed() { return ePressed; }
+    @Override public boolean isKeyPressed(int keyCode) { return pressedKeys.contains(keyCode); }
+    @Override public int getMouseX() { return mouseX; }
+    @Override public int getMouseY() { return mouseY; }
+
+    @Override
+    public boolean isMouseButtonPressed(int buttonCode) {
+        return mouseButtonPressed && mouseButtonCode == buttonCode;
+    }
+
+    @Override
+    public boolean consumeKeyPress(int keyCode) {
+        return pressedKeys.remove(keyCode);
+    }
+
+    @Override
+    public void resetAllInputs() {
+        upPressed = false;
+        downPressed = false;
+        leftPressed = false;
+        rightPressed = false;
+        jumpPressed = false;
+        ePressed = false;
+        pressedKeys.clear();
+        resetMouse();
+    }
+
+    @Override
+    public void resetKeys() {
+        resetAllInputs();
+    }
+
+    @Override
+    public void resetMouse() {
+        mouseButtonPressed = false;
+        mouseButtonCode = -1;
+    }
+
+    @Override
+    public void resetVerticalKeys() {
+        upPressed = false;
+        downPressed = false;
+    }
+}
@@ -12,7 +12,7 @@ import java.awt.event.MouseEvent;
  */
 public class StatsHandler {
     private GameModel gameModel;
-    private InputHandler inputHandler;
+    private InputSource inputSource;
     private Rectangle backButtonBounds = new Rectangle(490, 550, 300, 50);
     private boolean backHover = false;
     private boolean wasAnyButtonHovered = false;
@@ -21,18 +21,18 @@ public class StatsHandler {
      * Constructs a StatsHandler.
      *
      * @param gameModel    The main game model.
-     * @param inputHandler The handler for detecting user input.
+     * @param inputSource The handler for detecting user input.
      */
-    public StatsHandler(GameModel gameModel, InputHandler inputHandler) {
+    public StatsHandler(GameModel gameModel, InputSource inputSource) {
         this.gameModel = gameModel;
-        this.inputHandler = inputHandler;
+        this.inputSource = inputSource;
     }
 
     /**
      * Handles user input on the stats screen.
      */
     public void handleInput() {
-        backHover = backButtonBounds.contains(inputHandler.getMouseX(), inputHandler.getMouseY());
+        backHover = backButtonBounds.contains(inputSource.getMouseX(), inputSource.getMouseY());
         boolean isCurrentlyHovered = backHover;
 		
         if (isCurrentlyHovered && !wasAnyButtonHovered) {
@@ -41,11 +41,11 @@ public class StatsHandler {
         
         wasAnyButtonHovered = isCurrentlyHovered;
         
-        if (inputHandler.isMouseButtonPressed(MouseEvent.BUTTON1) && backHover) {
+        if (inputSource.isMouseButtonPressed(MouseEvent.BUTTON1) && backHover) {
         	AudioManager.getInstance().play("click");
             gameModel.setGameState(GameState.HOMESCREEN);
         }
-        inputHandler.resetMouse();
+        inputSource.resetMouse();
     }
     
     public Rectangle getBackButtonBounds() { return backButtonBounds; }
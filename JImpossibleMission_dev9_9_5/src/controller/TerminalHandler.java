@@ -12,17 +12,17 @@ import java.awt.event.KeyEvent;
 public class TerminalHandler {
 
     private GameModel gameModel;
-    private InputHandler inputHandler;
+    private InputSource inputSource;
 
     /**
      * Constructs a TerminalHandler.
      *
      * @param gameModel    The main game model to interact with.
-     * @param inputHandler The handler for detecting keyboard input.
+     * @param inputSource The handler for detecting keyboard input.
      */
-    public TerminalHandler(GameModel gameModel, InputHandler inputHandler) {
+    public TerminalHandler(GameModel gameModel, InputSource inputSource) {
         this.gameModel = gameModel;
-        this.inputHandler = inputHandler;
+        this.inputSource = inputSource;
     }
 
     /**
@@ -30,19 +30,19 @@ public class TerminalHandler {
      * Listens for specific keys (1, 2, Escape, etc.) to trigger actions.
      */
     public void handleTerminalInput() {
-        if (inputHandler.isKeyPressed(KeyEvent.VK_1)) {
+        if (inputSource.isKeyPressed(KeyEvent.VK_1)) {
             gameModel.resetAllLiftsPosition();
             AudioManager.getInstance().play("keystroke");
-            inputHandler.resetKeys();
+            inputSource.resetKeys();
             gameModel.setGameState(GameState.PLAYING);
-        } else if (inputHandler.isKeyPressed(KeyEvent.VK_2)) {
+        } else if (inputSource.isKeyPressed(KeyEvent.VK_2)) {
             gameModel.freezeEnemies(15); // Freeze for 15 seconds
             AudioManager.getInstance().play("keystroke");
-            inputHandler.resetKeys();
+            inputSource.resetKeys();
             gameModel.setGameState(GameState.PLAYING);
-        } else if (inputHandler.isKeyPressed(KeyEvent.VK_ESCAPE) || inputHandler.isKeyPressed(KeyEvent.VK_Q) || inputHandler.isKeyPressed(KeyEvent.VK_ENTER)) {
+        } else if (inputSource.isKeyPressed(KeyEvent.VK_ESCAPE) || inputSource.isKeyPressed(KeyEvent.VK_Q) || inputSource.isKeyPressed(KeyEvent.VK_ENTER)) {
             AudioManager.getInstance().play("keystroke");
-            inputHandler.resetKeys();
+            inputSource.resetKeys();
             gameModel.setGameState(GameState.PLAYING);
         }
     }
@@ -68,8 +68,8 @@ public class TerminalHandler {
     	// Poor man's hash function
     	int id = gameModel.getLevel().getLifts().size() * (int)gameModel.getLevel().getPlayerSpawn().getX() 
     			+ gameModel.getLevel().getPcs().size() * (int)gameModel.getLevel().getPlayerSpawn().getY();
-    	String prefix = "" + gameModel.getLevel().getLevelData()[5][9].getType().name().charAt(0)
-    			+ gameModel.getLevel().getLevelData()[10][3].getType().name().charAt(1);
+    	String prefix = "" + gameModel.getLevel().getTileType(5, 9).name().charAt(0)
+    			+ gameModel.getLevel().getTileType(10, 3).name().charAt(1);
     	
     	return prefix + "-" + id;
     }
@@ -13,7 +13,7 @@ import java.awt.event.MouseEvent;
  */
 public class VictoryHandler {
 	private GameModel gameModel;
-	private InputHandler inputHandler;
+	private InputSource inputSource;
 	private Rectangle menuButtonBounds = new Rectangle((int) (245 * SCALE), (int) (225 * SCALE), (int) (150 * SCALE), (int) (25 * SCALE));
 	private boolean menuHover = false;
 	private boolean wasAnyButtonHovered = false;
@@ -22,11 +22,11 @@ public class VictoryHandler {
      * Constructs a VictoryHandler.
      *
      * @param gameModel    The main game model.
-     * @param inputHandler The handler for detecting user input.
+     * @param inputSource The handler for detecting user input.
      */
-	public VictoryHandler(GameModel gameModel, InputHandler inputHandler) {
+	public VictoryHandler(GameModel gameModel, InputSource inputSource) {
 		this.gameModel = gameModel;
-		this.inputHandler = inputHandler;
+		this.inputSource = inputSource;
 	}
 
 	/**
@@ -34,7 +34,7 @@ public class VictoryHandler {
 	 * Checks for mouse hovering and clicks on the "Return to Menu" button.
 	 */
 	public void handleInput() {
-		menuHover = menuButtonBounds.contains(inputHandler.getMouseX(), inputHandler.getMouseY());
+		menuHover = menuButtonBounds.contains(inputSource.getMouseX(), inputSource.getMouseY());
 		boolean isCurrentlyHovered = menuHover;
 
         if (isCurrentlyHovered && !wasAnyButtonHovered) {
@@ -42,12 +42,12 @@ public class VictoryHandler {
 		}
 		wasAnyButtonHovered = isCurrentlyHovered;
 
-		if (inputHandler.isMouseButtonPressed(MouseEvent.BUTTON1) && menuHover) {
+		if (inputSource.isMouseButtonPressed(MouseEvent.BUTTON1) && menuHover) {
 			AudioManager.getInstance().play("click");
 			gameModel.setGameState(GameState.HOMESCREEN);
 			AudioManager.getInstance().loopMenuMusic("menu_theme");
 		}
-		inputHandler.resetMouse();
+		inputSource.resetMouse();
 	}
 
 	public Rectangle getMenuButtonBounds() {
@@ -11,6 +11,17 @@ import controller.AudioManager;
  */
 public class AttackingState implements EnemyStateHandler {
 
+	private static final AttackingState instance = new AttackingState();
+
+	private AttackingState() {}
+
+	/**
+	 * @return The handler of the Attacking state, shared by all enemies.
+	 */
+	public static AttackingState getInstance() {
+		return instance;
+	}
+
     /**
      * Called when the enemy enters the Attacking state.
      * Sets the enemy's state enum and starts the attack sound loop.
@@ -28,7 +39,7 @@ public class AttackingState implements EnemyStateHandler {
      * as determined by its behavior context.
      * @param enemy The enemy to update.
      * @param context The behavior context managing the state transitions.
-     * @param currentTime The current system time in milliseconds.
+     * @param currentTime The current game time in milliseconds.
      * @param levelData The current level's data.
      * @param player The player object.
      */
@@ -37,32 +48,9 @@ public class AttackingState implements EnemyStateHandler {
         long attackDuration = context.getDurationForState(EnemyState.ATTACKING);
 
         if (context.getElapsed(currentTime) >= attackDuration) {
-            // The attack is finished. The context will decide the next state.
-            EnemyStateHandler nextState = getNextStateFor(context);
-            context.changeState(nextState, enemy, currentTime);
-        }
-    }
-    
-    /**
-     * Determines the next state for the enemy based on its behavior type.
-     * For example, a standing robot might become idle, while a moving robot might resume moving.
-     * @param context The behavior context of the enemy.
-     * @return The next state handler for the enemy.
-     */
-    private EnemyStateHandler getNextStateFor(EnemyBehavior context) {
-        if (context instanceof StandingRobotBehavior) {
-            // After attacking, a StandingRobot goes back to IDLE to prepare for turning.
-            StandingRobotBehavior specificContext = (StandingRobotBehavior) context;
-            specificContext.setBehaviorStep(2); // Update internal sequence
-            return new IdleState();
-        } 
-        else if (context instanceof MovingRobotBehavior) {
-            // After attacking, a MovingRobot resumes its movement.
-            return new MovingState();
+            // The attack is finished. The context's transition table decides the next state.
+            context.changeState(context.getNextState(EnemyState.ATTACKING), enemy, currentTime);
         }
-        
-        // Safety fallback: if the behavior is unknown, return to IDLE.
-        return new IdleState();
     }
 
 
@@ -0,0 +1,77 @@
+package model;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * A lightweight change-notification bus between the model and the views, replacing
+ * {@code java.util.Observable}.
+ * Model objects {@link #post(ChangeType) post} the kind of change they made, which only sets a bit
+ * in a mask owned by the posting thread: there is no lock, no listener call and no allocation.
+ * Once per tick the game thread {@link #flush() flushes} the mask, and the listeners are called
+ * at most once with all the changes of the tick.
+ * <p>
+ * Each thread has its own pending mask, so that the sessions run in parallel by the batch
+ * simulator never see each other's changes. Changes posted by a thread that never flushes, such
+ * as the timer hiding the popups, are not delivered; the render loop still draws them with its
+ * next frame. Listeners are shared and may be added from any thread.
+ */
+public class ChangeBus {
+
+	/**
+	 * Receives the changes of a tick.
+	 */
+	public interface Listener {
+
+		/**
+		 * Called on the thread that flushed the bus, usually the game thread.
+		 * @param changes The mask of the {@link ChangeType}s posted since the last flush, never 0.
+		 */
+		void onChanges(int changes);
+	}
+
+	private static final ChangeBus instance = new ChangeBus();
+
+	private final ThreadLocal<int[]> pending = ThreadLocal.withInitial(() -> new int[1]);
+	private final List<Listener> listeners = new CopyOnWriteArrayList<>();
+
+	private ChangeBus() {}
+
+	/**
+	 * @return The single instance of the ChangeBus.
+	 */
+	public static ChangeBus getInstance() {
+		return instance;
+	}
+
+	/**
+	 * Records a change, to be delivered with the next flush of the current thread.
+	 * @param change The kind of change.
+	 */
+	public void post(ChangeType change) {
+		pending.get()[0] |= change.mask();
+	}
+
+	/**
+	 * Delivers the changes posted by the current thread since its last flush, if any, and clears them.
+	 */
+	public void flush() {
+		int[] mask = pending.get();
+		int changes = mask[0];
+		if (changes == 0) {
+			return;
+		}
+		mask[0] = 0;
+		for (Listener listener : listeners) {
+			listener.onChanges(changes);
+		}
+	}
+
+	public void addListener(Listener listener) {
+		listeners.add(listener);
+	}
+
+	public void removeListener(Listener listener) {
+		listeners.remove(listener);
+	}
+}
@@ -0,0 +1,29 @@
+package model;
+
+/**
+ * Enumerates the kinds of state change posted on the {@link ChangeBus}.
+ * Each kind is a bit, so that the changes of a whole tick are coalesced into a single mask.
+ */
+public enum ChangeType {
+    GAME,
+    PLAYER,
+    ENEMIES,
+    ELEVATOR,
+    LIFTS,
+    FURNITURE,
+    PROFILES,
+    POPUP;
+
+    private final int mask = 1 << ordinal();
+
+    /**
+     * @return The bit of this kind of change.
+     */
+    public int mask() { return mask; }
+
+    /**
+     * @param changes A mask of changes.
+     * @return True if the mask contains this kind of change.
+     */
+    public boolean isIn(int changes) { return (changes & mask) != 0; }
+}
@@ -1,19 +1,18 @@
 package model;
 
-import java.util.Observable;
 import controller.AudioManager;
 
 /**
  * Represents the game's elevator, managing its state, movement between floors, and position.
- * It extends {@link Observable} to notify observers (like the view) of any changes to its state,
+ * It posts a {@link ChangeType#ELEVATOR} change on the {@link ChangeBus} whenever its state changes,
  * such as when it starts or stops moving.
  */
-@SuppressWarnings("deprecation")
-public class Elevator extends Observable {
+public class Elevator {
 
     private int currentFloor;
     private final int totalFloors;
     private float yPosition; 
+    private float prevYPosition;
     private boolean isMoving;
     
     private int spawnOffset = 174;
@@ -41,6 +40,7 @@ public class Elevator extends Observable {
         this.totalFloors = totalFloors;
         this.currentFloor = initialFloor;
         this.yPosition = floorYPositions[initialFloor - 1];
+        this.prevYPosition = yPosition;
         this.isMoving = false;
     }
 
@@ -54,8 +54,7 @@ public class Elevator extends Observable {
             AudioManager.getInstance().loop("elevator_moving");
             isMoving = true;
             
-            setChanged();
-            notifyObservers();
+            ChangeBus.getInstance().post(ChangeType.ELEVATOR);
         }
     }
 
@@ -69,8 +68,7 @@ public class Elevator extends Observable {
             AudioManager.getInstance().loop("elevator_moving");
             isMoving = true;
             
-            setChanged();
-            notifyObservers();
+            ChangeBus.getInstance().post(ChangeType.ELEVATOR);
         }
     }
     
@@ -90,11 +88,17 @@ public class Elevator extends Observable {
                 yPosition -= movementSpeed;
             }
             
-            setChanged();
-            notifyObservers();
+            ChangeBus.getInstance().post(ChangeType.ELEVATOR);
         }
     }
 
+    /**
+     * Records the current position as the previous simulation state for interpolation.
+     */
+    public void savePreviousPosition() {
+        prevYPosition = yPosition;
+    }
+
     // --- GETTERS ---
 
     public int getCurrentFloor() {
@@ -105,6 +109,10 @@ public class Elevator extends Observable {
         return yPosition;
     }
 
+    public float getPrevYPosition() {
+        return prevYPosition;
+    }
+
     public boolean isMoving() {
         return isMoving;
     }
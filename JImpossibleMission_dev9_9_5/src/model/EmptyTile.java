@@ -2,43 +2,37 @@ package model;
 
 import static model.TileTypes.EMPTY;
 import java.awt.geom.Rectangle2D;
-import java.awt.geom.Rectangle2D.Float;
 
 /**
  * Represents an empty, non-solid tile in the game world.
- * Entities can pass through it without collision.
+ * Entities can pass through it without collision. A single instance is shared by all the empty cells.
  */
-public class EmptyTile extends Tile {
+public class EmptyTile extends StaticTile {
 	private static final long serialVersionUID = 1L;
+	private static final EmptyTile instance = new EmptyTile();
 
-	/**
-     * Constructs an EmptyTile at the specified coordinates.
-     * @param x The x-coordinate of the tile.
-     * @param y The y-coordinate of the tile.
-     */
-	public EmptyTile(int x, int y) {
-		super(x, y);
-		solid = false;
-		initHitbox();
+	private EmptyTile() {
+		super(false);
 	}
 
-	@Override
-	protected void initHitbox() {
-		hitbox = new Rectangle2D.Float(x, y, width, height);
+	/**
+     * @return The shared EmptyTile.
+     */
+	public static EmptyTile getInstance() {
+		return instance;
 	}
 
-	@Override
-	public Float getHitbox() {
-		return hitbox;
+	private Object readResolve() {
+		return instance;
 	}
 
 	@Override
-	public boolean isSolid() {
-		return solid;
+	protected void initHitbox() {
+		hitbox = new Rectangle2D.Float(x, y, width, height);
 	}
 
 	@Override
 	public TileTypes getType() {
 		return EMPTY;
 	}
-}
\ No newline at end of file
+}
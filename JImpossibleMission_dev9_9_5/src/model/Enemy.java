@@ -16,12 +16,15 @@ public abstract class Enemy extends Entity {
     protected EnemyState currentState = EnemyState.IDLE;
     
     protected boolean isFacingRight = true;
-    protected long lastDirectionChangeTime;
     
     protected EnemyBehavior behavior;
     
     protected int speed = 0;
 
+    // Hitbox positions at which a walking enemy turns around, see Level
+    protected boolean hasPatrolBounds = false;
+    protected int patrolMinX, patrolMaxX;
+
     /**
      * Constructs a new Enemy.
      *
@@ -36,12 +39,11 @@ public abstract class Enemy extends Entity {
         this.width = width;
         this.height = height;
         this.enemyType = type;
-        this.lastDirectionChangeTime = System.currentTimeMillis();
     }
     
     /**
      * Updates the enemy's state and logic. This method is called on every game tick.
-     * @param currentTime The current system time in milliseconds.
+     * @param currentTime The current game time in milliseconds.
      * @param levelData   The data for the current level.
      * @param player      The player object, for interaction checks.
      */
@@ -73,6 +75,21 @@ public abstract class Enemy extends Entity {
      */
 	public abstract Rectangle2D.Float getAttackBox();
 	
+	/**
+     * @return The horizontal offset of the hitbox from the enemy's position, once updated.
+     */
+	protected abstract int getHitboxOffsetX();
+
+	/**
+     * @return The vertical offset of the hitbox from the enemy's position, once updated.
+     */
+	protected abstract int getHitboxOffsetY();
+
+	/**
+     * @return The distance covered by one call to {@link #move()}.
+     */
+	protected abstract int getStepSize();
+
 	/**
      * @param state The state for which to get the duration.
      * @return The duration in milliseconds for the given state.
@@ -84,6 +101,24 @@ public abstract class Enemy extends Entity {
      */
 	public abstract long getStateStartTime();
     
+    /**
+     * Sets the span a walking enemy patrols, as precomputed from the level geometry.
+     * @param minX The left side of the hitbox at which the enemy turns when facing left.
+     * @param maxX The right side of the hitbox at which the enemy turns when facing right.
+     */
+    public void setPatrolBounds(int minX, int maxX) {
+        this.patrolMinX = minX;
+        this.patrolMaxX = maxX;
+        this.hasPatrolBounds = true;
+    }
+
+    /**
+     * @return True if the enemy has reached the end of its patrol in the direction it faces.
+     */
+    public boolean isAtPatrolBound() {
+        return isFacingRight ? hitbox.x + hitbox.width >= patrolMaxX : hitbox.x <= patrolMinX;
+    }
+
     // --- GETTERS ---
     
     public int getAniIndex() { return aniIndex; }
@@ -92,4 +127,7 @@ public abstract class Enemy extends Entity {
     public boolean isFacingRight() { return isFacingRight; }
     public EnemyState getState() { return currentState; }
     public int getSpeed() { return speed; }
+    public boolean hasPatrolBounds() { return hasPatrolBounds; }
+    public int getPatrolMinX() { return patrolMinX; }
+    public int getPatrolMaxX() { return patrolMaxX; }
 }
\ No newline at end of file
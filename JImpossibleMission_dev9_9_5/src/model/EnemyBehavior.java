@@ -6,11 +6,16 @@ package model;
  * It orchestrates state transitions and holds shared data for the different states.
  */
 public interface EnemyBehavior {
+
+    /**
+     * Start time of a state whose timer starts on the next update, at the current game time.
+     */
+    long TIMER_NOT_STARTED = -1;
     
     /**
      * Updates the enemy's behavior logic.
      * @param enemy       The enemy entity.
-     * @param currentTime The current system time.
+     * @param currentTime The current game time.
      * @param levelData   The current level's data.
      * @param player      The player object.
      */
@@ -32,19 +37,27 @@ public interface EnemyBehavior {
      * Changes the enemy's current state to a new state.
      * @param newState    The new state handler.
      * @param enemy       The enemy entity.
-     * @param currentTime The current system time.
+     * @param currentTime The current game time.
      */
     void changeState(EnemyStateHandler newState, Enemy enemy, long currentTime);
+
+    /**
+     * Looks up, in the transition table of the behavior, the state that follows a timed state
+     * (idle, attacking or turning) whose duration has elapsed.
+     * @param finishedState The state that has just ended.
+     * @return The shared handler of the next state.
+     */
+    EnemyStateHandler getNextState(EnemyState finishedState);
     
     /**
      * Calculates the time elapsed since the current state was entered.
-     * @param currentTime The current system time.
+     * @param currentTime The current game time.
      * @return The elapsed time in milliseconds.
      */
     long getElapsed(long currentTime);
     
 	/**
-     * Resets the behavior to its initial state.
+     * Resets the behavior to its initial state, whose timer starts on the next update.
      * @param enemy The enemy entity.
      */
 	void resetBehavior(Enemy enemy);
@@ -4,6 +4,10 @@ package model;
  * Defines the contract for a specific state in an enemy's state machine.
  * Each implementation of this interface will manage the logic for one particular state,
  * such as Idle, Attacking, or Moving.
+ * <p>
+ * Handlers are stateless singletons shared by all enemies: the per-enemy data (current state,
+ * timer, position in a cycle) lives in the enemy and its {@link EnemyBehavior}, so changing
+ * state never allocates.
  */
 public interface EnemyStateHandler {
     
@@ -17,7 +21,7 @@ public interface EnemyStateHandler {
      * Called on every game tick while the enemy is in this state.
      * @param enemy       The enemy to update.
      * @param context     The behavior context that manages this state.
-     * @param currentTime The current system time.
+     * @param currentTime The current game time.
      * @param levelData   The current level's data.
      * @param player      The player object.
      */
@@ -28,4 +32,17 @@ public interface EnemyStateHandler {
      * @param enemy The enemy exiting the state.
      */
     void exit(Enemy enemy);
+
+    /**
+     * @param state A state of the enemy state machine.
+     * @return The shared handler of the state.
+     */
+    static EnemyStateHandler forState(EnemyState state) {
+        switch (state) {
+            case MOVING: return MovingState.getInstance();
+            case TURNING: return TurningState.getInstance();
+            case ATTACKING: return AttackingState.getInstance();
+            default: return IdleState.getInstance();
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,281 @@
+package model;
+
+import static model.GameConstants.SCALE;
+import controller.AudioManager;
+import java.awt.geom.Rectangle2D;
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * An optional struct-of-arrays store for the enemies of a level, enabled with {@code -Djim.enemies=soa}.
+ * Positions, hitboxes and attack boxes are kept in float arrays and the state, direction and type
+ * in byte arrays, and every enemy type is updated by its own tight loop over its indices, with no
+ * virtual call, no handler object and no allocation.
+ * <p>
+ * When the store is enabled it is the authoritative state of the enemies: the {@link Enemy} objects
+ * of the level only provide the initial configuration and the reset positions, and everything that
+ * reads enemies during the game (collisions, broadphase, snapshot) goes through the store.
+ * The update rules are the same as the ones of the state handlers and behaviors, whose transition
+ * tables and edge checks are shared.
+ */
+public class EnemyStore implements Serializable {
+	private static final long serialVersionUID = 1L;
+
+	private static final boolean ENABLED = "soa".equals(System.getProperty("jim.enemies"));
+
+	private static final EnemyState[] STATES = EnemyState.values();
+	private static final byte IDLE = (byte) EnemyState.IDLE.ordinal();
+	private static final byte MOVING = (byte) EnemyState.MOVING.ordinal();
+	private static final byte TURNING = (byte) EnemyState.TURNING.ordinal();
+	private static final byte ATTACKING = (byte) EnemyState.ATTACKING.ordinal();
+	private static final byte RIGHT = (byte) Directions.RIGHT.ordinal();
+	private static final byte LEFT = (byte) Directions.LEFT.ordinal();
+
+	private final List<Enemy> enemies;
+	private final int count;
+
+	// Configuration
+	private final byte[] type;
+	private final int[] hbOffsetX, hbOffsetY;
+	private final int[] stepSize, lookAhead;
+	private final boolean[] hasPatrolBounds;
+	private final int[] patrolMinX, patrolMaxX;
+	private final long[] durations; // 4 per enemy, indexed by state ordinal
+
+	// State
+	private final float[] x, y, prevX, prevY;
+	private final float[] hbX, hbY, hbW, hbH;
+	private final float[] abX, abY, abW, abH;
+	private final byte[] state, direction, step;
+	private final long[] stateStart;
+
+	// Indices of the enemies of each type
+	private final int[] movingRobots, standingRobots;
+	private int movingRobotCount, standingRobotCount;
+
+	/**
+	 * @return True if the levels store their enemies in an EnemyStore.
+	 */
+	public static boolean isEnabled() {
+		return ENABLED;
+	}
+
+	/**
+	 * Builds the store from the enemies of a level, in their initial state.
+	 * @param enemies The enemies of the level, whose indices are kept.
+	 */
+	public EnemyStore(List<Enemy> enemies) {
+		this.enemies = enemies;
+		this.count = enemies.size();
+		type = new byte[count];
+		hbOffsetX = new int[count];
+		hbOffsetY = new int[count];
+		stepSize = new int[count];
+		lookAhead = new int[count];
+		hasPatrolBounds = new boolean[count];
+		patrolMinX = new int[count];
+		patrolMaxX = new int[count];
+		durations = new long[count * STATES.length];
+		x = new float[count];
+		y = new float[count];
+		prevX = new float[count];
+		prevY = new float[count];
+		hbX = new float[count];
+		hbY = new float[count];
+		hbW = new float[count];
+		hbH = new float[count];
+		abX = new float[count];
+		abY = new float[count];
+		abW = new float[count];
+		abH = new float[count];
+		state = new byte[count];
+		direction = new byte[count];
+		step = new byte[count];
+		stateStart = new long[count];
+		movingRobots = new int[count];
+		standingRobots = new int[count];
+
+		for (int i = 0; i < count; i++) {
+			Enemy enemy = enemies.get(i);
+			type[i] = (byte) enemy.getEnemyType().ordinal();
+			hbOffsetX[i] = enemy.getHitboxOffsetX();
+			hbOffsetY[i] = enemy.getHitboxOffsetY();
+			stepSize[i] = enemy.getStepSize();
+			lookAhead[i] = enemy.getSpeed();
+			hasPatrolBounds[i] = enemy.hasPatrolBounds();
+			patrolMinX[i] = enemy.getPatrolMinX();
+			patrolMaxX[i] = enemy.getPatrolMaxX();
+			for (EnemyState s : STATES) {
+				durations[i * STATES.length + s.ordinal()] = enemy.getDurationForState(s);
+			}
+			if (enemy.getEnemyType() == EnemyType.MOVING_ROBOT) {
+				movingRobots[movingRobotCount++] = i;
+			} else {
+				standingRobots[standingRobotCount++] = i;
+			}
+			load(i);
+		}
+	}
+
+	/**
+	 * Copies the position, boxes and state of an enemy object into the arrays.
+	 * @param i The index of the enemy.
+	 */
+	private void load(int i) {
+		Enemy enemy = enemies.get(i);
+		x[i] = enemy.getX();
+		y[i] = enemy.getY();
+		prevX[i] = enemy.getPrevX();
+		prevY[i] = enemy.getPrevY();
+		Rectangle2D.Float hitbox = enemy.getHitbox();
+		hbX[i] = hitbox.x;
+		hbY[i] = hitbox.y;
+		hbW[i] = hitbox.width;
+		hbH[i] = hitbox.height;
+		Rectangle2D.Float attackBox = enemy.getAttackBox();
+		abX[i] = attackBox.x;
+		abY[i] = attackBox.y;
+		abW[i] = attackBox.width;
+		abH[i] = attackBox.height;
+		state[i] = (byte) enemy.getState().ordinal();
+		direction[i] = (byte) enemy.getDirection().ordinal();
+		stateStart[i] = enemy.getStateStartTime();
+	}
+
+	/**
+	 * Updates every enemy for one tick.
+	 *
+	 * @param currentTime The current game time, in milliseconds.
+	 * @param level       The level the enemies are in.
+	 * @param player      The player.
+	 */
+	public void update(long currentTime, Level level, Player player) {
+		Rectangle2D.Float playerHb = player.getHitbox();
+		for (int k = 0; k < movingRobotCount; k++) {
+			updateMovingRobot(movingRobots[k], currentTime, level, playerHb);
+		}
+		for (int k = 0; k < standingRobotCount; k++) {
+			updateStandingRobot(standingRobots[k], currentTime);
+		}
+	}
+
+	private void updateMovingRobot(int i, long currentTime, Level level, Rectangle2D.Float playerHb) {
+		if (stateStart[i] == EnemyBehavior.TIMER_NOT_STARTED) {
+			stateStart[i] = currentTime;
+		}
+		if (state[i] == MOVING) {
+			boolean facingRight = direction[i] == RIGHT;
+			double minX = hbX[i];
+			double maxX = minX + hbW[i];
+			if (playerHb.intersects(abX[i], abY[i], abW[i], abH[i])) {
+				changeState(i, IDLE, currentTime);
+			} else if (hasPatrolBounds[i] ? (facingRight ? maxX >= patrolMaxX[i] : minX <= patrolMinX[i])
+					: MovingState.isAtEdge(minX, maxX, (double) hbY[i] + hbH[i], facingRight, lookAhead[i], level)
+					|| MovingState.isFacingWall(minX, maxX, hbY[i], facingRight, lookAhead[i], level)) {
+				changeState(i, TURNING, currentTime);
+			} else {
+				x[i] += facingRight ? stepSize[i] : -stepSize[i];
+			}
+		} else if (currentTime - stateStart[i] >= durations[i * STATES.length + state[i]]) {
+			changeState(i, (byte) MovingRobotBehavior.NEXT_STATES[state[i]].ordinal(), currentTime);
+		}
+		updateBoxes(i);
+	}
+
+	private void updateStandingRobot(int i, long currentTime) {
+		if (stateStart[i] == EnemyBehavior.TIMER_NOT_STARTED) {
+			stateStart[i] = currentTime;
+		}
+		if (currentTime - stateStart[i] >= durations[i * STATES.length + state[i]]) {
+			step[i] = (byte) StandingRobotBehavior.NEXT_STEPS[state[i]][step[i]];
+			changeState(i, (byte) StandingRobotBehavior.CYCLE[step[i]].ordinal(), currentTime);
+		}
+		updateBoxes(i);
+	}
+
+	/**
+	 * Leaves the current state of an enemy and enters a new one, with the same side effects as the state handlers.
+	 */
+	private void changeState(int i, byte newState, long currentTime) {
+		if (state[i] == ATTACKING) {
+			AudioManager.getInstance().stop("energy_beam");
+		} else if (state[i] == MOVING) {
+			AudioManager.getInstance().stop("robot_bleep");
+		}
+		state[i] = newState;
+		if (newState == ATTACKING) {
+			AudioManager.getInstance().loop("energy_beam");
+		} else if (newState == MOVING) {
+			AudioManager.getInstance().loop("robot_bleep");
+		} else if (newState == TURNING) {
+			direction[i] = direction[i] == RIGHT ? LEFT : RIGHT;
+		}
+		stateStart[i] = currentTime;
+	}
+
+	/**
+	 * Moves the hitbox and the attack box of an enemy to its position and direction.
+	 */
+	private void updateBoxes(int i) {
+		hbX[i] = x[i] + hbOffsetX[i];
+		hbY[i] = y[i] + hbOffsetY[i];
+		abY[i] = hbY[i];
+		if (direction[i] == RIGHT) {
+			abX[i] = hbX[i] + hbW[i] - SCALE;
+		} else {
+			abX[i] = hbX[i] + SCALE - abW[i];
+		}
+	}
+
+	/**
+	 * Puts every enemy back to its spawn point and restarts its state machine.
+	 * The position in the cycle of the standing robots is kept, as in {@link StandingRobotBehavior}.
+	 */
+	public void resetAll() {
+		for (int i = 0; i < count; i++) {
+			changeState(i, IDLE, EnemyBehavior.TIMER_NOT_STARTED);
+			enemies.get(i).resetPosition();
+			load(i);
+		}
+	}
+
+	/**
+	 * Stores the current position of every enemy as its previous simulation state.
+	 */
+	public void savePreviousPositions() {
+		System.arraycopy(x, 0, prevX, 0, count);
+		System.arraycopy(y, 0, prevY, 0, count);
+	}
+
+	/**
+	 * Checks if an enemy touches an area with its body, or with its beam while attacking.
+	 *
+	 * @param i    The index of the enemy.
+	 * @param area The area, usually the player's hitbox.
+	 * @return True if the enemy touches the area.
+	 */
+	public boolean touches(int i, Rectangle2D.Float area) {
+		return area.intersects(hbX[i], hbY[i], hbW[i], hbH[i])
+				|| (state[i] == ATTACKING && area.intersects(abX[i], abY[i], abW[i], abH[i]));
+	}
+
+	// --- GETTERS ---
+
+	public int getCount() { return count; }
+	public int getX(int i) { return (int) x[i]; }
+	public int getY(int i) { return (int) y[i]; }
+	public int getPrevX(int i) { return (int) prevX[i]; }
+	public int getPrevY(int i) { return (int) prevY[i]; }
+	public float getHitboxX(int i) { return hbX[i]; }
+	public float getHitboxY(int i) { return hbY[i]; }
+	public float getHitboxWidth(int i) { return hbW[i]; }
+	public float getHitboxHeight(int i) { return hbH[i]; }
+	public float getAttackBoxX(int i) { return abX[i]; }
+	public float getAttackBoxY(int i) { return abY[i]; }
+	public float getAttackBoxWidth(int i) { return abW[i]; }
+	public float getAttackBoxHeight(int i) { return abH[i]; }
+	public EnemyState getState(int i) { return STATES[state[i]]; }
+	public Directions getDirection(int i) { return direction[i] == RIGHT ? Directions.RIGHT : Directions.LEFT; }
+	public long getStateStartTime(int i) { return stateStart[i]; }
+	public long getDurationForState(int i, EnemyState s) { return durations[i * STATES.length + s.ordinal()]; }
+}
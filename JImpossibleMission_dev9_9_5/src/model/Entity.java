@@ -3,19 +3,17 @@ package model;
 import java.awt.Point;
 import java.awt.geom.Rectangle2D;
 import java.io.Serializable;
-import java.util.Observable;
 import static model.GameConstants.*;
 
 /**
  * An abstract base class for all dynamic game objects, such as the player and enemies.
  * It provides fundamental properties like position, dimensions, and a hitbox.
- * It extends {@link Observable} to allow other parts of the application (like the view)
- * to be notified of its state changes.
+ * Subclasses report their state changes on the {@link ChangeBus}.
  */
-@SuppressWarnings("deprecation")
-public abstract class Entity extends Observable implements Serializable {
+public abstract class Entity implements Serializable {
 	private static final long serialVersionUID = 1L;
 	protected int x, y;
+	protected int prevX, prevY;
     protected int width, height;
     protected Rectangle2D.Float hitbox;
 
@@ -26,6 +24,8 @@ public abstract class Entity extends Observable implements Serializable {
     public Entity(Point initialSpawn) {
         this.x = initialSpawn.x;
         this.y = initialSpawn.y;
+        this.prevX = x;
+        this.prevY = y;
         this.width = 32 * (int)SCALE;
         this.height = 32 * (int)SCALE;
     }
@@ -45,6 +45,16 @@ public abstract class Entity extends Observable implements Serializable {
         hitbox.y = y;
     }
     
+    /**
+     * Records the current position as the previous simulation state.
+     * Called at the start of every tick so the renderer can interpolate between
+     * the last two states.
+     */
+    public void savePreviousPosition() {
+        prevX = x;
+        prevY = y;
+    }
+
     // --- GETTERS ---
 
     public int getX() {
@@ -54,6 +64,14 @@ public abstract class Entity extends Observable implements Serializable {
     public int getY() {
         return y;
     }
+
+    public int getPrevX() {
+        return prevX;
+    }
+
+    public int getPrevY() {
+        return prevY;
+    }
     
     public int getWidth() {
         return width;
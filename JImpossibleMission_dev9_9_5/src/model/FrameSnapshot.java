@@ -0,0 +1,234 @@
+package model;
+
+import static model.GameConstants.FPS_SET;
+import java.util.List;
+
+/**
+ * An immutable-once-published copy of everything the in-game views need to draw a frame.
+ * The game thread fills a snapshot at the end of every tick and hands it to the Event Dispatch
+ * Thread through a {@link SnapshotBuffer}, so the views never read live model objects while
+ * the simulation is changing them.
+ * Instances are reused from tick to tick: the per-entity data is kept in primitive arrays that
+ * only grow when a room contains more entities than any room seen before.
+ */
+public class FrameSnapshot {
+
+	private static final float TICK_NANOS = 1_000_000_000f / FPS_SET;
+
+	private long tickNanos;
+	private long gameTimeMs;
+	private GameState gameState;
+	private GameState stateBeforePause;
+	private int fps;
+
+	// HUD
+	private boolean hasSession;
+	private int lives;
+	private int puzzlePieces;
+	private long timeLeftMs;
+
+	// Player
+	private int playerPrevX, playerPrevY, playerX, playerY;
+	private int playerWidth, playerHeight;
+	private PlayerState playerState;
+	private Directions playerDirection;
+
+	// Elevator
+	private float elevatorPrevY, elevatorY;
+
+	// Current room: the tile grid itself is static, only the dynamic parts are copied
+	private Level level;
+	private int liftCount;
+	private int[] liftPrevY = new int[8];
+	private int[] liftY = new int[8];
+	private int furnitureCount;
+	private boolean[] furnitureVanished = new boolean[16];
+
+	// Enemies
+	private int enemyCount;
+	private EnemyType[] enemyType = new EnemyType[16];
+	private EnemyState[] enemyState = new EnemyState[16];
+	private Directions[] enemyDirection = new Directions[16];
+	private int[] enemyPrevX = new int[16];
+	private int[] enemyPrevY = new int[16];
+	private int[] enemyX = new int[16];
+	private int[] enemyY = new int[16];
+	private int[] enemyWidth = new int[16];
+	private int[] enemyHeight = new int[16];
+	private long[] enemyStateStart = new long[16];
+	private long[] enemyStateDuration = new long[16];
+
+	/**
+	 * Copies the current state of the model into this snapshot.
+	 * Must be called on the game thread, between two ticks.
+	 *
+	 * @param gameModel The model to capture.
+	 */
+	public void capture(GameModel gameModel) {
+		tickNanos = System.nanoTime();
+		gameTimeMs = gameModel.getClock().millis();
+		gameState = gameModel.getGameState();
+		stateBeforePause = gameModel.getStateBeforePause();
+		fps = gameModel.getCurrentFps();
+
+		GameSession session = gameModel.getCurrentGameSession();
+		hasSession = session != null;
+		if (hasSession) {
+			lives = session.getLives();
+			puzzlePieces = session.getPuzzlePiecesFound();
+			timeLeftMs = session.getTimeLeft();
+		}
+
+		Player player = gameModel.getPlayer();
+		playerPrevX = player.getPrevX();
+		playerPrevY = player.getPrevY();
+		playerX = player.getX();
+		playerY = player.getY();
+		playerWidth = player.getWidth();
+		playerHeight = player.getHeight();
+		playerState = player.getCurrentState();
+		playerDirection = player.getDirection();
+
+		Elevator elevator = gameModel.getElevator();
+		elevatorPrevY = elevator.getPrevYPosition();
+		elevatorY = elevator.getYPosition();
+
+		level = gameModel.getLevel();
+		captureLevel();
+	}
+
+	/**
+	 * Copies the dynamic parts of the current room: lift positions, vanished furniture and enemies.
+	 */
+	private void captureLevel() {
+		liftCount = 0;
+		furnitureCount = 0;
+		enemyCount = 0;
+		if (level == null) {
+			return;
+		}
+
+		List<LiftTile> lifts = level.getLifts();
+		liftCount = lifts.size();
+		if (liftY.length < liftCount) {
+			liftPrevY = new int[liftCount];
+			liftY = new int[liftCount];
+		}
+		for (int i = 0; i < liftCount; i++) {
+			LiftTile lift = lifts.get(i);
+			liftPrevY[i] = lift.getPrevY();
+			liftY[i] = (int) lift.getHitbox().y;
+		}
+
+		List<FurnitureTile> furniture = level.getFurniture();
+		furnitureCount = furniture.size();
+		if (furnitureVanished.length < furnitureCount) {
+			furnitureVanished = new boolean[furnitureCount];
+		}
+		for (int i = 0; i < furnitureCount; i++) {
+			furnitureVanished[i] = furniture.get(i).isVanished();
+		}
+
+		List<Enemy> enemies = level.getEnemies();
+		enemyCount = enemies.size();
+		if (enemyX.length < enemyCount) {
+			growEnemyArrays(enemyCount);
+		}
+		EnemyStore store = level.getEnemyStore();
+		for (int i = 0; i < enemyCount; i++) {
+			Enemy enemy = enemies.get(i);
+			enemyType[i] = enemy.getEnemyType();
+			enemyWidth[i] = enemy.getWidth();
+			enemyHeight[i] = enemy.getHeight();
+			if (store != null) {
+				enemyState[i] = store.getState(i);
+				enemyDirection[i] = store.getDirection(i);
+				enemyPrevX[i] = store.getPrevX(i);
+				enemyPrevY[i] = store.getPrevY(i);
+				enemyX[i] = store.getX(i);
+				enemyY[i] = store.getY(i);
+				enemyStateStart[i] = store.getStateStartTime(i);
+				enemyStateDuration[i] = store.getDurationForState(i, store.getState(i));
+			} else {
+				enemyState[i] = enemy.getState();
+				enemyDirection[i] = enemy.getDirection();
+				enemyPrevX[i] = enemy.getPrevX();
+				enemyPrevY[i] = enemy.getPrevY();
+				enemyX[i] = enemy.getX();
+				enemyY[i] = enemy.getY();
+				enemyStateStart[i] = enemy.getStateStartTime();
+				enemyStateDuration[i] = enemy.getDurationForState(enemy.getState());
+			}
+		}
+	}
+
+	/**
+	 * Reallocates the enemy arrays for a room with more enemies than any room seen so far.
+	 * @param capacity The minimum number of enemies to hold.
+	 */
+	private void growEnemyArrays(int capacity) {
+		enemyType = new EnemyType[capacity];
+		enemyState = new EnemyState[capacity];
+		enemyDirection = new Directions[capacity];
+		enemyPrevX = new int[capacity];
+		enemyPrevY = new int[capacity];
+		enemyX = new int[capacity];
+		enemyY = new int[capacity];
+		enemyWidth = new int[capacity];
+		enemyHeight = new int[capacity];
+		enemyStateStart = new long[capacity];
+		enemyStateDuration = new long[capacity];
+	}
+
+	/**
+	 * Computes how far the renderer is between this snapshot's tick and the next one.
+	 * @return A value between 0 (previous state) and 1 (current state).
+	 */
+	public float getInterpolationAlpha() {
+		float alpha = (System.nanoTime() - tickNanos) / TICK_NANOS;
+		return Math.max(0f, Math.min(1f, alpha));
+	}
+
+	private static float lerp(float from, float to, float alpha) {
+		return from + (to - from) * alpha;
+	}
+
+	// --- GETTERS ---
+
+	public long getTickNanos() { return tickNanos; }
+	public long getGameTimeMs() { return gameTimeMs; }
+	public GameState getGameState() { return gameState; }
+	public GameState getStateBeforePause() { return stateBeforePause; }
+	public int getFps() { return fps; }
+
+	public boolean hasSession() { return hasSession; }
+	public int getLives() { return lives; }
+	public int getPuzzlePieces() { return puzzlePieces; }
+	public long getTimeLeftMs() { return timeLeftMs; }
+
+	public float getPlayerRenderX(float alpha) { return lerp(playerPrevX, playerX, alpha); }
+	public float getPlayerRenderY(float alpha) { return lerp(playerPrevY, playerY, alpha); }
+	public int getPlayerWidth() { return playerWidth; }
+	public int getPlayerHeight() { return playerHeight; }
+	public PlayerState getPlayerState() { return playerState; }
+	public Directions getPlayerDirection() { return playerDirection; }
+
+	public float getElevatorRenderY(float alpha) { return lerp(elevatorPrevY, elevatorY, alpha); }
+
+	public Level getLevel() { return level; }
+	public int getLiftCount() { return liftCount; }
+	public float getLiftRenderY(int i, float alpha) { return lerp(liftPrevY[i], liftY[i], alpha); }
+	public int getFurnitureCount() { return furnitureCount; }
+	public boolean isFurnitureVanished(int i) { return furnitureVanished[i]; }
+
+	public int getEnemyCount() { return enemyCount; }
+	public EnemyType getEnemyType(int i) { return enemyType[i]; }
+	public EnemyState getEnemyState(int i) { return enemyState[i]; }
+	public Directions getEnemyDirection(int i) { return enemyDirection[i]; }
+	public float getEnemyRenderX(int i, float alpha) { return lerp(enemyPrevX[i], enemyX[i], alpha); }
+	public float getEnemyRenderY(int i, float alpha) { return lerp(enemyPrevY[i], enemyY[i], alpha); }
+	public int getEnemyWidth(int i) { return enemyWidth[i]; }
+	public int getEnemyHeight(int i) { return enemyHeight[i]; }
+	public long getEnemyStateStart(int i) { return enemyStateStart[i]; }
+	public long getEnemyStateDuration(int i) { return enemyStateDuration[i]; }
+}
@@ -9,7 +9,6 @@ import java.awt.geom.Rectangle2D;
  * Furniture can be searched by the player, may contain a puzzle piece,
  * and can "vanish" after being searched.
  */
-@SuppressWarnings("deprecation")
 public class FurnitureTile extends Tile {
 	private static final long serialVersionUID = 1L;
 	
@@ -26,8 +25,18 @@ public class FurnitureTile extends Tile {
      * @param y The y-coordinate of the tile.
      */
     public FurnitureTile(int x, int y) {
+        this(x, y, randomType());
+    }
+    
+    /**
+     * Constructs a FurnitureTile at a given position with the given furniture type.
+     * @param x The x-coordinate of the tile.
+     * @param y The y-coordinate of the tile.
+     * @param type The furniture type.
+     */
+    public FurnitureTile(int x, int y, FurnitureType type) {
         super(x, y);
-        this.type = randomType();
+        this.type = type;
         solid = false;
         initHitbox();
     }
@@ -44,8 +53,7 @@ public class FurnitureTile extends Tile {
     public void updateSearchProgress(float delta) {
         if (isSearching) {
             searchProgress += delta;
-            setChanged();
-            notifyObservers();
+            ChangeBus.getInstance().post(ChangeType.FURNITURE);
         }
     }
     
@@ -54,8 +62,7 @@ public class FurnitureTile extends Tile {
      */
     public void vanish() {
         this.isVanished = true;
-        setChanged();
-        notifyObservers();
+        ChangeBus.getInstance().post(ChangeType.FURNITURE);
     }
     
     // --- GETTERS AND SETTERS ---
@@ -41,6 +41,14 @@ public enum FurnitureType {
      * @return A randomly selected FurnitureType.
      */
     public static FurnitureType randomType() {
-    	return TYPES.get(rnd.nextInt(SIZE));
+    	return randomType(rnd);
+    }
+    
+    /**
+     * @param random The random generator to draw from.
+     * @return A FurnitureType selected with the given generator.
+     */
+    public static FurnitureType randomType(Random random) {
+    	return TYPES.get(random.nextInt(SIZE));
     }
 }
\ No newline at end of file
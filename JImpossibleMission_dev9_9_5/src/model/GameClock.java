@@ -0,0 +1,45 @@
+package model;
+
+import static model.GameConstants.FPS_SET;
+
+/**
+ * The time source of the simulation.
+ * Instead of reading the system clock, every timer of the game (session time limit, enemy states,
+ * freeze effect) reads this clock, which advances by exactly one tick duration per game tick.
+ * Game time therefore stops while the game is paused, runs faster than real time when ticks are
+ * simulated faster than real time, and is identical between two runs fed with the same inputs.
+ */
+public class GameClock {
+
+    private final long tickNanos;
+    private long elapsedNanos = 0;
+
+    /**
+     * Constructs a GameClock advancing at the game's tick rate, {@code FPS_SET}.
+     */
+    public GameClock() {
+        this(FPS_SET);
+    }
+
+    /**
+     * Constructs a GameClock.
+     * @param ticksPerSecond The number of ticks per second of game time.
+     */
+    public GameClock(int ticksPerSecond) {
+        this.tickNanos = 1_000_000_000L / ticksPerSecond;
+    }
+
+    /**
+     * Advances the clock by the duration of one tick.
+     */
+    public void tick() {
+        elapsedNanos += tickNanos;
+    }
+
+    /**
+     * @return The game time elapsed since the clock was created, in milliseconds.
+     */
+    public long millis() {
+        return elapsedNanos / 1_000_000;
+    }
+}
@@ -8,6 +8,13 @@ package model;
 public abstract class GameConstants {
     
 	public final static int FPS_SET = 120;
+	// Frames drawn per second, independent of the logic rate; 0 means uncapped.
+	// Can be overridden at launch with -Djim.renderFps=<value>.
+	public final static int RENDER_FPS_SET = Integer.getInteger("jim.renderFps", 60);
+	// With -Djim.renderer=active, frames are drawn and flipped by the render loop on a Canvas
+	// (view.GameCanvas) instead of being painted by Swing, with 2 or 3 buffers (-Djim.renderBuffers).
+	public final static boolean ACTIVE_RENDERING = "active".equals(System.getProperty("jim.renderer"));
+	public final static int RENDER_BUFFERS = Math.max(2, Math.min(3, Integer.getInteger("jim.renderBuffers", 3)));
 	
 	public final static int TILES_DEFAULT_SIZE = 32;
 	public final static float SCALE = 2f;
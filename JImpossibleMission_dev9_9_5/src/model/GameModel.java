@@ -4,7 +4,6 @@ import static model.GameConstants.LOGIC_WIDTH;
 import static model.GameConstants.LOGIC_HEIGHT;
 import java.awt.Point;
 import java.util.List;
-import java.util.Observable;
 import controller.AudioManager;
 
 
@@ -12,14 +11,13 @@ import controller.AudioManager;
  * The central data model for the entire game.
  * It holds the state of all major game components, including the player, elevator,
  * current level, and active game session. It acts as the "single source of truth".
- * It extends {@link Observable} and notifies its observers (typically the main view)
- * whenever the game state changes.
+ * It posts a {@link ChangeType#GAME} change on the {@link ChangeBus} whenever the game state changes.
  */
-@SuppressWarnings("deprecation")
-public class GameModel extends Observable {
+public class GameModel {
     private Player player;
     private Elevator elevator;
     private Level level;
+    private GameClock clock;
     private GameState gameState;
     private UserProfile activeProfile;
 
@@ -34,11 +32,13 @@ public class GameModel extends Observable {
      * @param player The player entity.
      * @param elevator The elevator entity.
      * @param session The initial game session object.
+     * @param clock The clock providing the game time to every timer of the model.
      */
-    public GameModel(Player player, Elevator elevator, GameSession session) {
+    public GameModel(Player player, Elevator elevator, GameSession session, GameClock clock) {
         this.player = player;
         this.level = null;
         this.elevator = elevator;
+        this.clock = clock;
         this.gameState = GameState.PROFILE_SELECTION;
         this.activeProfile = null;
         
@@ -50,12 +50,28 @@ public class GameModel extends Observable {
      * This creates a new {@link GameSession} and sets the game state to IN_ELEVATOR.
      */
     public void startNewGame() {
+        startNewGame(new GameSession(clock));
+    }
+    
+    /**
+     * Starts a new game for the currently active profile, with reproducible levels.
+     * @param seed The seed from which the levels of the session are generated.
+     */
+    public void startNewGame(long seed) {
+        startNewGame(new GameSession(clock, seed));
+    }
+    
+    /**
+     * Makes the given session the current one and moves the player into the elevator.
+     * @param newSession The session of the new game.
+     */
+    private void startNewGame(GameSession newSession) {
         if (activeProfile != null) {
         	AudioManager.getInstance().stopMenuMusic();
         	
-            GameSession newSession = new GameSession();
             activeProfile.startGame(newSession);
             this.currentGameSession = newSession;
+            newSession.prefetchFloor(elevator.getCurrentFloor());
             setGameState(GameState.IN_ELEVATOR);
         }
     }
@@ -106,8 +122,7 @@ public class GameModel extends Observable {
     public void addPuzzlePiece() {
         currentGameSession.addPuzzlePiece();
         AudioManager.getInstance().play("piece_found");
-        setChanged();
-        notifyObservers();
+        ChangeBus.getInstance().post(ChangeType.GAME);
     }
     
     /**
@@ -120,8 +135,7 @@ public class GameModel extends Observable {
         AudioManager.getInstance().stopAllSounds();
         AudioManager.getInstance().play("death");
         player.teleport(level.getPlayerSpawn().x, level.getPlayerSpawn().y);
-        setChanged();
-        notifyObservers();
+        ChangeBus.getInstance().post(ChangeType.GAME);
     }
     
     /**
@@ -137,9 +151,14 @@ public class GameModel extends Observable {
      * Resets the positions of all enemies in the current level to their starting points.
      */
     public void resetAllEnemiesPosition() {
-    	for (Enemy enemy : level.getEnemies()) {
-    		enemy.resetPosition();
+    	if (level.getEnemyStore() != null) {
+    		level.getEnemyStore().resetAll();
+    	} else {
+    		for (Enemy enemy : level.getEnemies()) {
+    			enemy.resetPosition();
+    		}
     	}
+    	level.updateEnemyCells();
     }
     
     /**
@@ -148,10 +167,37 @@ public class GameModel extends Observable {
      */
     public void freezeEnemies(long durationSec) {
         if (this.level != null) {
-            this.level.freezeEnemies(durationSec);
+            this.level.freezeEnemies(durationSec, clock.millis());
             AudioManager.getInstance().play("freeze");
-            setChanged();
-            notifyObservers();
+            ChangeBus.getInstance().post(ChangeType.GAME);
+        }
+    }
+    
+    /**
+     * Advances the game time by one tick. Game time does not pass while the game is paused.
+     */
+    public void advanceClock() {
+        if (gameState != GameState.PAUSED) {
+            clock.tick();
+        }
+    }
+    
+    /**
+     * Stores the current position of every moving object as its previous simulation state.
+     * Called by the controller at the start of each tick, before anything moves.
+     */
+    public void savePreviousPositions() {
+        player.savePreviousPosition();
+        elevator.savePreviousPosition();
+        if (level != null && level.getEnemyStore() != null) {
+            level.getEnemyStore().savePreviousPositions();
+        } else {
+            for (Enemy enemy : getEnemies()) {
+                enemy.savePreviousPosition();
+            }
+        }
+        for (LiftTile lift : getLifts()) {
+            lift.savePreviousPosition();
         }
     }
     
@@ -159,8 +205,7 @@ public class GameModel extends Observable {
     
     public void setActiveProfile(UserProfile profile) {
         this.activeProfile = profile;
-        setChanged();
-        notifyObservers();
+        ChangeBus.getInstance().post(ChangeType.GAME);
     }
 
     public UserProfile getActiveProfile() { return this.activeProfile; }
@@ -169,6 +214,7 @@ public class GameModel extends Observable {
     public Elevator getElevator() { return this.elevator; }
     public Player getPlayer() { return player; }
     public Level getLevel() { return level; }
+    public GameClock getClock() { return clock; }
     public List<LiftTile> getLifts() { return (level != null) ? level.getLifts() : java.util.Collections.emptyList(); }
     public List<PcTile> getPcTiles() { return (level != null) ? level.getPcs() : java.util.Collections.emptyList(); }
     public List<FurnitureTile> getFurnitureTiles() { return (level != null) ? level.getFurniture() : java.util.Collections.emptyList(); }
@@ -181,8 +227,7 @@ public class GameModel extends Observable {
     
     public void setGameState(GameState gameState) {
         this.gameState = gameState;
-        setChanged();
-        notifyObservers();
+        ChangeBus.getInstance().post(ChangeType.GAME);
     }
     
     public void setStateBeforePause(GameState state) { this.stateBeforePause = state; }
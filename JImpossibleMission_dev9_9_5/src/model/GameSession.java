@@ -1,8 +1,15 @@
 package model;
 
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import controller.LevelLoader;
 
 /**
@@ -16,6 +23,7 @@ public class GameSession implements Serializable {
 	private int lives;
     private int puzzlePiecesFound;
     
+    private transient GameClock clock;
     private long startTime;
     private long finalPlaytimeMs = -1; // -1 means the timer is still running
     public static final long TIME_LIMIT_MS = 20 * 60 * 1000; // 20 minutes
@@ -25,15 +33,45 @@ public class GameSession implements Serializable {
     
     // A map to cache levels that have already been loaded in this session.
     private Map<Integer, Level> loadedLevels;
+    
+    // Levels being built in the background, by level number. Only touched by the game thread.
+    private transient Map<Integer, Future<Level>> prefetchedLevels;
+    
+    // A single daemon thread builds the upcoming rooms of every game running in this JVM
+    private static final ExecutorService PREFETCHER = Executors.newSingleThreadExecutor(task -> {
+        Thread thread = new Thread(task, "LevelPrefetch");
+        thread.setDaemon(true);
+        return thread;
+    });
+    
+    // Every random property of the levels derives from this seed
+    private final long seed;
+    
+    // Statistics of the session
+    private Map<Integer, Integer> deathsPerLevel = new HashMap<>();
+    private List<Long> pieceFoundTimes = new ArrayList<>();
+
+    /**
+     * Constructs a new GameSession with default starting values and a random seed.
+     * @param clock The game clock measuring the session time.
+     */
+    public GameSession(GameClock clock) {
+        this(clock, new Random().nextLong());
+    }
 
     /**
      * Constructs a new GameSession with default starting values.
+     * Two sessions with the same seed generate identical levels.
+     * @param clock The game clock measuring the session time.
+     * @param seed The seed of the level generation.
      */
-    public GameSession() {
+    public GameSession(GameClock clock, long seed) {
         this.lives = 3;
         this.puzzlePiecesFound = 0;
         this.loadedLevels = new HashMap<>();
-        this.startTime = System.currentTimeMillis();
+        this.clock = clock;
+        this.startTime = clock.millis();
+        this.seed = seed;
     }
     
     /**
@@ -41,7 +79,7 @@ public class GameSession implements Serializable {
      */
     public void stopTimer() {
         if (finalPlaytimeMs == -1) {
-            this.finalPlaytimeMs = System.currentTimeMillis() - startTime;
+            this.finalPlaytimeMs = clock.millis() - startTime;
         }
     }
 
@@ -53,7 +91,7 @@ public class GameSession implements Serializable {
         if (finalPlaytimeMs != -1) {
             return finalPlaytimeMs;
         }
-        return System.currentTimeMillis() - startTime;
+        return clock.millis() - startTime;
     }
 
     /**
@@ -67,6 +105,8 @@ public class GameSession implements Serializable {
      * Retrieves a level by its number.
      * If the level has been visited before in this session, it returns the cached version.
      * Otherwise, it loads the level from a file, caches it, and then returns it.
+     * Each level gets its own generator derived from the session seed, so its content does
+     * not depend on the order in which the rooms are visited.
      * @param levelNumber The number of the level to retrieve.
      * @return The corresponding {@link Level} object.
      */
@@ -74,7 +114,7 @@ public class GameSession implements Serializable {
         if (loadedLevels.containsKey(levelNumber)) {
             return loadedLevels.get(levelNumber);
         } else {
-            Level newLevel = LevelLoader.loadLevel("/levels/level" + levelNumber + ".txt");
+            Level newLevel = takePrefetchedLevel(levelNumber);
             if (newLevel != null) {
                 loadedLevels.put(levelNumber, newLevel);
             }
@@ -82,6 +122,69 @@ public class GameSession implements Serializable {
         }
     }
 
+    /**
+     * Starts building the two rooms of a floor in the background, so that entering one of them
+     * does not parse its file on the game thread. Called when the elevator picks its target floor.
+     * The prefetches of the rooms of other floors are cancelled if they have not completed yet,
+     * since the player cannot enter those rooms before the elevator moves again.
+     * @param floor The floor whose rooms the player may enter next.
+     */
+    public void prefetchFloor(int floor) {
+        int leftRoom = floor * 2 - 1;
+        int rightRoom = floor * 2;
+        Map<Integer, Future<Level>> prefetched = getPrefetchedLevels();
+        prefetched.entrySet().removeIf(entry -> entry.getKey() != leftRoom && entry.getKey() != rightRoom
+                && entry.getValue().cancel(false));
+        prefetch(leftRoom);
+        prefetch(rightRoom);
+    }
+
+    private void prefetch(int levelNumber) {
+        Map<Integer, Future<Level>> prefetched = getPrefetchedLevels();
+        if (!loadedLevels.containsKey(levelNumber) && !prefetched.containsKey(levelNumber)) {
+            prefetched.put(levelNumber, PREFETCHER.submit(() -> loadLevel(levelNumber)));
+        }
+    }
+
+    /**
+     * Returns the level built by a prefetch, waiting for it if it is being built. A prefetch that
+     * has not started yet is cancelled and the level is built on the calling thread instead, so
+     * that the caller never waits behind the prefetches of other games.
+     * @param levelNumber The number of the level.
+     * @return The level, or null if it cannot be loaded.
+     */
+    private Level takePrefetchedLevel(int levelNumber) {
+        Future<Level> future = getPrefetchedLevels().remove(levelNumber);
+        if (future != null && !future.cancel(false)) {
+            try {
+                return future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (ExecutionException e) {
+                // Load it again below, so that the failure is reported on this thread
+            }
+        }
+        return loadLevel(levelNumber);
+    }
+
+    /**
+     * Loads a level from its file. Each level gets its own generator derived from the session seed,
+     * so the result is the same on any thread and in any order.
+     * @param levelNumber The number of the level.
+     * @return A new level, or null if it cannot be loaded.
+     */
+    private Level loadLevel(int levelNumber) {
+        Random levelRandom = new Random(seed * 31 + levelNumber);
+        return LevelLoader.loadLevel("/levels/level" + levelNumber + ".txt", levelRandom);
+    }
+
+    private Map<Integer, Future<Level>> getPrefetchedLevels() {
+        if (prefetchedLevels == null) {
+            prefetchedLevels = new HashMap<>();
+        }
+        return prefetchedLevels;
+    }
+
     /**
      * Updates the recorded location of the player within the session.
      * @param currentState The player's current GameState.
@@ -103,11 +206,36 @@ public class GameSession implements Serializable {
     
     // --- GETTERS AND SETTERS ---
     
+    /**
+     * Removes a life and records the death in the room the player is in.
+     */
+    public void loseLife() {
+        this.lives--;
+        deathsPerLevel.merge(currentLevelId, 1, Integer::sum);
+    }
+
+    /**
+     * Adds a puzzle piece and records the session time at which it was found.
+     */
+    public void addPuzzlePiece() {
+        this.puzzlePiecesFound++;
+        pieceFoundTimes.add(getElapsedTime());
+    }
+    
     public int getLives() { return lives; }
-    public void loseLife() { this.lives--; }
     public void setLives(int lives) { this.lives = lives; }
     public int getPuzzlePiecesFound() { return puzzlePiecesFound; }
-    public void addPuzzlePiece() { this.puzzlePiecesFound++; }
+    public long getSeed() { return seed; }
+    
+    /**
+     * @return The number of deaths per level number, -1 being the elevator.
+     */
+    public Map<Integer, Integer> getDeathsPerLevel() { return deathsPerLevel; }
+    
+    /**
+     * @return The session time, in milliseconds, at which each puzzle piece was found, in order.
+     */
+    public List<Long> getPieceFoundTimes() { return pieceFoundTimes; }
     public GameState getLastGameState() { return lastGameState; }
     public int getCurrentLevelId() { return currentLevelId; }
 }
\ No newline at end of file
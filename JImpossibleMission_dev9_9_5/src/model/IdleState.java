@@ -7,6 +7,17 @@ package model;
  */
 public class IdleState implements EnemyStateHandler {
 
+	private static final IdleState instance = new IdleState();
+
+	private IdleState() {}
+
+	/**
+	 * @return The handler of the Idle state, shared by all enemies.
+	 */
+	public static IdleState getInstance() {
+		return instance;
+	}
+
 	@Override
 	public void enter(Enemy enemy) {
 		enemy.setState(EnemyState.IDLE);
@@ -17,33 +28,10 @@ public class IdleState implements EnemyStateHandler {
 		long idleDuration = context.getDurationForState(EnemyState.IDLE);
 
 		if (context.getElapsed(currentTime) >= idleDuration) {
-            EnemyStateHandler nextState = getNextStateFor(context);
-            context.changeState(nextState, enemy, currentTime);
+            // The behavior's transition table decides what comes next.
+            context.changeState(context.getNextState(EnemyState.IDLE), enemy, currentTime);
         }
 	}
-	
-    /**
-     * Determines the next state for the enemy based on its behavior type.
-     * @param context The behavior context of the enemy.
-     * @return The next state handler for the enemy.
-     */
-    private EnemyStateHandler getNextStateFor(EnemyBehavior context) {
-        if (context instanceof StandingRobotBehavior) {
-            StandingRobotBehavior specificContext = (StandingRobotBehavior) context;
-            int step = specificContext.getBehaviorStep();
-            if (step == 0) {
-                specificContext.setBehaviorStep(1);
-                return new AttackingState();
-            } else { // step == 2
-                specificContext.setBehaviorStep(3);
-                return new TurningState();
-            }
-        } else if (context instanceof MovingRobotBehavior) {
-            // After being idle (e.g., after seeing the player), a moving robot will attack.
-            return new AttackingState();
-        }
-        return this; // Default: remain in idle (should not happen with timed states)
-    }
 
 	@Override
 	public void exit(Enemy enemy) {
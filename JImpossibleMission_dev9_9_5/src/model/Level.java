@@ -1,11 +1,12 @@
 package model;
 
 import java.awt.Point;
+import java.awt.geom.Rectangle2D;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
-import static model.TileTypes.*;
+import static model.GameConstants.TILES_DEFAULT_SIZE;
 
 /**
  * Represents a single game level.
@@ -15,97 +16,292 @@ import static model.TileTypes.*;
 public class Level implements Serializable {
 	private static final long serialVersionUID = 1L;
 
-	private Tile[][] levelData;
 	private Point playerSpawn;
 	private List<LiftTile> liftList = new ArrayList<>();
 	private List<PcTile> pcList = new ArrayList<>();
 	private List<FurnitureTile> furnitureList = new ArrayList<>();
 	private List<Enemy> enemies = new ArrayList<>();
 
+	// Flat, row-major tile data: the static cells share the same StaticTile, and the type codes,
+	// the solidity of every cell and the lift stops are shared with the template of the level
+	private static final TileTypes[] TILE_TYPES = TileTypes.values();
+	private final int rows, cols;
+	private final Tile[] tiles;
+	private final byte[] tileTypes;
+	private final long[] solidCells;
+	private final int[][] liftStops;
+
+	// Broadphase of the entities the player interacts with; ids are indices in the lists above
+	private static final int GRID_CELL_SIZE = 2 * TILES_DEFAULT_SIZE;
+	private SpatialGrid enemyGrid;
+	private SpatialGrid pcGrid;
+	private SpatialGrid furnitureGrid;
+	private int[] searchedFurniture;
+	private int searchedFurnitureCount;
+
+	// Struct-of-arrays copy of the enemies, or null when they are updated as objects
+	private EnemyStore enemyStore;
+
 	private long freezeStartTime = 0;
 	private long freezeDuration = 0;
 
 	/**
-     * Constructs a new Level.
+     * Constructs a new Level from its template, see {@link LevelTemplate#instantiate(Random)}.
      *
-     * @param levelData   The 2D array of tiles that form the level's structure.
-     * @param playerSpawn The starting coordinates for the player in this level.
-     * @param enemies     A list of enemies present in this level.
+     * @param template The template of the level, whose immutable maps and indexes are shared.
+     * @param tiles    The tile of every cell, in row-major order.
+     * @param enemies  A list of enemies present in this level.
+     * @param random   The random generator used to place the puzzle piece.
      */
-	public Level(Tile[][] levelData, Point playerSpawn, List<Enemy> enemies) {
-		this.levelData = levelData;
-		this.playerSpawn = playerSpawn;
+	Level(LevelTemplate template, Tile[] tiles, List<Enemy> enemies, Random random) {
+		this.rows = template.getRows();
+		this.cols = template.getCols();
+		this.tiles = tiles;
+		this.tileTypes = template.getCellTypes();
+		this.solidCells = template.getSolidCells();
+		this.liftStops = template.getLiftStops();
+		this.playerSpawn = template.getPlayerSpawn();
 		this.enemies = enemies;
-		initLifts();
-		initPcs();
-		initFurniture();
-		spawnPuzzlePiece();
+		initPatrolBounds();
+		collectTiles(template.getLiftCells(), liftList);
+		collectTiles(template.getPcCells(), pcList);
+		collectTiles(template.getFurnitureCells(), furnitureList);
+		if (EnemyStore.isEnabled()) {
+			enemyStore = new EnemyStore(enemies);
+		}
+		initGrids();
+		spawnPuzzlePiece(random);
+	}
+
+	/**
+     * Registers the enemies, PCs and furniture in their broadphase grids.
+     */
+	private void initGrids() {
+		int width = cols * TILES_DEFAULT_SIZE;
+		int height = rows * TILES_DEFAULT_SIZE;
+		enemyGrid = new SpatialGrid(width, height, GRID_CELL_SIZE, enemies.size());
+		updateEnemyCells();
+
+		pcGrid = new SpatialGrid(width, height, GRID_CELL_SIZE, pcList.size());
+		for (int i = 0; i < pcList.size(); i++) {
+			Rectangle2D.Float hitbox = pcList.get(i).getHitbox();
+			pcGrid.update(i, hitbox.x, hitbox.y, hitbox.width, hitbox.height);
+		}
+
+		furnitureGrid = new SpatialGrid(width, height, GRID_CELL_SIZE, furnitureList.size());
+		for (int i = 0; i < furnitureList.size(); i++) {
+			Rectangle2D.Float hitbox = furnitureList.get(i).getHitbox();
+			furnitureGrid.update(i, hitbox.x, hitbox.y, hitbox.width, hitbox.height);
+		}
+		searchedFurniture = new int[furnitureList.size()];
 	}
 
 	/**
      * Randomly places a single puzzle piece inside one of the furniture items in the level.
+     * @param random The random generator to draw from.
      */
-	private void spawnPuzzlePiece() {
+	private void spawnPuzzlePiece(Random random) {
 		if (furnitureList.size() > 0) {
-			FurnitureTile randomFurniture = furnitureList.get(new Random().nextInt(furnitureList.size()));
+			FurnitureTile randomFurniture = furnitureList.get(random.nextInt(furnitureList.size()));
 			randomFurniture.setHasPuzzlePiece(true);
 		}
 	}
 
 	/**
-     * Scans the level data to find and cache all LiftTile objects.
+     * Computes the span patrolled by every walking enemy, so that it no longer needs to look at the
+     * tiles ahead on every tick. Starting from its spawn point, the edge and wall checks of
+     * {@link MovingState} are run on every position the enemy can reach, step by step, until they
+     * report a turn on each side. The bounds are only kept if, over the whole span, the checks are
+     * equivalent to the two comparisons of {@link Enemy#isAtPatrolBound()}; otherwise the enemy
+     * keeps looking at the tiles.
+     * Lift cells always count as edges, whatever the position of the lift, so the bounds never
+     * change during the game.
      */
-	private void initLifts() {
-		for (int row = 0; row < levelData.length; row++)
-			for (int col = 0; col < levelData[0].length; col++)
-				if (levelData[row][col].getType() == LIFT)
-					liftList.add((LiftTile) levelData[row][col]);
+	private void initPatrolBounds() {
+		int levelWidth = cols * TILES_DEFAULT_SIZE;
+		for (Enemy enemy : enemies) {
+			int step = enemy.getStepSize();
+			if (step <= 0)
+				continue;
+			int width = (int) enemy.getHitbox().width;
+			int minY = enemy.getY() + enemy.getHitboxOffsetY();
+			int maxY = minY + (int) enemy.getHitbox().height;
+			int start = enemy.getX() + enemy.getHitboxOffsetX();
+
+			int left = start;
+			while (left + width >= 0 && !turnsAt(enemy, left, width, minY, maxY, false))
+				left -= step;
+			int right = start;
+			while (right <= levelWidth && !turnsAt(enemy, right, width, minY, maxY, true))
+				right += step;
+			if (left + width < 0 || right > levelWidth)
+				continue;
+
+			boolean equivalent = true;
+			for (int x = left; x <= right && equivalent; x += step) {
+				equivalent = turnsAt(enemy, x, width, minY, maxY, true) == (x >= right)
+						&& turnsAt(enemy, x, width, minY, maxY, false) == (x <= left);
+			}
+			if (equivalent)
+				enemy.setPatrolBounds(left, right + width);
+		}
 	}
 
-	/**
-     * Scans the level data to find and cache all PcTile objects.
-     */
-	private void initPcs() {
-		for (int row = 0; row < levelData.length; row++)
-			for (int col = 0; col < levelData[0].length; col++)
-				if (levelData[row][col].getType() == PC)
-					pcList.add((PcTile) levelData[row][col]);
+	private boolean turnsAt(Enemy enemy, int minX, int width, int minY, int maxY, boolean facingRight) {
+		double maxX = (double) minX + width;
+		return MovingState.isAtEdge(minX, maxX, maxY, facingRight, enemy.getSpeed(), this)
+				|| MovingState.isFacingWall(minX, maxX, minY, facingRight, enemy.getSpeed(), this);
 	}
 
 	/**
-     * Scans the level data to find and cache all FurnitureTile objects.
+     * Collects the tiles of an index of the template, in grid order.
+     * @param cells The row-major cells of the tiles.
+     * @param list  The list to fill.
      */
-	private void initFurniture() {
-		for (int row = 0; row < levelData.length; row++)
-			for (int col = 0; col < levelData[0].length; col++)
-				if (levelData[row][col].getType() == FURNITURE)
-					furnitureList.add((FurnitureTile) levelData[row][col]);
+	@SuppressWarnings("unchecked")
+	private <T extends Tile> void collectTiles(int[] cells, List<T> list) {
+		for (int cell : cells) {
+			list.add((T) tiles[cell]);
+		}
 	}
     
     /**
      * Activates the "frozen" effect for all enemies in this level.
      * @param durationSec The duration of the freeze in seconds.
+     * @param currentTime The current game time, in milliseconds.
      */
-    public void freezeEnemies(long durationSec) {
-        this.freezeStartTime = System.currentTimeMillis();
+    public void freezeEnemies(long durationSec, long currentTime) {
+        this.freezeStartTime = currentTime;
         this.freezeDuration = durationSec * 1000;
     }
     
     /**
      * Checks if the enemies in this level are currently under the "frozen" effect.
+     * @param currentTime The current game time, in milliseconds.
      * @return True if enemies are frozen, false otherwise.
      */
-    public boolean areEnemiesFrozen() {
-        if (freezeStartTime == 0) return false;
-        return (System.currentTimeMillis() - freezeStartTime) < freezeDuration;
+    public boolean areEnemiesFrozen(long currentTime) {
+        if (freezeDuration == 0) return false;
+        return (currentTime - freezeStartTime) < freezeDuration;
+    }
+
+    /**
+     * @param row The row of the cell.
+     * @param col The column of the cell.
+     * @return True if the cell is inside the grid of the level.
+     */
+    public boolean isInGrid(int row, int col) {
+        return row >= 0 && row < rows && col >= 0 && col < cols;
     }
 
+    /**
+     * Checks if the tile of a cell is solid. The cell must be inside the grid.
+     * @param row The row of the cell.
+     * @param col The column of the cell.
+     * @return True if the tile placed in the cell is solid.
+     */
+    public boolean isSolid(int row, int col) {
+        int index = row * cols + col;
+        return (solidCells[index >>> 6] & (1L << index)) != 0;
+    }
+
+    /**
+     * Returns the tile of a cell. The cell must be inside the grid.
+     * Static tiles are shared between cells, so their geometry is read with the cell, see {@link Tile}.
+     * @param row The row of the cell.
+     * @param col The column of the cell.
+     * @return The tile placed in the cell.
+     */
+    public Tile getTile(int row, int col) {
+        return tiles[row * cols + col];
+    }
+
+    /**
+     * Returns the type of the tile of a cell. The cell must be inside the grid.
+     * @param row The row of the cell.
+     * @param col The column of the cell.
+     * @return The type of the tile placed in the cell.
+     */
+    public TileTypes getTileType(int row, int col) {
+        return TILE_TYPES[tileTypes[row * cols + col]];
+    }
+
+    /**
+     * Returns the fixed stops of the column of a lift. The starting position of the lift is not
+     * among them: it is only a stop while the lift is there.
+     * @param lift A lift of this level.
+     * @return The y-coordinates of the stops, in ascending order. The array must not be modified.
+     */
+    public int[] getLiftStops(LiftTile lift) {
+        return liftStops[(int) lift.getHitbox().x / TILES_DEFAULT_SIZE];
+    }
+
+    /**
+     * Moves an enemy in the broadphase grid after it has moved. Its bounds cover both its hitbox and its attack box.
+     * @param index The index of the enemy in {@link #getEnemies()}.
+     */
+    public void updateEnemyCell(int index) {
+        if (enemyStore != null) {
+            updateEnemyCell(index, enemyStore.getHitboxX(index), enemyStore.getHitboxY(index),
+                    enemyStore.getHitboxWidth(index), enemyStore.getHitboxHeight(index),
+                    enemyStore.getAttackBoxX(index), enemyStore.getAttackBoxY(index),
+                    enemyStore.getAttackBoxWidth(index), enemyStore.getAttackBoxHeight(index));
+        } else {
+            Rectangle2D.Float hitbox = enemies.get(index).getHitbox();
+            Rectangle2D.Float attackBox = enemies.get(index).getAttackBox();
+            updateEnemyCell(index, hitbox.x, hitbox.y, hitbox.width, hitbox.height,
+                    attackBox.x, attackBox.y, attackBox.width, attackBox.height);
+        }
+    }
+
+    private void updateEnemyCell(int index, float hbX, float hbY, float hbW, float hbH,
+            float abX, float abY, float abW, float abH) {
+        float minX = Math.min(hbX, abX);
+        float minY = Math.min(hbY, abY);
+        float maxX = Math.max(hbX + hbW, abX + abW);
+        float maxY = Math.max(hbY + hbH, abY + abH);
+        enemyGrid.update(index, minX, minY, maxX - minX, maxY - minY);
+    }
+
+    /**
+     * Moves every enemy in the broadphase grid, after they have all been repositioned.
+     */
+    public void updateEnemyCells() {
+        for (int i = 0; i < enemies.size(); i++) {
+            updateEnemyCell(i);
+        }
+    }
+
+    /**
+     * Remembers a piece of furniture that is being searched, so that it is visited on the next tick
+     * even if the player is no longer near it.
+     * @param index The index of the furniture in {@link #getFurniture()}.
+     */
+    public void addSearchedFurniture(int index) {
+        searchedFurniture[searchedFurnitureCount++] = index;
+    }
+
+    /**
+     * Forgets the furniture being searched, before it is collected again.
+     */
+    public void clearSearchedFurniture() {
+        searchedFurnitureCount = 0;
+    }
+
+    public int getSearchedFurnitureCount() { return searchedFurnitureCount; }
+    public int getSearchedFurniture(int i) { return searchedFurniture[i]; }
+
     // --- GETTERS ---
 	
-	public Tile[][] getLevelData() { return levelData; }
+	public int getRows() { return rows; }
+	public int getCols() { return cols; }
 	public Point getPlayerSpawn() { return playerSpawn; }
 	public List<LiftTile> getLifts() { return liftList; }
 	public List<PcTile> getPcs() { return pcList; }
 	public List<FurnitureTile> getFurniture() { return furnitureList; }
 	public List<Enemy> getEnemies() { return enemies; }
+	public EnemyStore getEnemyStore() { return enemyStore; }
+	public SpatialGrid getEnemyGrid() { return enemyGrid; }
+	public SpatialGrid getPcGrid() { return pcGrid; }
+	public SpatialGrid getFurnitureGrid() { return furnitureGrid; }
 }
\ No newline at end of file
@@ -0,0 +1,312 @@
+package model;
+
+import java.awt.Point;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import static model.GameConstants.TILES_DEFAULT_SIZE;
+import static model.TileTypes.*;
+
+/**
+ * The immutable content of a level file: the type of every cell, the player spawn point and the
+ * enemy spawn points, along with the indexes derived from the geometry (solid cells, lift stops and
+ * cells of the interactable tiles). A template is parsed once per JVM by {@link controller.LevelLoader}
+ * and shared by every session, which instantiates its own {@link Level} from it: only the tiles with
+ * a state, the enemies and the random placements are created for each instance, and the levels
+ * share the arrays of the template.
+ * <p>
+ * A template can be compiled into a versioned binary form, see {@link #toBinary(int)} and
+ * {@link #fromBinary(ByteBuffer)}. All the values are big-endian:
+ * <pre>
+ * int    magic 'JIML', short version, int CRC-32 of the source text
+ * short  rows, short cols, byte[rows * cols] cell types (TileTypes ordinals, row-major)
+ * int    player spawn x, int player spawn y
+ * short  enemy count, then per enemy: byte type (EnemyType ordinal), int x, int y
+ * short  lift count, then per lift: int cell, short stop count, int[stop count] stops
+ * short  PC count, int[PC count] cells
+ * short  furniture count, int[furniture count] cells
+ * </pre>
+ * The CRC-32 of the source is not checked when decoding, only by {@code LevelCompiler --check},
+ * which finds the compiled levels whose text was edited since.
+ */
+public final class LevelTemplate {
+	private static final TileTypes[] TILE_TYPES = TileTypes.values();
+	private static final EnemyType[] ENEMY_TYPES = EnemyType.values();
+
+	public static final int MAGIC = 0x4A494D4C; // "JIML"
+	public static final short FORMAT_VERSION = 2;
+
+	private final int rows, cols;
+	private final byte[] cellTypes; // Row-major TileTypes ordinals
+	private final long[] solidCells;
+	private final Point playerSpawn;
+	private final EnemyType[] enemyTypes;
+	private final int[] enemyX, enemyY;
+
+	// Row-major cells of the interactable tiles, in grid order
+	private final int[] liftCells, pcCells, furnitureCells;
+	// Stops of each lift column, indexed by column (null for the columns without a lift)
+	private final int[][] liftStops;
+
+	/**
+     * Constructs a LevelTemplate from a parsed grid, and computes its indexes. The arguments are copied.
+     *
+     * @param cells       The type of every cell, as a rectangular grid.
+     * @param playerSpawn The starting coordinates for the player.
+     * @param enemyTypes  The type of every enemy, in the order of the file.
+     * @param enemySpawns The spawn point of every enemy, in the same order.
+     */
+	public LevelTemplate(TileTypes[][] cells, Point playerSpawn, List<EnemyType> enemyTypes, List<Point> enemySpawns) {
+		this.rows = cells.length;
+		this.cols = cells[0].length;
+		this.cellTypes = new byte[rows * cols];
+		for (int row = 0; row < rows; row++) {
+			for (int col = 0; col < cols; col++) {
+				cellTypes[row * cols + col] = (byte) cells[row][col].ordinal();
+			}
+		}
+		this.playerSpawn = new Point(playerSpawn);
+		this.enemyTypes = enemyTypes.toArray(new EnemyType[0]);
+		this.enemyX = new int[enemySpawns.size()];
+		this.enemyY = new int[enemySpawns.size()];
+		for (int i = 0; i < enemySpawns.size(); i++) {
+			enemyX[i] = enemySpawns.get(i).x;
+			enemyY[i] = enemySpawns.get(i).y;
+		}
+
+		this.liftCells = findCells(LIFT);
+		this.pcCells = findCells(PC);
+		this.furnitureCells = findCells(FURNITURE);
+		this.liftStops = new int[cols][];
+		for (int cell : liftCells) {
+			liftStops[cell % cols] = findLiftStops(cell % cols);
+		}
+		this.solidCells = packSolidCells();
+	}
+
+	private LevelTemplate(int rows, int cols, byte[] cellTypes, Point playerSpawn, EnemyType[] enemyTypes,
+			int[] enemyX, int[] enemyY, int[] liftCells, int[][] liftStops, int[] pcCells, int[] furnitureCells) {
+		this.rows = rows;
+		this.cols = cols;
+		this.cellTypes = cellTypes;
+		this.playerSpawn = playerSpawn;
+		this.enemyTypes = enemyTypes;
+		this.enemyX = enemyX;
+		this.enemyY = enemyY;
+		this.liftCells = liftCells;
+		this.liftStops = liftStops;
+		this.pcCells = pcCells;
+		this.furnitureCells = furnitureCells;
+		this.solidCells = packSolidCells();
+	}
+
+	private int[] findCells(TileTypes type) {
+		int[] cells = new int[rows * cols];
+		int count = 0;
+		for (int cell = 0; cell < cellTypes.length; cell++) {
+			if (cellTypes[cell] == type.ordinal()) {
+				cells[count++] = cell;
+			}
+		}
+		return Arrays.copyOf(cells, count);
+	}
+
+	/**
+     * Finds the fixed stops of a lift column: the empty cells next to a platform, and the empty
+     * cell of the bottom row. They only depend on the geometry of the level.
+     * @param col The column of the lift.
+     * @return The y-coordinates of the stops, in ascending order.
+     */
+	private int[] findLiftStops(int col) {
+		int[] stops = new int[rows];
+		int count = 0;
+		for (int row = 0; row < rows; row++) {
+			if (getTileType(row, col) != EMPTY)
+				continue;
+			if ((col - 1 >= 0 && getTileType(row, col - 1) == PLATFORM)
+					|| (col + 1 < cols && getTileType(row, col + 1) == PLATFORM)
+					|| row == rows - 1) {
+				stops[count++] = row * TILES_DEFAULT_SIZE;
+			}
+		}
+		return Arrays.copyOf(stops, count);
+	}
+
+	/**
+     * Packs the solid cells into a bitset. Only walls, platforms and lifts are solid, and lifts
+     * never change their grid cell, so the bitset never changes.
+     */
+	private long[] packSolidCells() {
+		long[] solid = new long[(rows * cols + 63) >>> 6];
+		for (int cell = 0; cell < cellTypes.length; cell++) {
+			TileTypes type = TILE_TYPES[cellTypes[cell]];
+			if (type == WALL || type == PLATFORM || type == LIFT) {
+				solid[cell >>> 6] |= 1L << cell;
+			}
+		}
+		return solid;
+	}
+
+	/**
+     * Creates a new level from this template. The furniture types are drawn in the order of the
+     * cells, then the puzzle piece is placed, so two instances made with generators seeded
+     * identically are identical.
+     *
+     * @param random The random generator to use.
+     * @return A new {@link Level}, sharing nothing mutable with the other instances.
+     */
+	public Level instantiate(Random random) {
+		Tile[] tiles = new Tile[rows * cols];
+		for (int cell = 0; cell < tiles.length; cell++) {
+			tiles[cell] = TileFactory.getTile(TILE_TYPES[cellTypes[cell]],
+					(cell % cols) * TILES_DEFAULT_SIZE, (cell / cols) * TILES_DEFAULT_SIZE, random);
+		}
+
+		List<Enemy> enemies = new ArrayList<>(enemyTypes.length);
+		for (int i = 0; i < enemyTypes.length; i++) {
+			enemies.add(EnemyFactory.createEnemy(enemyTypes[i], enemyX[i], enemyY[i]));
+		}
+		return new Level(this, tiles, enemies, random);
+	}
+
+	/**
+     * Encodes this template in the binary level format.
+     *
+     * @param sourceChecksum The CRC-32 of the text the template was parsed from.
+     * @return The encoded template.
+     */
+	public byte[] toBinary(int sourceChecksum) {
+		int size = 4 + 2 + 4 + 2 + 2 + cellTypes.length + 8 + 2 + enemyTypes.length * 9 + 2 + 2 + 2
+				+ (pcCells.length + furnitureCells.length) * 4;
+		for (int cell : liftCells) {
+			size += 4 + 2 + liftStops[cell % cols].length * 4;
+		}
+
+		ByteBuffer buffer = ByteBuffer.allocate(size);
+		buffer.putInt(MAGIC).putShort(FORMAT_VERSION).putInt(sourceChecksum);
+		buffer.putShort((short) rows).putShort((short) cols).put(cellTypes);
+		buffer.putInt(playerSpawn.x).putInt(playerSpawn.y);
+		buffer.putShort((short) enemyTypes.length);
+		for (int i = 0; i < enemyTypes.length; i++) {
+			buffer.put((byte) enemyTypes[i].ordinal()).putInt(enemyX[i]).putInt(enemyY[i]);
+		}
+		buffer.putShort((short) liftCells.length);
+		for (int cell : liftCells) {
+			int[] stops = liftStops[cell % cols];
+			buffer.putInt(cell).putShort((short) stops.length);
+			for (int stop : stops) {
+				buffer.putInt(stop);
+			}
+		}
+		putCells(buffer, pcCells);
+		putCells(buffer, furnitureCells);
+		return buffer.array();
+	}
+
+	private static void putCells(ByteBuffer buffer, int[] cells) {
+		buffer.putShort((short) cells.length);
+		for (int cell : cells) {
+			buffer.putInt(cell);
+		}
+	}
+
+	/**
+     * Decodes a template from the binary level format. The data must end with the template.
+     *
+     * @param buffer The encoded template, read from its position.
+     * @return The decoded template.
+     * @throws IllegalArgumentException If the data is not a level of the current format version,
+     *                                  or is corrupted.
+     */
+	public static LevelTemplate fromBinary(ByteBuffer buffer) {
+		try {
+			if (buffer.getInt() != MAGIC) {
+				throw new IllegalArgumentException("Not a compiled level");
+			}
+			short version = buffer.getShort();
+			if (version != FORMAT_VERSION) {
+				throw new IllegalArgumentException("Unsupported level format version " + version);
+			}
+			buffer.getInt(); // The CRC-32 of the source, see LevelCompiler
+			int rows = buffer.getShort();
+			int cols = buffer.getShort();
+			byte[] cellTypes = new byte[rows * cols];
+			buffer.get(cellTypes);
+			for (byte type : cellTypes) {
+				if (type < 0 || type >= TILE_TYPES.length) {
+					throw new IllegalArgumentException("Unknown tile type " + type);
+				}
+			}
+			Point playerSpawn = new Point(buffer.getInt(), buffer.getInt());
+
+			int enemyCount = buffer.getShort();
+			EnemyType[] enemyTypes = new EnemyType[enemyCount];
+			int[] enemyX = new int[enemyCount];
+			int[] enemyY = new int[enemyCount];
+			for (int i = 0; i < enemyCount; i++) {
+				enemyTypes[i] = ENEMY_TYPES[buffer.get()];
+				enemyX[i] = buffer.getInt();
+				enemyY[i] = buffer.getInt();
+			}
+
+			int[] liftCells = new int[buffer.getShort()];
+			int[][] liftStops = new int[cols][];
+			for (int i = 0; i < liftCells.length; i++) {
+				liftCells[i] = checkCell(buffer.getInt(), cellTypes, LIFT);
+				int[] stops = new int[buffer.getShort()];
+				for (int j = 0; j < stops.length; j++) {
+					stops[j] = buffer.getInt();
+					if (j > 0 && stops[j] <= stops[j - 1]) { // The lifts binary-search their stops
+						throw new IllegalArgumentException("Lift stops of cell " + liftCells[i] + " are not sorted");
+					}
+				}
+				liftStops[liftCells[i] % cols] = stops;
+			}
+			int[] pcCells = getCells(buffer, cellTypes, PC);
+			int[] furnitureCells = getCells(buffer, cellTypes, FURNITURE);
+			if (buffer.hasRemaining()) {
+				throw new IllegalArgumentException(buffer.remaining() + " unexpected bytes after the level");
+			}
+
+			return new LevelTemplate(rows, cols, cellTypes, playerSpawn, enemyTypes, enemyX, enemyY,
+					liftCells, liftStops, pcCells, furnitureCells);
+		} catch (BufferUnderflowException | IndexOutOfBoundsException | NegativeArraySizeException e) {
+			throw new IllegalArgumentException("Truncated or corrupted level data", e);
+		}
+	}
+
+	private static int[] getCells(ByteBuffer buffer, byte[] cellTypes, TileTypes type) {
+		int[] cells = new int[buffer.getShort()];
+		for (int i = 0; i < cells.length; i++) {
+			cells[i] = checkCell(buffer.getInt(), cellTypes, type);
+		}
+		return cells;
+	}
+
+	private static int checkCell(int cell, byte[] cellTypes, TileTypes type) {
+		if (cellTypes[cell] != type.ordinal()) {
+			throw new IllegalArgumentException("Cell " + cell + " is not a " + type + " tile");
+		}
+		return cell;
+	}
+
+	// --- GETTERS ---
+	// The arrays are shared with the levels and must not be modified.
+
+	public int getRows() { return rows; }
+	public int getCols() { return cols; }
+	public TileTypes getTileType(int row, int col) { return TILE_TYPES[cellTypes[row * cols + col]]; }
+	public Point getPlayerSpawn() { return new Point(playerSpawn); }
+	public int getEnemyCount() { return enemyTypes.length; }
+	public EnemyType getEnemyType(int i) { return enemyTypes[i]; }
+	public Point getEnemySpawn(int i) { return new Point(enemyX[i], enemyY[i]); }
+	byte[] getCellTypes() { return cellTypes; }
+	long[] getSolidCells() { return solidCells; }
+	int[][] getLiftStops() { return liftStops; }
+	int[] getLiftCells() { return liftCells; }
+	int[] getPcCells() { return pcCells; }
+	int[] getFurnitureCells() { return furnitureCells; }
+}
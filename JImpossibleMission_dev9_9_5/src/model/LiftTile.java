@@ -5,15 +5,15 @@ import java.awt.geom.Rectangle2D;
 
 /**
  * Represents a solid, vertically moving lift (elevator platform) within a level.
- * It is an {@link Observable} entity, notifying observers when its position changes.
+ * It posts a {@link ChangeType#LIFTS} change on the {@link ChangeBus} when its position changes.
  */
-@SuppressWarnings("deprecation")
 public class LiftTile extends Tile {
 	private static final long serialVersionUID = 1L;
 	
 	private final int speed = 2;
     private boolean moving = false;
     private final int originalY;
+    private int prevY;
     
     private int targetY = -1; // -1 means no destination is set
     private Directions currentMovementDirection = null;
@@ -27,6 +27,7 @@ public class LiftTile extends Tile {
 		super(x, y);
 		solid = true;
 		originalY = y;
+		prevY = y;
 		initHitbox();
 	}
 
@@ -48,8 +49,7 @@ public class LiftTile extends Tile {
         targetY = -1;
         currentMovementDirection = null;
         updateHitbox();
-        setChanged();
-        notifyObservers();
+        ChangeBus.getInstance().post(ChangeType.LIFTS);
     }
     
     /**
@@ -58,8 +58,7 @@ public class LiftTile extends Tile {
     public void moveUp() {
         y -= getSpeed();
         updateHitbox();
-        setChanged();
-        notifyObservers();
+        ChangeBus.getInstance().post(ChangeType.LIFTS);
     }
     
     /**
@@ -68,8 +67,7 @@ public class LiftTile extends Tile {
     public void moveDown() {
         y += getSpeed();
         updateHitbox();
-        setChanged();
-        notifyObservers();
+        ChangeBus.getInstance().post(ChangeType.LIFTS);
     }
 
     /**
@@ -77,15 +75,23 @@ public class LiftTile extends Tile {
      */
 	public void resetPosition() {
         y = originalY;
+        prevY = y;
         updateHitbox();
-        setChanged();
-        notifyObservers();
+        ChangeBus.getInstance().post(ChangeType.LIFTS);
     }
 	
+    /**
+     * Records the current position as the previous simulation state for interpolation.
+     */
+    public void savePreviousPosition() {
+        prevY = y;
+    }
+
 	// --- GETTERS AND SETTERS ---
 
     public boolean isMoving() { return moving; }
     public int getOriginalY() { return originalY; }
+    public int getPrevY() { return prevY; }
     public int getTargetY() { return targetY; }
     public Directions getCurrentMovementDirection() { return currentMovementDirection; }
 	public int getSpeed() { return speed; }
@@ -93,8 +99,7 @@ public class LiftTile extends Tile {
     public void setTargetY(int targetY) {
         this.targetY = targetY;
         this.moving = true;
-        setChanged();
-        notifyObservers();
+        ChangeBus.getInstance().post(ChangeType.LIFTS);
     }
     
     public void setCurrentMovementDirection(Directions direction) {
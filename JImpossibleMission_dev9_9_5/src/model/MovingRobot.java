@@ -9,7 +9,6 @@ import java.awt.geom.Rectangle2D;
  * This class extends the base {@link Enemy} and uses a {@link MovingRobotBehavior}
  * to define its AI, which includes walking, turning at edges, and attacking the player.
  */
-@SuppressWarnings("deprecation")
 public class MovingRobot extends Enemy {
 	private static final long serialVersionUID = 1L;
 	
@@ -44,14 +43,14 @@ public class MovingRobot extends Enemy {
 	public void resetPosition() {
 		this.x = initialSpawn.x;
     	this.y = initialSpawn.y;
+    	savePreviousPosition();
     	setState(EnemyState.IDLE);
     	this.behavior.resetBehavior(this);
     	this.direction = Directions.RIGHT;
     	isFacingRight = true;
     	initHitbox();
     	initAttackBox();
-    	setChanged();
-    	notifyObservers();
+    	ChangeBus.getInstance().post(ChangeType.ENEMIES);
 	}
 
 	@Override
@@ -68,8 +67,6 @@ public class MovingRobot extends Enemy {
 		behavior.update(this, currentTime, levelData, player);
 		updateHitbox();
 		updateAttackBox();
-		setChanged();
-		notifyObservers();
 	}
 
 	@Override
@@ -126,6 +123,15 @@ public class MovingRobot extends Enemy {
 		return behavior.getDurationForState(state);
 	}
 
+	@Override
+	protected int getHitboxOffsetX() { return hbOffsetX; }
+
+	@Override
+	protected int getHitboxOffsetY() { return hbOffsetY; }
+
+	@Override
+	protected int getStepSize() { return speed; }
+
 	@Override
 	public long getStateStartTime() {
 		return behavior.getStateStartTime();
@@ -10,6 +10,15 @@ package model;
  */
 public class MovingRobotBehavior implements EnemyBehavior {
 
+    // Next state after each timed state, indexed by EnemyState ordinal. Moving ends on events, not on time.
+    // Also used by the batched update of EnemyStore.
+    static final EnemyState[] NEXT_STATES = new EnemyState[EnemyState.values().length];
+    static {
+        NEXT_STATES[EnemyState.IDLE.ordinal()] = EnemyState.ATTACKING; // Idle after seeing the player
+        NEXT_STATES[EnemyState.ATTACKING.ordinal()] = EnemyState.MOVING;
+        NEXT_STATES[EnemyState.TURNING.ordinal()] = EnemyState.MOVING;
+    }
+
     private EnemyStateHandler currentState;
     private long stateStartTime;
     private int behaviorStep = 0;
@@ -21,8 +30,8 @@ public class MovingRobotBehavior implements EnemyBehavior {
      * and setting the durations for its actions.
      */
     public MovingRobotBehavior() {
-        currentState = new IdleState();
-        stateStartTime = System.currentTimeMillis();
+        currentState = IdleState.getInstance();
+        stateStartTime = TIMER_NOT_STARTED;
         idleDuration = 500;
         turnDuration = 500;
         attackDuration = 750;
@@ -30,6 +39,9 @@ public class MovingRobotBehavior implements EnemyBehavior {
 
     @Override
     public void update(Enemy enemy, long currentTime, Level levelData, Player player) {
+        if (stateStartTime == TIMER_NOT_STARTED) {
+            stateStartTime = currentTime;
+        }
         currentState.update(enemy, this, currentTime, levelData, player);
     }
 
@@ -56,6 +68,11 @@ public class MovingRobotBehavior implements EnemyBehavior {
         stateStartTime = currentTime;
     }
 
+    @Override
+    public EnemyStateHandler getNextState(EnemyState finishedState) {
+        return EnemyStateHandler.forState(NEXT_STATES[finishedState.ordinal()]);
+    }
+
     @Override
     public long getElapsed(long currentTime) {
         return currentTime - stateStartTime;
@@ -63,7 +80,7 @@ public class MovingRobotBehavior implements EnemyBehavior {
     
     @Override
     public void resetBehavior(Enemy enemy) {
-    	changeState(new IdleState(), enemy, System.currentTimeMillis());
+    	changeState(IdleState.getInstance(), enemy, TIMER_NOT_STARTED);
     }
     
     public int getBehaviorStep() {
@@ -2,6 +2,7 @@ package model;
 
 import static model.GameConstants.*;
 import controller.AudioManager;
+import java.awt.geom.Rectangle2D;
 
 /**
  * Implements the "Moving" state for an enemy's state machine.
@@ -10,6 +11,17 @@ import controller.AudioManager;
  */
 public class MovingState implements EnemyStateHandler {
 
+	private static final MovingState instance = new MovingState();
+
+	private MovingState() {}
+
+	/**
+	 * @return The handler of the Moving state, shared by all enemies.
+	 */
+	public static MovingState getInstance() {
+		return instance;
+	}
+
 	@Override
 	public void enter(Enemy enemy) {
 		enemy.setState(EnemyState.MOVING);
@@ -22,13 +34,15 @@ public class MovingState implements EnemyStateHandler {
 
 		// If the enemy's attack box intersects with the player, stop to attack.
 		if (enemy.getAttackBox().intersects(player.getHitbox()) || player.getHitbox().intersects(enemy.getAttackBox())) {
-			context.changeState(new IdleState(), enemy, currentTime);
+			context.changeState(IdleState.getInstance(), enemy, currentTime);
 			return;
 		}
 
 		// If the enemy is at the edge of a platform or facing a wall, turn around.
-		if (isAtEdge(enemy, levelData) || isFacingWall(enemy, levelData)) {
-			context.changeState(new TurningState(), enemy, currentTime);
+		boolean mustTurn = enemy.hasPatrolBounds() ? enemy.isAtPatrolBound()
+				: isAtEdge(enemy, levelData) || isFacingWall(enemy, levelData);
+		if (mustTurn) {
+			context.changeState(TurningState.getInstance(), enemy, currentTime);
 			return;
 		}
 
@@ -38,52 +52,81 @@ public class MovingState implements EnemyStateHandler {
 		enemy.move();
 	}
     
+	private boolean isAtEdge(Enemy enemy, Level levelData) {
+		Rectangle2D.Float hitbox = enemy.getHitbox();
+		return isAtEdge(hitbox.getX(), hitbox.getMaxX(), hitbox.getMaxY(), enemy.isFacingRight(), enemy.getSpeed(), levelData);
+	}
+
+	private boolean isFacingWall(Enemy enemy, Level levelData) {
+		Rectangle2D.Float hitbox = enemy.getHitbox();
+		return isFacingWall(hitbox.getX(), hitbox.getMaxX(), hitbox.getY(), enemy.isFacingRight(), enemy.getSpeed(), levelData);
+	}
+
 	/**
-	 * Checks if the enemy is at the edge of a platform.
+	 * Checks if an enemy is at the edge of a platform.
+	 * The cell ahead is classified through the tile maps of the level; its tile is only read
+	 * for the hitbox test, once the cell is known to be an edge.
+	 * Shared with the batched update of {@link EnemyStore}.
+	 *
+	 * @param minX        The left side of the enemy's hitbox.
+	 * @param maxX        The right side of the enemy's hitbox.
+	 * @param maxY        The bottom side of the enemy's hitbox.
+	 * @param facingRight True if the enemy faces right.
+	 * @param speed       The distance looked ahead.
+	 * @param levelData   The current level.
 	 * @return True if the enemy is about to fall, otherwise false.
 	 */
-	private boolean isAtEdge(Enemy enemy, Level levelData) {
-		if (enemy.isFacingRight()) {
-			int nextPosY = (int) (enemy.getHitbox().getMaxY()  / TILES_DEFAULT_SIZE);
-			int nextPosX = (int) ((enemy.getHitbox().getMaxX() + enemy.getSpeed())  / TILES_DEFAULT_SIZE);
-			Tile edgeTile = levelData.getLevelData()[nextPosY][nextPosX];
+	static boolean isAtEdge(double minX, double maxX, double maxY, boolean facingRight, int speed, Level levelData) {
+		int nextPosY = (int) (maxY / TILES_DEFAULT_SIZE);
+		if (facingRight) {
+			int nextPosX = (int) ((maxX + speed) / TILES_DEFAULT_SIZE);
 			if(nextPosX == 0 || nextPosX == TILES_IN_WIDTH - 1)
 				return true;
-			if (enemy.getHitbox().getMaxX() + enemy.getSpeed() >= edgeTile.getHitbox().getX() && (!edgeTile.isSolid() || edgeTile.getType() == TileTypes.LIFT))
+			if ((!levelData.isSolid(nextPosY, nextPosX) || levelData.getTileType(nextPosY, nextPosX) == TileTypes.LIFT)
+					&& maxX + speed >= levelData.getTile(nextPosY, nextPosX).getHitboxX(nextPosX))
 				return true;
 		} else {
-			int nextPosY = (int) (enemy.getHitbox().getMaxY()  / TILES_DEFAULT_SIZE);
-			int nextPosX = (int) ((enemy.getHitbox().getX() - enemy.getSpeed()) / TILES_DEFAULT_SIZE);
-			Tile edgeTile = levelData.getLevelData()[nextPosY][nextPosX];
+			int nextPosX = (int) ((minX - speed) / TILES_DEFAULT_SIZE);
 			if(nextPosX == 0 || nextPosX == TILES_IN_WIDTH - 1)
 				return true;
-			if (enemy.getHitbox().getX() - enemy.getSpeed() <= edgeTile.getHitbox().getMaxX() && (!edgeTile.isSolid() || edgeTile.getType() == TileTypes.LIFT))
+			if ((!levelData.isSolid(nextPosY, nextPosX) || levelData.getTileType(nextPosY, nextPosX) == TileTypes.LIFT)
+					&& minX - speed <= getHitboxMaxX(levelData.getTile(nextPosY, nextPosX), nextPosX))
 				return true;
 		}
 		return false;
 	}
 	
 	/**
-	 * Checks if the enemy is facing a wall.
+	 * Checks if an enemy is facing a wall. Shared with the batched update of {@link EnemyStore}.
+	 *
+	 * @param minX        The left side of the enemy's hitbox.
+	 * @param maxX        The right side of the enemy's hitbox.
+	 * @param minY        The top side of the enemy's hitbox.
+	 * @param facingRight True if the enemy faces right.
+	 * @param speed       The distance looked ahead.
+	 * @param levelData   The current level.
 	 * @return True if a wall is directly in front of the enemy, otherwise false.
 	 */
-	private boolean isFacingWall(Enemy enemy, Level levelData) {
-		if (enemy.isFacingRight()) {
-			int nextPosY = (int) (enemy.getHitbox().getY()  / TILES_DEFAULT_SIZE);
-			int nextPosX = (int) ((enemy.getHitbox().getMaxX() + enemy.getSpeed())  / TILES_DEFAULT_SIZE);
-			Tile edgeTile = levelData.getLevelData()[nextPosY][nextPosX];
-			if (enemy.getHitbox().getMaxX() + enemy.getSpeed() >= edgeTile.getHitbox().getX() && edgeTile.getType() == TileTypes.WALL)
+	static boolean isFacingWall(double minX, double maxX, double minY, boolean facingRight, int speed, Level levelData) {
+		int nextPosY = (int) (minY / TILES_DEFAULT_SIZE);
+		if (facingRight) {
+			int nextPosX = (int) ((maxX + speed) / TILES_DEFAULT_SIZE);
+			if (levelData.getTileType(nextPosY, nextPosX) == TileTypes.WALL
+					&& maxX + speed >= levelData.getTile(nextPosY, nextPosX).getHitboxX(nextPosX))
 				return true;
 		} else {
-			int nextPosY = (int) (enemy.getHitbox().getY()  / TILES_DEFAULT_SIZE);
-			int nextPosX = (int) ((enemy.getHitbox().getX() - enemy.getSpeed()) / TILES_DEFAULT_SIZE);
-			Tile edgeTile = levelData.getLevelData()[nextPosY][nextPosX];
-			if (enemy.getHitbox().getX() - enemy.getSpeed() <= edgeTile.getHitbox().getMaxX() && edgeTile.getType() == TileTypes.WALL)
+			int nextPosX = (int) ((minX - speed) / TILES_DEFAULT_SIZE);
+			if (levelData.getTileType(nextPosY, nextPosX) == TileTypes.WALL
+					&& minX - speed <= getHitboxMaxX(levelData.getTile(nextPosY, nextPosX), nextPosX))
 				return true;
 		}
 		return false;
 	}
 
+	private static double getHitboxMaxX(Tile tile, int col) {
+		return (double) tile.getHitboxX(col) + tile.getHitboxWidth();
+	}
+
 	@Override
 	public void exit(Enemy enemy) {
 		AudioManager.getInstance().stop("robot_bleep");
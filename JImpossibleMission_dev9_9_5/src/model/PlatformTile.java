@@ -5,34 +5,34 @@ import java.awt.geom.Rectangle2D;
 
 /**
  * Represents a solid platform tile that entities can stand on.
- * It is half as tall as a wall tile.
+ * It is half as tall as a wall tile. A single instance is shared by all the platform cells.
  */
-public class PlatformTile extends Tile {
+public class PlatformTile extends StaticTile {
 	private static final long serialVersionUID = 1L;
+	private static final PlatformTile instance = new PlatformTile();
 
-	public PlatformTile(int x, int y) {
-		super(x, y);
-		solid = true;
-		initHitbox();
+	private PlatformTile() {
+		super(true);
 	}
 
-	@Override
-	protected void initHitbox() {
-		hitbox = new Rectangle2D.Float(x, y, width, (height / 2) + 1);
+	/**
+     * @return The shared PlatformTile.
+     */
+	public static PlatformTile getInstance() {
+		return instance;
 	}
 
-	@Override
-	public Rectangle2D.Float getHitbox() {
-		return hitbox;
+	private Object readResolve() {
+		return instance;
 	}
 
 	@Override
-	public boolean isSolid() {
-		return solid;
+	protected void initHitbox() {
+		hitbox = new Rectangle2D.Float(x, y, width, (height / 2) + 1);
 	}
 
 	@Override
 	public TileTypes getType() {
 		return PLATFORM;
 	}
-}
\ No newline at end of file
+}
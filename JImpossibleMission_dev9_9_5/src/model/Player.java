@@ -9,7 +9,6 @@ import static model.Directions.*;
  * This class manages the player's state, position, movement, physics (gravity, jumping),
  * and hitbox. It extends {@link Entity} and notifies observers of changes.
  */
-@SuppressWarnings("deprecation")
 public class Player extends Entity {
 	private static final long serialVersionUID = 1L;
 	private final int speed = 2;
@@ -54,9 +53,9 @@ public class Player extends Entity {
     public void resetPosition() {
     	this.x = initialSpawn.x;
     	this.y = initialSpawn.y;
+    	savePreviousPosition();
     	updateHitbox();
-    	setChanged();
-    	notifyObservers();
+    	ChangeBus.getInstance().post(ChangeType.PLAYER);
     }
     
     @Override
@@ -88,8 +87,7 @@ public class Player extends Entity {
         if (this.currentState != newState) {
             this.currentState = newState;
             updateHitbox();
-            setChanged();
-            notifyObservers();
+            ChangeBus.getInstance().post(ChangeType.PLAYER);
         }
     }
 
@@ -101,8 +99,7 @@ public class Player extends Entity {
         if(!inAir)
         	setState(PlayerState.RUNNING);
         updateHitbox();
-        setChanged();
-        notifyObservers();
+        ChangeBus.getInstance().post(ChangeType.PLAYER);
     }
 
     public void moveRight() {
@@ -111,8 +108,7 @@ public class Player extends Entity {
         if(!inAir)
         	setState(PlayerState.RUNNING);
         updateHitbox();
-        setChanged();
-        notifyObservers();
+        ChangeBus.getInstance().post(ChangeType.PLAYER);
     }
     
     public void setIdle() {
@@ -136,8 +132,7 @@ public class Player extends Entity {
             }
             y += yVelocity;
             updateHitbox();
-            setChanged();
-            notifyObservers();
+            ChangeBus.getInstance().post(ChangeType.PLAYER);
         }
     }
 
@@ -161,8 +156,7 @@ public class Player extends Entity {
         yVelocity = 0;
         inAir = false;
         updateHitbox();
-        setChanged();
-        notifyObservers();
+        ChangeBus.getInstance().post(ChangeType.PLAYER);
     }
     
     /**
@@ -172,8 +166,7 @@ public class Player extends Entity {
     public void moveWithLift(int deltaY) {
         this.y += deltaY;
         updateHitbox();
-        setChanged();
-        notifyObservers();
+        ChangeBus.getInstance().post(ChangeType.PLAYER);
     }
     
 	/**
@@ -184,6 +177,7 @@ public class Player extends Entity {
 	public void teleport(int x, int y) {
 		this.x = x;
 		this.y = y;
+		savePreviousPosition();
 		updateHitbox();
 	}
     
@@ -0,0 +1,50 @@
+package model;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A lock-free triple buffer that hands {@link FrameSnapshot}s from the game thread to the
+ * Event Dispatch Thread.
+ * The writer always fills its own back buffer and then swaps it with the shared middle slot;
+ * the reader swaps its front buffer with the middle slot only when a newer frame has been published.
+ * Neither side ever waits for the other, and a published snapshot is never modified while it is read.
+ * There must be exactly one writer thread and one reader thread.
+ */
+public class SnapshotBuffer {
+
+	// The middle slot packs the buffer index with a flag telling whether it holds an unread frame
+	private static final int INDEX_MASK = 0b011;
+	private static final int FRESH = 0b100;
+
+	private final FrameSnapshot[] buffers = { new FrameSnapshot(), new FrameSnapshot(), new FrameSnapshot() };
+	private final AtomicInteger middle = new AtomicInteger(1);
+	private int back = 0;  // Owned by the writer
+	private int front = 2; // Owned by the reader
+
+	/**
+	 * @return The snapshot the game thread may fill for the next publication.
+	 */
+	public FrameSnapshot getWriteBuffer() {
+		return buffers[back];
+	}
+
+	/**
+	 * Publishes the write buffer as the latest frame and takes over the previous middle buffer.
+	 */
+	public void publish() {
+		back = middle.getAndSet(back | FRESH) & INDEX_MASK;
+	}
+
+	/**
+	 * Returns the most recently published snapshot. If no new frame was published since the
+	 * last call, the same snapshot is returned again.
+	 *
+	 * @return The latest snapshot, owned by the reader until the next call.
+	 */
+	public FrameSnapshot getLatest() {
+		if ((middle.get() & FRESH) != 0) {
+			front = middle.getAndSet(front) & INDEX_MASK;
+		}
+		return buffers[front];
+	}
+}
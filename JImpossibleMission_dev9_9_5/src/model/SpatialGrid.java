@@ -0,0 +1,192 @@
+package model;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+/**
+ * A uniform grid broadphase for the entities of a level.
+ * Each entity is identified by an integer id (its index in the list of the level) and registered
+ * in every cell its bounds overlap. Entities that move call {@link #update(int, float, float, float, float)},
+ * which only touches the cells when the covered cell range changes.
+ * <p>
+ * A query collects the ids registered in the cells overlapped by an area, without duplicates and in
+ * ascending order, so that the narrow phase visits the candidates in the same order as the list.
+ * The result is kept in the grid until the next query, and nothing is allocated while querying.
+ * Positions outside the grid are clamped to the border cells.
+ * A grid is not thread-safe: it belongs to the thread updating its level.
+ */
+public class SpatialGrid implements Serializable {
+	private static final long serialVersionUID = 1L;
+	private static final int INITIAL_CELL_CAPACITY = 4;
+
+	private final int cellSize;
+	private final int cols, rows;
+	private final int[][] cells;
+	private final int[] cellCounts;
+
+	// Cell range of each id: first column, first row, last column, last row (-1 when not registered)
+	private final int[] ranges;
+
+	private final int[] result;
+	private int resultCount;
+	private final int[] stamps;
+	private int stamp;
+
+	/**
+     * Constructs an empty SpatialGrid.
+     *
+     * @param width    The width of the covered area.
+     * @param height   The height of the covered area.
+     * @param cellSize The size of a square cell.
+     * @param capacity The number of ids, which range from 0 to capacity - 1.
+     */
+	public SpatialGrid(int width, int height, int cellSize, int capacity) {
+		this.cellSize = cellSize;
+		this.cols = Math.max(1, (width + cellSize - 1) / cellSize);
+		this.rows = Math.max(1, (height + cellSize - 1) / cellSize);
+		this.cells = new int[cols * rows][];
+		this.cellCounts = new int[cols * rows];
+		this.ranges = new int[capacity * 4];
+		Arrays.fill(ranges, -1);
+		this.result = new int[capacity];
+		this.stamps = new int[capacity];
+	}
+
+	/**
+     * Registers an entity, or moves it if it is already registered.
+     *
+     * @param id     The id of the entity.
+     * @param x      The x-coordinate of its bounds.
+     * @param y      The y-coordinate of its bounds.
+     * @param width  The width of its bounds.
+     * @param height The height of its bounds.
+     */
+	public void update(int id, float x, float y, float width, float height) {
+		int firstCol = toCol(x);
+		int firstRow = toRow(y);
+		int lastCol = toCol(x + width);
+		int lastRow = toRow(y + height);
+
+		int r = id * 4;
+		if (ranges[r] == firstCol && ranges[r + 1] == firstRow && ranges[r + 2] == lastCol && ranges[r + 3] == lastRow) {
+			return;
+		}
+		remove(id);
+		ranges[r] = firstCol;
+		ranges[r + 1] = firstRow;
+		ranges[r + 2] = lastCol;
+		ranges[r + 3] = lastRow;
+		for (int row = firstRow; row <= lastRow; row++) {
+			for (int col = firstCol; col <= lastCol; col++) {
+				addToCell(row * cols + col, id);
+			}
+		}
+	}
+
+	/**
+     * Unregisters an entity. Does nothing if it is not registered.
+     * @param id The id of the entity.
+     */
+	public void remove(int id) {
+		int r = id * 4;
+		if (ranges[r] == -1) {
+			return;
+		}
+		for (int row = ranges[r + 1]; row <= ranges[r + 3]; row++) {
+			for (int col = ranges[r]; col <= ranges[r + 2]; col++) {
+				removeFromCell(row * cols + col, id);
+			}
+		}
+		ranges[r] = ranges[r + 1] = ranges[r + 2] = ranges[r + 3] = -1;
+	}
+
+	/**
+     * Collects the entities registered in the cells overlapped by an area.
+     * They are the only ones that can intersect the area; the caller still has to test them.
+     *
+     * @param x      The x-coordinate of the area.
+     * @param y      The y-coordinate of the area.
+     * @param width  The width of the area.
+     * @param height The height of the area.
+     * @return The number of candidates, read with {@link #getResult(int)}.
+     */
+	public int query(float x, float y, float width, float height) {
+		if (++stamp == 0) { // Wrapped around: forget the old stamps
+			Arrays.fill(stamps, 0);
+			stamp = 1;
+		}
+		resultCount = 0;
+		int lastCol = toCol(x + width);
+		int lastRow = toRow(y + height);
+		for (int row = toRow(y); row <= lastRow; row++) {
+			for (int col = toCol(x); col <= lastCol; col++) {
+				int cell = row * cols + col;
+				for (int i = 0; i < cellCounts[cell]; i++) {
+					int id = cells[cell][i];
+					if (stamps[id] != stamp) {
+						stamps[id] = stamp;
+						result[resultCount++] = id;
+					}
+				}
+			}
+		}
+		Arrays.sort(result, 0, resultCount);
+		return resultCount;
+	}
+
+	/**
+     * Adds an id to the result of the last query, keeping it sorted, for entities that must be
+     * visited even when they are away from the queried area.
+     *
+     * @param id The id to add. Nothing changes if it is already in the result.
+     * @return The new number of candidates.
+     */
+	public int include(int id) {
+		if (stamps[id] == stamp) {
+			return resultCount;
+		}
+		stamps[id] = stamp;
+		int i = resultCount++;
+		while (i > 0 && result[i - 1] > id) {
+			result[i] = result[i - 1];
+			i--;
+		}
+		result[i] = id;
+		return resultCount;
+	}
+
+	/**
+     * @param index The index of the candidate, lower than the count returned by the last query.
+     * @return The id of the candidate.
+     */
+	public int getResult(int index) {
+		return result[index];
+	}
+
+	private void addToCell(int cell, int id) {
+		if (cells[cell] == null) {
+			cells[cell] = new int[INITIAL_CELL_CAPACITY];
+		} else if (cellCounts[cell] == cells[cell].length) {
+			cells[cell] = Arrays.copyOf(cells[cell], cellCounts[cell] * 2);
+		}
+		cells[cell][cellCounts[cell]++] = id;
+	}
+
+	private void removeFromCell(int cell, int id) {
+		int[] ids = cells[cell];
+		for (int i = 0; i < cellCounts[cell]; i++) {
+			if (ids[i] == id) {
+				ids[i] = ids[--cellCounts[cell]];
+				return;
+			}
+		}
+	}
+
+	private int toCol(float x) {
+		return Math.min(cols - 1, Math.max(0, (int) Math.floor(x / cellSize)));
+	}
+
+	private int toRow(float y) {
+		return Math.min(rows - 1, Math.max(0, (int) Math.floor(y / cellSize)));
+	}
+}
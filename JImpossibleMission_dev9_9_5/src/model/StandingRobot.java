@@ -9,7 +9,6 @@ import static model.GameConstants.*;
  * It follows a fixed pattern of attacking and turning, managed by its
  * {@link StandingRobotBehavior}.
  */
-@SuppressWarnings("deprecation")
 public class StandingRobot extends Enemy {
 	private static final long serialVersionUID = 1L;
 	
@@ -35,14 +34,14 @@ public class StandingRobot extends Enemy {
 	public void resetPosition() {
 		this.x = initialSpawn.x;
     	this.y = initialSpawn.y;
+    	savePreviousPosition();
     	setState(EnemyState.IDLE);
     	this.behavior.resetBehavior(this);
     	this.direction = Directions.RIGHT;
     	isFacingRight = true;
     	initHitbox();
     	initAttackBox();
-    	setChanged();
-    	notifyObservers();
+    	ChangeBus.getInstance().post(ChangeType.ENEMIES);
 	}
 
     @Override
@@ -89,8 +88,6 @@ public class StandingRobot extends Enemy {
         behavior.update(this, currentTime, levelData, player);
         updateHitbox();
         updateAttackBox();
-        setChanged();
-        notifyObservers();
     }
     
     @Override
@@ -110,6 +107,15 @@ public class StandingRobot extends Enemy {
     	return behavior.getDurationForState(state);
     }
     
+    @Override
+    protected int getHitboxOffsetX() { return hbOffsetX; }
+
+    @Override
+    protected int getHitboxOffsetY() { return hbOffsetY; }
+
+    @Override
+    protected int getStepSize() { return 0; }
+
     @Override
     public long getStateStartTime() {
     	return behavior.getStateStartTime();
@@ -8,6 +8,17 @@ package model;
  */
 public class StandingRobotBehavior implements EnemyBehavior {
 
+    // The cycle: the state entered at each step. Also used by the batched update of EnemyStore.
+    static final EnemyState[] CYCLE = { EnemyState.IDLE, EnemyState.ATTACKING, EnemyState.IDLE, EnemyState.TURNING };
+    // Next step when a timed state ends, indexed by EnemyState ordinal, then by the current step.
+    // A robot reset in the middle of its cycle idles, then turns.
+    static final int[][] NEXT_STEPS = new int[EnemyState.values().length][];
+    static {
+        NEXT_STEPS[EnemyState.IDLE.ordinal()] = new int[] { 1, 3, 3, 3 };
+        NEXT_STEPS[EnemyState.ATTACKING.ordinal()] = new int[] { 2, 2, 2, 2 };
+        NEXT_STEPS[EnemyState.TURNING.ordinal()] = new int[] { 0, 0, 0, 0 };
+    }
+
     private EnemyStateHandler currentState;
     private long stateStartTime;
     private int behaviorStep = 0;
@@ -15,8 +26,8 @@ public class StandingRobotBehavior implements EnemyBehavior {
     private long idleDuration, turnDuration, attackDuration;
 
     public StandingRobotBehavior() {
-        currentState = new IdleState();
-        stateStartTime = System.currentTimeMillis();
+        currentState = IdleState.getInstance();
+        stateStartTime = TIMER_NOT_STARTED;
         idleDuration = 1000;
         turnDuration = 500;
         attackDuration = 750;
@@ -24,6 +35,9 @@ public class StandingRobotBehavior implements EnemyBehavior {
 
     @Override
     public void update(Enemy enemy, long currentTime, Level levelData, Player player) {
+        if (stateStartTime == TIMER_NOT_STARTED) {
+            stateStartTime = currentTime;
+        }
         currentState.update(enemy, this, currentTime, levelData, player);
     }
 
@@ -35,6 +49,12 @@ public class StandingRobotBehavior implements EnemyBehavior {
         stateStartTime = currentTime;
     }
 
+    @Override
+    public EnemyStateHandler getNextState(EnemyState finishedState) {
+        behaviorStep = NEXT_STEPS[finishedState.ordinal()][behaviorStep];
+        return EnemyStateHandler.forState(CYCLE[behaviorStep]);
+    }
+
     @Override
     public long getElapsed(long currentTime) {
         return currentTime - stateStartTime;
@@ -57,7 +77,7 @@ public class StandingRobotBehavior implements EnemyBehavior {
     
     @Override
     public void resetBehavior(Enemy enemy) {
-    	changeState(new IdleState(), enemy, System.currentTimeMillis());
+    	changeState(IdleState.getInstance(), enemy, TIMER_NOT_STARTED);
     }
     
     public int getBehaviorStep() {
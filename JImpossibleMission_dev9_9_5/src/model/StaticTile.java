@@ -0,0 +1,57 @@
+package model;
+
+import java.awt.geom.Rectangle2D;
+import static model.GameConstants.*;
+
+/**
+ * A tile without any state, such as a wall. A single immutable instance of each type is shared
+ * by every cell of that type, in every level, so a level only stores a reference per cell.
+ * Its hitbox is relative to the top-left corner of the cell: the geometry accessors of
+ * {@link Tile} move it to the cell they are given.
+ */
+public abstract class StaticTile extends Tile {
+	private static final long serialVersionUID = 1L;
+
+	/**
+     * Constructs a shared tile, at the origin of the cell.
+     * @param solid True if the tile is solid.
+     */
+	protected StaticTile(boolean solid) {
+		super(0, 0);
+		this.solid = solid;
+		initHitbox();
+	}
+
+	/**
+     * @return The hitbox relative to the cell, which must not be modified.
+     */
+	@Override
+	public Rectangle2D.Float getHitbox() {
+		return hitbox;
+	}
+
+	@Override
+	public boolean isSolid() {
+		return solid;
+	}
+
+	@Override
+	public float getHitboxX(int col) {
+		return col * TILES_DEFAULT_SIZE + hitbox.x;
+	}
+
+	@Override
+	public float getHitboxY(int row) {
+		return row * TILES_DEFAULT_SIZE + hitbox.y;
+	}
+
+	@Override
+	public boolean intersects(int row, int col, double x, double y, double width, double height) {
+		if (width <= 0 || height <= 0 || hitbox.isEmpty()) {
+			return false;
+		}
+		double x0 = getHitboxX(col);
+		double y0 = getHitboxY(row);
+		return x + width > x0 && y + height > y0 && x < x0 + hitbox.width && y < y0 + hitbox.height;
+	}
+}
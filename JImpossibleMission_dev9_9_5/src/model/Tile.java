@@ -2,16 +2,18 @@ package model;
 
 import java.awt.geom.Rectangle2D;
 import java.io.Serializable;
-import java.util.Observable;
 import static model.GameConstants.*;
 
 /**
  * An abstract base class for all tiles that make up the game world's structure.
  * It provides fundamental properties like position, dimensions, solidity, and a hitbox.
- * It can be observed, which is particularly useful for dynamic tiles like lifts.
+ * Dynamic tiles, like lifts, report their state changes on the {@link ChangeBus}.
+ * <p>
+ * Only the tiles with a state (lifts, PCs and furniture) are placed objects. The others are
+ * {@link StaticTile}s shared by every cell of their type, so the geometry accessors take the
+ * cell of the tile; placed tiles ignore it and use their own hitbox.
  */
-@SuppressWarnings("deprecation")
-public abstract class Tile extends Observable implements Serializable{
+public abstract class Tile implements Serializable{
 	private static final long serialVersionUID = 1L;
 	protected int x, y;
 	protected int width, height;
@@ -44,4 +46,38 @@ public abstract class Tile extends Observable implements Serializable{
      * @return The {@link TileTypes} enum constant representing the type of this tile.
      */
 	public abstract TileTypes getType();
+
+	/**
+     * @param col The column of the cell holding the tile.
+     * @return The x-coordinate of the tile's hitbox.
+     */
+	public float getHitboxX(int col) {
+		return getHitbox().x;
+	}
+
+	/**
+     * @param row The row of the cell holding the tile.
+     * @return The y-coordinate of the tile's hitbox.
+     */
+	public float getHitboxY(int row) {
+		return getHitbox().y;
+	}
+
+	public float getHitboxWidth() { return getHitbox().width; }
+	public float getHitboxHeight() { return getHitbox().height; }
+
+	/**
+     * Checks if the tile's hitbox intersects an area, like {@link Rectangle2D#intersects(double, double, double, double)}.
+     *
+     * @param row    The row of the cell holding the tile.
+     * @param col    The column of the cell holding the tile.
+     * @param x      The x-coordinate of the area.
+     * @param y      The y-coordinate of the area.
+     * @param width  The width of the area.
+     * @param height The height of the area.
+     * @return True if the hitbox and the area intersect.
+     */
+	public boolean intersects(int row, int col, double x, double y, double width, double height) {
+		return getHitbox().intersects(x, y, width, height);
+	}
 }
\ No newline at end of file
@@ -1,29 +1,49 @@
 package model;
 
+import java.util.Random;
+
 /**
  * A factory class for creating different types of tiles.
  * This class encapsulates the instantiation logic for all concrete {@link Tile} subclasses,
  * providing a single point of creation based on a {@link TileTypes} enum.
+ * The tiles without state are shared {@link StaticTile}s; only lifts, PCs and furniture are new objects.
  */
 public final class TileFactory {
 	
 	/**
 	 * Creates and returns a tile of the specified type at the given coordinates.
 	 * * @param tileType The type of tile to create, as defined in the {@link TileTypes} enum.
-	 * @param x The x-coordinate for the new tile.
-	 * @param y The y-coordinate for the new tile.
-	 * @return A new {@link Tile} instance of the specified type.
+	 * @param x The x-coordinate for the new tile, ignored by the shared static tiles.
+	 * @param y The y-coordinate for the new tile, ignored by the shared static tiles.
+	 * @return A {@link Tile} of the specified type: a new instance, or the shared one for static tiles.
 	 * @throws IllegalArgumentException if the provided tileType is not a valid enum constant.
 	 */
 	public static Tile getTile(final TileTypes tileType, int x, int y) {
 		return switch(tileType) {
-		case EMPTY -> new EmptyTile(x, y);
-		case WALL -> new WallTile(x, y);
-		case PLATFORM -> new PlatformTile(x, y);
+		case EMPTY -> EmptyTile.getInstance();
+		case WALL -> WallTile.getInstance();
+		case PLATFORM -> PlatformTile.getInstance();
 		case LIFT -> new LiftTile(x, y);
 		case PC -> new PcTile(x, y);
 		case FURNITURE -> new FurnitureTile(x, y);
 		default -> throw new IllegalArgumentException("No such tileType found!");
 		};
 	}
+	
+	/**
+	 * Creates and returns a tile of the specified type at the given coordinates,
+	 * drawing any random property (such as the furniture type) from the given generator.
+	 * @param tileType The type of tile to create, as defined in the {@link TileTypes} enum.
+	 * @param x The x-coordinate for the new tile.
+	 * @param y The y-coordinate for the new tile.
+	 * @param random The random generator to use.
+	 * @return A new {@link Tile} instance of the specified type.
+	 * @throws IllegalArgumentException if the provided tileType is not a valid enum constant.
+	 */
+	public static Tile getTile(final TileTypes tileType, int x, int y, Random random) {
+		if (tileType == TileTypes.FURNITURE) {
+			return new FurnitureTile(x, y, FurnitureType.randomType(random));
+		}
+		return getTile(tileType, x, y);
+	}
 }
\ No newline at end of file
@@ -7,6 +7,17 @@ package model;
  */
 public class TurningState implements EnemyStateHandler {
 
+	private static final TurningState instance = new TurningState();
+
+	private TurningState() {}
+
+	/**
+	 * @return The handler of the Turning state, shared by all enemies.
+	 */
+	public static TurningState getInstance() {
+		return instance;
+	}
+
 	@Override
 	public void enter(Enemy enemy) {
 		enemy.setState(EnemyState.TURNING);
@@ -18,32 +29,10 @@ public class TurningState implements EnemyStateHandler {
 		long turnDuration = context.getDurationForState(EnemyState.TURNING);
 
 		if (context.getElapsed(currentTime) >= turnDuration) {
-            // The turn action is complete. Decide what to do next.
-            EnemyStateHandler nextState = getNextStateFor(context);
-            context.changeState(nextState, enemy, currentTime);
+            // The turn action is complete. The context's transition table decides what to do next.
+            context.changeState(context.getNextState(EnemyState.TURNING), enemy, currentTime);
         }
 	}
-	
-	/**
-     * Determines the next state based on the enemy's behavior context.
-     * @param context The behavior context of the enemy.
-     * @return The next state handler for the enemy.
-     */
-    private EnemyStateHandler getNextStateFor(EnemyBehavior context) {
-        if (context instanceof StandingRobotBehavior) {
-            // After turning, a StandingRobot goes back to Idle to restart its cycle.
-            StandingRobotBehavior specificContext = (StandingRobotBehavior) context;
-            specificContext.setBehaviorStep(0); // Reset the behavior sequence
-            return new IdleState();
-        } 
-        else if (context instanceof MovingRobotBehavior) {
-            // After turning, a MovingRobot starts walking in the new direction.
-            return new MovingState();
-        }
-        
-        // Fallback
-        return new IdleState();
-    }
 
 	@Override
 	public void exit(Enemy enemy) {
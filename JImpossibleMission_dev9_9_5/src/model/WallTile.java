@@ -5,34 +5,34 @@ import java.awt.geom.Rectangle2D;
 
 /**
  * Represents a solid, impassable wall tile in the game world.
- * Entities cannot move through this tile.
+ * Entities cannot move through this tile. A single instance is shared by all the wall cells.
  */
-public class WallTile extends Tile {
+public class WallTile extends StaticTile {
 	private static final long serialVersionUID = 1L;
+	private static final WallTile instance = new WallTile();
 
-	public WallTile(int x, int y) {
-		super(x, y);
-		solid = true;
-		initHitbox();
+	private WallTile() {
+		super(true);
 	}
 
-	@Override
-	protected void initHitbox() {
-		hitbox = new Rectangle2D.Float(x, y, width, height);
+	/**
+     * @return The shared WallTile.
+     */
+	public static WallTile getInstance() {
+		return instance;
 	}
 
-	@Override
-	public Rectangle2D.Float getHitbox() {
-		return hitbox;
+	private Object readResolve() {
+		return instance;
 	}
 
 	@Override
-	public boolean isSolid() {
-		return solid;
+	protected void initHitbox() {
+		hitbox = new Rectangle2D.Float(x, y, width, height);
 	}
 	
 	@Override
 	public TileTypes getType() {
 		return WALL; 
 	}
-}
\ No newline at end of file
+}
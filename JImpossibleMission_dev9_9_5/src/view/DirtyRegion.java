@@ -0,0 +1,66 @@
+package view;
+
+import java.awt.Rectangle;
+
+/**
+ * Accumulates the screen areas that must be repainted for the next frame, as a single bounding
+ * rectangle: Swing merges the dirty areas of a component into their union anyway.
+ * Adding areas allocates nothing. A region is only used on the Event Dispatch Thread.
+ */
+public class DirtyRegion {
+
+	private int minX, minY, maxX, maxY;
+
+	/**
+     * Constructs an empty DirtyRegion.
+     */
+	public DirtyRegion() {
+		clear();
+	}
+
+	/**
+     * Empties the region.
+     */
+	public void clear() {
+		minX = minY = Integer.MAX_VALUE;
+		maxX = maxY = Integer.MIN_VALUE;
+	}
+
+	/**
+     * Adds an area to the region. Empty areas are ignored.
+     *
+     * @param x      The x-coordinate of the area.
+     * @param y      The y-coordinate of the area.
+     * @param width  The width of the area.
+     * @param height The height of the area.
+     */
+	public void add(int x, int y, int width, int height) {
+		if (width <= 0 || height <= 0) {
+			return;
+		}
+		minX = Math.min(minX, x);
+		minY = Math.min(minY, y);
+		maxX = Math.max(maxX, x + width);
+		maxY = Math.max(maxY, y + height);
+	}
+
+	/**
+     * Adds an area to the region. Empty areas are ignored.
+     * @param area The area to add.
+     */
+	public void add(Rectangle area) {
+		add(area.x, area.y, area.width, area.height);
+	}
+
+	/**
+     * @return True if nothing was added since the last {@link #clear()}.
+     */
+	public boolean isEmpty() {
+		return minX >= maxX;
+	}
+
+	public int getX() { return minX; }
+	public int getY() { return minY; }
+	public int getWidth() { return maxX - minX; }
+	public int getHeight() { return maxY - minY; }
+}
@@ -4,9 +4,7 @@ import java.awt.Graphics;
 import java.awt.Graphics2D;
 import java.awt.image.BufferedImage;
 import controller.AssetLoader;
-import model.Elevator;
-import model.GameModel;
-import model.Player;
+import model.FrameSnapshot;
 import static model.GameConstants.*;
 
 /**
@@ -15,22 +13,15 @@ import static model.GameConstants.*;
  */
 public class ElevatorView {
 
-	private GameModel gameModel;
-    private Elevator elevatorModel;
     private BufferedImage shaftBackground;
     private BufferedImage cabinImage;
-    private Player player;
     private PlayerView playerRenderer;
+    private float lastElevatorY = Float.NaN; // Drawn by the last planned frame
     
     /**
      * Constructs an ElevatorView.
-     *
-     * @param gameModel The main game model containing the elevator and player data.
      */
-    public ElevatorView(GameModel gameModel) {
-    	this.gameModel = gameModel;
-        this.elevatorModel = gameModel.getElevator();
-        this.player = gameModel.getPlayer();
+    public ElevatorView() {
         this.playerRenderer = new PlayerView();
         loadImages();
     }
@@ -46,31 +37,50 @@ public class ElevatorView {
         }
     }
 
+    /**
+     * Adds to a region what must be redrawn for the next frame: the whole screen while the shaft
+     * scrolls, otherwise the player only.
+     *
+     * @param snapshot The snapshot of the next frame.
+     * @param region   The region to repaint.
+     */
+    public void addDirtyBounds(FrameSnapshot snapshot, DirtyRegion region) {
+        float elevatorY = snapshot.getElevatorRenderY(1f);
+        if (elevatorY != snapshot.getElevatorRenderY(0f) || elevatorY != lastElevatorY) {
+            region.add(0, 0, GAME_WIDTH, GAME_HEIGHT);
+        }
+        lastElevatorY = elevatorY;
+        playerRenderer.addDirtyBounds(snapshot, region);
+    }
+
     /**
      * Draws the elevator view onto the screen.
      * It simulates movement by translating the background shaft image vertically
      * based on the elevator's logical Y position, while the cabin remains stationary.
      *
-     * @param g The Graphics context to draw on.
+     * @param g        The Graphics context to draw on.
+     * @param snapshot The latest frame snapshot, holding the elevator and player data.
      */
-    public void draw(Graphics g) {
+    public void draw(Graphics g, FrameSnapshot snapshot) {
     	Graphics2D g2d = (Graphics2D) g;
+    	float alpha = snapshot.getInterpolationAlpha();
         
         // The logical yPosition from the model dictates the vertical offset for the background shaft.
         // This creates the illusion of the camera moving up or down the elevator shaft.
-        int shaftOffsetY = (int) (elevatorModel.getYPosition() * SCALE); 
+        int shaftOffsetY = (int) (snapshot.getElevatorRenderY(alpha) * SCALE); 
         
         // The cabin is drawn at a fixed position on the screen.
         int cabinDrawX = (GAME_WIDTH / 2) - (int)((cabinImage.getWidth() * SCALE / 2)); 
         int cabinDrawY = (int)((GAME_HEIGHT / 7.5) - (3 * SCALE));
         
         // Draw the shaft background with the calculated offset.
-        g.drawImage(shaftBackground, 0, -shaftOffsetY, GAME_WIDTH, (int)(shaftBackground.getHeight() * SCALE), null);
+        SpriteCache sprites = SpriteCache.getInstance();
+        g.drawImage(sprites.get(shaftBackground, GAME_WIDTH, (int)(shaftBackground.getHeight() * SCALE)), 0, -shaftOffsetY, null);
 
         // Draw the cabin at its fixed position.
-        g.drawImage(cabinImage, cabinDrawX, cabinDrawY, (int) (cabinImage.getWidth() * SCALE), (int) (cabinImage.getHeight() * SCALE), null);
+        g.drawImage(sprites.get(cabinImage, (int) (cabinImage.getWidth() * SCALE), (int) (cabinImage.getHeight() * SCALE)), cabinDrawX, cabinDrawY, null);
         
         // Draw the player inside the elevator.
-        playerRenderer.draw(g2d, player, gameModel.getGameState());
+        playerRenderer.draw(g2d, snapshot, alpha);
     }
 }
\ No newline at end of file
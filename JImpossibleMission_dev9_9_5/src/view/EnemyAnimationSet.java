@@ -6,6 +6,8 @@ import java.awt.image.BufferedImage;
  * A data container that holds pre-sliced animation frames for a specific type of enemy.
  * This class loads sprite sheets (atlases) and splits them into individual frames
  * for different animations like standing, turning, and attacking.
+ * Every animation also comes mirrored horizontally, so that sprites facing the other way are
+ * drawn as plain copies instead of with a negative width.
  */
 public class EnemyAnimationSet {
     private final int SPRITE_WIDTH = 32;
@@ -18,6 +20,9 @@ public class EnemyAnimationSet {
     private BufferedImage[] standingAnimations;
     private BufferedImage[] turningAnimations;
     private BufferedImage[] attackingAnimations;
+    private BufferedImage[] mirroredStandingAnimations;
+    private BufferedImage[] mirroredTurningAnimations;
+    private BufferedImage[] mirroredAttackingAnimations;
 
     /**
      * Constructs an EnemyAnimationSet by loading and slicing the provided sprite atlases.
@@ -52,12 +57,41 @@ public class EnemyAnimationSet {
         for (int i = 0; i < TOTAL_ATTACKING_FRAMES; i++) {
             attackingAnimations[i] = attacking.getSubimage(i * ATTACKING_SPRITE_WIDTH, 0, ATTACKING_SPRITE_WIDTH, SPRITE_HEIGHT);
         }
+
+        mirroredStandingAnimations = mirror(standingAnimations);
+        mirroredTurningAnimations = mirror(turningAnimations);
+        mirroredAttackingAnimations = mirror(attackingAnimations);
+    }
+
+    /**
+     * Mirrors animation frames horizontally, pixel by pixel.
+     *
+     * @param frames The frames of an animation.
+     * @return New frames, each one the mirror image of the frame at the same index.
+     */
+    static BufferedImage[] mirror(BufferedImage[] frames) {
+        BufferedImage[] mirrored = new BufferedImage[frames.length];
+        for (int i = 0; i < frames.length; i++) {
+            BufferedImage frame = frames[i];
+            int width = frame.getWidth();
+            BufferedImage image = new BufferedImage(width, frame.getHeight(), BufferedImage.TYPE_INT_ARGB);
+            for (int y = 0; y < frame.getHeight(); y++) {
+                for (int x = 0; x < width; x++) {
+                    image.setRGB(width - 1 - x, y, frame.getRGB(x, y));
+                }
+            }
+            mirrored[i] = image;
+        }
+        return mirrored;
     }
 
     // --- GETTERS for animation frames and constants ---
     public BufferedImage[] getStandingAnimations() { return standingAnimations; }
     public BufferedImage[] getTurningAnimations() { return turningAnimations; }
     public BufferedImage[] getAttackingAnimations() { return attackingAnimations; }
+    public BufferedImage[] getMirroredStandingAnimations() { return mirroredStandingAnimations; }
+    public BufferedImage[] getMirroredTurningAnimations() { return mirroredTurningAnimations; }
+    public BufferedImage[] getMirroredAttackingAnimations() { return mirroredAttackingAnimations; }
     
     public int getTotalStandingFrames() { return TOTAL_STANDING_FRAMES; }
     public int getTotalTurningFrames() { return TOTAL_TURNING_FRAMES; }
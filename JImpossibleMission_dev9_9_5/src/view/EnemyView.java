@@ -1,8 +1,10 @@
 package view;
 
-import model.Enemy;
+import model.EnemyState;
+import model.FrameSnapshot;
 import java.awt.Graphics;
 import java.awt.image.BufferedImage;
+import java.util.Arrays;
 import static model.Directions.*;
 import static model.GameConstants.*;
 
@@ -13,33 +15,103 @@ import static model.GameConstants.*;
  */
 public class EnemyView {
 
+	// What the last planned frame covered, see addDirtyBounds: x, y, width and height of each enemy
+	private int[] lastBounds = new int[0];
+	private int lastCount;
+	private long lastGameTime = -1;
+
 	public EnemyView() {
 	}
 
+	/**
+     * Adds to a region the old and new bounds of the enemies that must be redrawn for the next frame.
+     * Their animations follow the game time, so every enemy is redrawn whenever the game time
+     * changed, and the others only if they moved. The new bounds cover every interpolated
+     * position of the snapshot, and the beam of the attacking robots.
+     *
+     * @param snapshot The snapshot of the next frame.
+     * @param region   The region to repaint.
+     */
+	public void addDirtyBounds(FrameSnapshot snapshot, DirtyRegion region) {
+		int count = snapshot.getEnemyCount();
+		if (lastBounds.length < count * 4) {
+			lastBounds = Arrays.copyOf(lastBounds, count * 4);
+		}
+		boolean animated = snapshot.getGameTimeMs() != lastGameTime;
+		int beamWidth = (int) (96 * 2 * SCALE);
+		int beamOffset = (int) ((96 - 64) * 2 * SCALE);
+
+		for (int i = 0; i < count; i++) {
+			int minX = (int) Math.floor(Math.min(snapshot.getEnemyRenderX(i, 0f), snapshot.getEnemyRenderX(i, 1f)) * SCALE);
+			int maxX = (int) Math.ceil(Math.max(snapshot.getEnemyRenderX(i, 0f), snapshot.getEnemyRenderX(i, 1f)) * SCALE);
+			int y = (int) Math.floor(Math.min(snapshot.getEnemyRenderY(i, 0f), snapshot.getEnemyRenderY(i, 1f)) * SCALE);
+			int height = (int) Math.ceil(Math.max(snapshot.getEnemyRenderY(i, 0f), snapshot.getEnemyRenderY(i, 1f)) * SCALE) - y
+					+ (int) (snapshot.getEnemyHeight(i) * SCALE);
+			int x;
+			int width;
+			if (snapshot.getEnemyState(i) != EnemyState.ATTACKING) {
+				x = minX;
+				width = maxX - minX + (int) (snapshot.getEnemyWidth(i) * SCALE);
+			} else if (snapshot.getEnemyDirection(i) == RIGHT) {
+				x = minX;
+				width = maxX - minX + beamWidth;
+			} else {
+				x = minX + beamOffset - beamWidth;
+				width = maxX - minX + beamWidth;
+			}
+
+			int b = i * 4;
+			boolean moved = i >= lastCount || x != lastBounds[b] || y != lastBounds[b + 1]
+					|| width != lastBounds[b + 2] || height != lastBounds[b + 3];
+			if (animated || moved) {
+				if (i < lastCount) {
+					region.add(lastBounds[b], lastBounds[b + 1], lastBounds[b + 2], lastBounds[b + 3]);
+				}
+				region.add(x, y, width, height);
+			}
+			lastBounds[b] = x;
+			lastBounds[b + 1] = y;
+			lastBounds[b + 2] = width;
+			lastBounds[b + 3] = height;
+		}
+		for (int i = count; i < lastCount; i++) { // Enemies that are gone
+			region.add(lastBounds[i * 4], lastBounds[i * 4 + 1], lastBounds[i * 4 + 2], lastBounds[i * 4 + 3]);
+		}
+		lastCount = count;
+		lastGameTime = snapshot.getGameTimeMs();
+	}
+
 	/**
      * Draws a single enemy on the screen.
      *
-     * @param g       The Graphics context to draw on.
-     * @param enemy   The enemy object containing state and position data.
-     * @param animSet The set of pre-loaded animations for this enemy type.
+     * @param g        The Graphics context to draw on.
+     * @param snapshot The latest frame snapshot containing the enemy state and position data.
+     * @param i        The index of the enemy in the snapshot.
+     * @param animSet  The set of pre-loaded animations for this enemy type.
+     * @param alpha    The interpolation factor between the previous and the current simulation tick.
      */
-	public void draw(Graphics g, Enemy enemy, EnemyAnimationSet animSet) {
+	public void draw(Graphics g, FrameSnapshot snapshot, int i, EnemyAnimationSet animSet, float alpha) {
+		EnemyState state = snapshot.getEnemyState(i);
 
 		BufferedImage[] currentAnimation = null;
 		int currentTotalFrames = 0;
 
-		switch (enemy.getState()) {
+		// The atlases face right, except the turning one which faces left
+		switch (state) {
 		case IDLE:
 		case MOVING:
-			currentAnimation = animSet.getStandingAnimations();
+			currentAnimation = snapshot.getEnemyDirection(i) == RIGHT
+					? animSet.getStandingAnimations() : animSet.getMirroredStandingAnimations();
 			currentTotalFrames = animSet.getTotalStandingFrames();
 			break;
 		case TURNING:
-			currentAnimation = animSet.getTurningAnimations();
+			currentAnimation = snapshot.getEnemyDirection(i) == LEFT
+					? animSet.getTurningAnimations() : animSet.getMirroredTurningAnimations();
 			currentTotalFrames = animSet.getTotalTurningFrames();
 			break;
 		case ATTACKING:
-			currentAnimation = animSet.getAttackingAnimations();
+			currentAnimation = snapshot.getEnemyDirection(i) == RIGHT
+					? animSet.getAttackingAnimations() : animSet.getMirroredAttackingAnimations();
 			currentTotalFrames = animSet.getTotalAttackingFrames();
 			break;
 		default:
@@ -49,39 +121,33 @@ public class EnemyView {
 			break;
 		}
 
-		if (currentAnimation == null || currentAnimation.length == 0 || enemy == null) {
+		if (currentAnimation == null || currentAnimation.length == 0) {
 			return;
 		}
 
-		int aniIndex = calculateAniIndex(enemy.getStateStartTime(), System.currentTimeMillis(),
-				enemy.getDurationForState(enemy.getState()), currentTotalFrames);
+		int aniIndex = calculateAniIndex(snapshot.getEnemyStateStart(i), snapshot.getGameTimeMs(),
+				snapshot.getEnemyStateDuration(i), currentTotalFrames);
 
 		int frameToDraw = aniIndex % currentAnimation.length;
-		int drawX = (int) (enemy.getX() * SCALE);
-		int drawY = (int) (enemy.getY() * SCALE);
-		int drawWidth = (int) (enemy.getWidth() * SCALE);
-		int drawHeight = (int) (enemy.getHeight() * SCALE);
+		int drawX = (int) (snapshot.getEnemyRenderX(i, alpha) * SCALE);
+		int drawY = (int) (snapshot.getEnemyRenderY(i, alpha) * SCALE);
+		int drawWidth = (int) (snapshot.getEnemyWidth(i) * SCALE);
+		int drawHeight = (int) (snapshot.getEnemyHeight(i) * SCALE);
+		SpriteCache sprites = SpriteCache.getInstance();
 		
-		switch (enemy.getState()) {
+		switch (state) {
 		case IDLE:
 		case MOVING:
-			if (enemy.getDirection() == RIGHT)
-				g.drawImage(currentAnimation[frameToDraw], drawX, drawY, drawWidth, drawHeight, null);
-			else // Flip horizontally for left direction
-				g.drawImage(currentAnimation[frameToDraw], drawX + drawWidth, drawY, -drawWidth, drawHeight, null);
-			break;
 		case TURNING:
-			if (enemy.getDirection() == LEFT)
-				g.drawImage(currentAnimation[frameToDraw], drawX, drawY, drawWidth, drawHeight, null);
-			else // Flip horizontally for right direction
-				g.drawImage(currentAnimation[frameToDraw], drawX + drawWidth, drawY, -drawWidth, drawHeight, null);
+			g.drawImage(sprites.get(currentAnimation[frameToDraw], drawWidth, drawHeight), drawX, drawY, null);
 			break;
 		case ATTACKING:
-			if (enemy.getDirection() == RIGHT) {
-				g.drawImage(currentAnimation[frameToDraw], drawX, drawY, (int) (96 * 2 * SCALE), drawHeight, null);
-			} else { // Flip horizontally for left direction
-				g.drawImage(currentAnimation[frameToDraw], drawX + (int) ((96 - 64) * 2 * SCALE), drawY,
-						-(int) (96 * 2 * SCALE), drawHeight, null);
+			int beamWidth = (int) (96 * 2 * SCALE);
+			if (snapshot.getEnemyDirection(i) == RIGHT) {
+				g.drawImage(sprites.get(currentAnimation[frameToDraw], beamWidth, drawHeight), drawX, drawY, null);
+			} else { // The mirrored beam extends to the left of the robot
+				g.drawImage(sprites.get(currentAnimation[frameToDraw], beamWidth, drawHeight),
+						drawX + (int) ((96 - 64) * 2 * SCALE) - beamWidth, drawY, null);
 			}
 			break;
 		default:
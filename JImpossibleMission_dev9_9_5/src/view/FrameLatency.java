@@ -0,0 +1,65 @@
+package view;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Measures the latency from an input to the first frame that shows its effect.
+ * The input thread records when a key or a mouse button is pressed; the painting thread then
+ * reports each frame once it is shown, with the time of the tick it draws. The first frame
+ * drawing a tick captured after the input closes the measure: its tick is the first one that
+ * could have read the input.
+ * <p>
+ * The measure ends when the backend hands the frame over: after the flip for the
+ * {@link GameCanvas}, after painting into the Swing back buffer for the {@link MainGamePanel}.
+ * The display then adds at most one refresh interval per queued buffer before the photons.
+ * Only one input is measured at a time, the presses arriving meanwhile are ignored.
+ */
+public class FrameLatency {
+
+	private final AtomicLong pendingInput = new AtomicLong(); // 0 when no input is waiting
+	private int samples;
+	private long totalNanos;
+	private long maxNanos;
+
+	/**
+	 * Records a press. Called on the thread dispatching the input events.
+	 */
+	public void inputReceived() {
+		pendingInput.compareAndSet(0, System.nanoTime());
+	}
+
+	/**
+	 * Reports a frame that was just shown.
+	 *
+	 * @param tickNanos The {@link System#nanoTime()} at which the tick drawn by the frame was captured.
+	 */
+	public void frameShown(long tickNanos) {
+		long input = pendingInput.get();
+		if (input != 0 && tickNanos - input >= 0 && pendingInput.compareAndSet(input, 0)) {
+			record(System.nanoTime() - input);
+		}
+	}
+
+	private synchronized void record(long nanos) {
+		samples++;
+		totalNanos += nanos;
+		maxNanos = Math.max(maxNanos, nanos);
+	}
+
+	/**
+	 * Describes the latencies measured since the last call, and starts a new measure.
+	 *
+	 * @return The average and worst latency, or null if no input was measured.
+	 */
+	public synchronized String getAndReset() {
+		if (samples == 0) {
+			return null;
+		}
+		String summary = String.format("input latency avg %.1f ms, max %.1f ms (%d)",
+				totalNanos / 1e6 / samples, maxNanos / 1e6, samples);
+		samples = 0;
+		totalNanos = 0;
+		maxNanos = 0;
+		return summary;
+	}
+}
@@ -0,0 +1,164 @@
+package view;
+
+import java.awt.Canvas;
+import java.awt.Component;
+import java.awt.Dimension;
+import java.awt.Graphics;
+import java.awt.Toolkit;
+import java.awt.event.KeyEvent;
+import java.awt.event.MouseEvent;
+import java.awt.image.BufferStrategy;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.swing.UIManager;
+import model.FrameSnapshot;
+import model.SnapshotBuffer;
+
+import static model.GameConstants.*;
+
+/**
+ * The active-rendering {@link GameSurface}, enabled with {@code -Djim.renderer=active}.
+ * Instead of asking Swing to repaint, the render loop draws each frame itself, on its own thread,
+ * into the back buffer of a {@link BufferStrategy}, and shows it at once by page flipping when the
+ * display supports it, or by a copy otherwise. The time a frame reaches the screen is then
+ * decided by the render loop alone, never coalesced or delayed by the {@link javax.swing.RepaintManager}.
+ * <p>
+ * The whole frame is drawn every time, so the changes of the bus are not used. Swing's
+ * {@code paint} requests are ignored: the next frame of the render loop repaints the canvas anyway.
+ * The views are only used by the render thread, which is also the only reader of the snapshots.
+ */
+@SuppressWarnings("serial")
+public class GameCanvas extends Canvas implements GameSurface {
+
+	private SnapshotBuffer snapshots;
+	private SceneRenderer sceneRenderer;
+
+	private final FrameLatency latency = new FrameLatency();
+	private final AtomicInteger framesShown = new AtomicInteger();
+
+    /**
+     * Constructs the GameCanvas.
+     *
+     * @param snapshots The buffer through which the game thread publishes a snapshot after every tick.
+     * @param sceneRenderer The renderer drawing the frames with all the sub-views.
+     */
+	public GameCanvas(SnapshotBuffer snapshots, SceneRenderer sceneRenderer) {
+		this.snapshots = snapshots;
+		this.sceneRenderer = sceneRenderer;
+
+		setIgnoreRepaint(true);
+		setFocusable(true);
+		setBackground(UIManager.getColor("Panel.background")); // The background of the Swing panel
+		setPreferredSize(new Dimension(GAME_WIDTH, GAME_HEIGHT));
+	}
+
+	/**
+	 * Creates the buffer strategy once the canvas is displayable: {@code RENDER_BUFFERS} buffers,
+	 * page-flipped when the display allows it.
+	 */
+	@Override
+	public void addNotify() {
+		super.addNotify();
+		createBufferStrategy(RENDER_BUFFERS);
+	}
+
+	@Override
+	public Component getDrawingComponent() {
+		return this;
+	}
+
+	/**
+	 * Draws and shows the next frame at once, on the render thread.
+	 */
+	@Override
+	public void requestFrame() {
+		render();
+	}
+
+	/**
+	 * Draws and shows the next frame at once, on the render thread.
+	 */
+	@Override
+	public void paintNow() {
+		render();
+	}
+
+	/**
+	 * Draws the latest snapshot into the back buffer and shows it. The frame is drawn again if the
+	 * buffers were lost meanwhile, for example when the display mode changed.
+	 * Does nothing until the canvas is displayable.
+	 */
+	private void render() {
+		BufferStrategy strategy = getBufferStrategy();
+		if (strategy == null) {
+			return;
+		}
+		FrameSnapshot snapshot = snapshots.getLatest();
+		SpriteCache.getInstance().validate(getGraphicsConfiguration());
+
+		do {
+			do {
+				Graphics g = strategy.getDrawGraphics();
+				try {
+					g.setColor(getBackground());
+					g.fillRect(0, 0, getWidth(), getHeight());
+					sceneRenderer.draw(g, snapshot);
+				} finally {
+					g.dispose();
+				}
+			} while (strategy.contentsRestored());
+			strategy.show();
+		} while (strategy.contentsLost());
+		Toolkit.getDefaultToolkit().sync(); // Flush the window system queue, or the frame may wait there
+
+		framesShown.incrementAndGet();
+		latency.frameShown(snapshot.getTickNanos());
+	}
+
+	/**
+	 * Ignores Swing's repaint requests, the render loop draws the next frame.
+	 */
+	@Override
+	public void paint(Graphics g) {
+	}
+
+	@Override
+	public void update(Graphics g) {
+	}
+
+	/**
+	 * Records the presses before dispatching them, for the latency measure.
+	 */
+	@Override
+	protected void processKeyEvent(KeyEvent e) {
+		if (e.getID() == KeyEvent.KEY_PRESSED) {
+			latency.inputReceived();
+		}
+		super.processKeyEvent(e);
+	}
+
+	@Override
+	protected void processMouseEvent(MouseEvent e) {
+		if (e.getID() == MouseEvent.MOUSE_PRESSED) {
+			latency.inputReceived();
+		}
+		super.processMouseEvent(e);
+	}
+
+	@Override
+	public int getAndResetFrameCount() {
+		return framesShown.getAndSet(0);
+	}
+
+	@Override
+	public FrameLatency getLatency() {
+		return latency;
+	}
+
+	/**
+	 * The whole frame is drawn every time, so the changes are not needed.
+	 * @param changes The mask of the changes of the tick.
+	 */
+	@Override
+	public void onChanges(int changes) {
+	}
+}
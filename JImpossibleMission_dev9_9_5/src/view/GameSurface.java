@@ -0,0 +1,39 @@
+package view;
+
+import java.awt.Component;
+import model.ChangeBus;
+
+/**
+ * The component the game is drawn on, driven by the render loop of the
+ * {@link controller.GameController}. Two backends implement it: the Swing {@link MainGamePanel},
+ * the default, whose frames are painted when the {@link javax.swing.RepaintManager} decides, and
+ * the {@link GameCanvas}, which draws and flips each frame itself as soon as it is requested.
+ * Both draw with a {@link SceneRenderer} and measure their {@link FrameLatency}.
+ */
+public interface GameSurface extends ChangeBus.Listener {
+
+	/**
+     * @return The component to add to the window and to attach the input listeners to.
+     */
+	Component getDrawingComponent();
+
+	/**
+	 * Requests the next frame. Called by the render loop at its own rate.
+	 */
+	void requestFrame();
+
+	/**
+	 * Draws the next frame and waits until it is on screen. Called by the uncapped render loop.
+	 */
+	void paintNow();
+
+	/**
+	 * @return The number of frames shown since the last call.
+	 */
+	int getAndResetFrameCount();
+
+	/**
+	 * @return The input-to-frame latency of this surface.
+	 */
+	FrameLatency getLatency();
+}
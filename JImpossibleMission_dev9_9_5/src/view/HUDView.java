@@ -1,7 +1,6 @@
 package view;
 
-import model.GameModel;
-import model.GameSession;
+import model.FrameSnapshot;
 import java.awt.Color;
 import java.awt.Graphics;
 import java.awt.Graphics2D;
@@ -12,23 +11,38 @@ import static model.GameConstants.*;
  * The HUD shows real-time information such as FPS, lives, puzzle pieces, and time remaining.
  */
 public class HUDView {
-    private GameModel gameModel;
+
+    // The values shown by the last planned frame, see addDirtyBounds
+    private int lastFps = -1;
+    private int lastLives = -1;
+    private int lastPieces = -1;
+    private long lastSecondsLeft = -1;
 
     /**
-     * Constructs a HUDView.
+     * Adds the HUD bar to a region if one of its values changed since the last planned frame.
      *
-     * @param gameModel The game model from which to retrieve HUD data.
+     * @param snapshot The snapshot of the next frame.
+     * @param region   The region to repaint.
      */
-    public HUDView(GameModel gameModel) {
-        this.gameModel = gameModel;
+    public void addDirtyBounds(FrameSnapshot snapshot, DirtyRegion region) {
+        long secondsLeft = snapshot.hasSession() ? Math.max(0, snapshot.getTimeLeftMs()) / 1000 : 0;
+        if (snapshot.getFps() != lastFps || snapshot.getLives() != lastLives
+                || snapshot.getPuzzlePieces() != lastPieces || secondsLeft != lastSecondsLeft) {
+            region.add(0, 0, GAME_WIDTH, (int)(20 * SCALE));
+        }
+        lastFps = snapshot.getFps();
+        lastLives = snapshot.getLives();
+        lastPieces = snapshot.getPuzzlePieces();
+        lastSecondsLeft = secondsLeft;
     }
 
     /**
      * Draws the HUD elements.
      *
-     * @param g The Graphics context to draw on.
+     * @param g        The Graphics context to draw on.
+     * @param snapshot The latest frame snapshot from which to retrieve HUD data.
      */
-    public void draw(Graphics g) {
+    public void draw(Graphics g, FrameSnapshot snapshot) {
         Graphics2D g2d = (Graphics2D) g;
 
         // Draw a semi-transparent black bar at the top for the background
@@ -40,13 +54,11 @@ public class HUDView {
         g2d.setFont(UIStyle.TEXT_FONT);
         g2d.setColor(Color.GREEN);
 
-        // Retrieve data from the model
-        int fps = gameModel.getCurrentFps();
-        int lives = gameModel.getLives();
-        int pieces = gameModel.getPuzzlePiecesFound();
-        
-        GameSession session = gameModel.getCurrentGameSession();
-        long timeLeftMs = (session != null) ? session.getTimeLeft() : 0;
+        // Retrieve data from the snapshot
+        int fps = snapshot.getFps();
+        int lives = snapshot.getLives();
+        int pieces = snapshot.getPuzzlePieces();
+        long timeLeftMs = snapshot.hasSession() ? snapshot.getTimeLeftMs() : 0;
         long minutes = (timeLeftMs / 1000) / 60;
         long seconds = (timeLeftMs / 1000) % 60;
         if (timeLeftMs < 0) { // Prevent displaying negative time
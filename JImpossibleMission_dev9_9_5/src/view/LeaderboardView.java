@@ -72,7 +72,7 @@ public class LeaderboardView {
 
             BufferedImage avatarImg = AssetLoader.getInstance().getAvatar(profile.getAvatarId());
             if (avatarImg != null) {
-            	g2d.drawImage(avatarImg, x + (int)(15 * SCALE), y, (int)(15 * SCALE), (int)(15 * SCALE), null);
+            	g2d.drawImage(SpriteCache.getInstance().get(avatarImg, (int)(15 * SCALE), (int)(15 * SCALE)), x + (int)(15 * SCALE), y, null);
             }
 
             g2d.drawString(profile.getNickname(), x + (int)(35 * SCALE), y + (int)(10 * SCALE));
@@ -1,12 +1,16 @@
 package view;
 
+import model.FrameSnapshot;
 import model.FurnitureTile;
 import model.Level;
+import model.LiftTile;
 import model.Tile;
 import model.TileTypes;
 import controller.AssetLoader;
 import java.awt.*;
 import java.awt.image.BufferedImage;
+import java.util.Arrays;
+import java.util.List;
 import static model.GameConstants.*;
 import static model.TileTypes.*;
 
@@ -14,13 +18,33 @@ import static model.TileTypes.*;
  * Renders the game level, including all its tiles (walls, platforms, furniture, etc.).
  * This class iterates through the level data provided by the {@link model.GameModel} and draws
  * the corresponding sprite for each tile.
+ * <p>
+ * Everything but the lifts is static while a room is active, so it is pre-rendered once into a
+ * background image when the room is entered, and each frame only copies that image and draws the
+ * lifts. The background is rebuilt when a piece of furniture vanishes (or reappears), and when
+ * the sprites are rebuilt for another display.
  */
 public class LevelView {
     
+	/**
+     * The color behind the tiles of every room.
+     */
+	static final Color BACKGROUND_COLOR = new Color(30, 0, 50);
+
 	private BufferedImage wallTileImg;
 	private BufferedImage platformTileImg;
 	private BufferedImage liftTileImg;
 	private BufferedImage pcTileImg;
+
+	// Pre-rendered static layer of the current room, and what it was built from
+	private BufferedImage background;
+	private Level backgroundLevel;
+	private GraphicsConfiguration backgroundConfiguration;
+	private boolean[] backgroundVanished = new boolean[0];
+
+	// Lift bounds covered by the last planned frame: y and height of each lift
+	private int[] lastLiftBounds = new int[0];
+	private int lastLiftCount;
 	
 	/**
      * Constructs a LevelView and pre-loads all necessary tile images.
@@ -40,24 +64,115 @@ public class LevelView {
 	}
 
 	/**
-	 * Draws the entire level onto the screen.
+	 * Draws the entire level onto the screen, covering it with the background color.
+	 * The static tile grid is read from the snapshot's level, while lift positions and
+	 * vanished furniture come from the snapshot itself. Lifts are stored in the level in
+	 * row-major order, like the lift positions of the snapshot.
 	 *
-	 * @param g     The Graphics context to draw on.
-     * @param level The current {@link Level} object to be rendered.
+	 * @param g        The Graphics context to draw on.
+     * @param snapshot The latest frame snapshot published by the game thread.
+     * @param alpha    The interpolation factor between the previous and the current simulation tick.
 	 */
-	public void draw(Graphics g, Level level) {
-		if (level == null)
+	public void draw(Graphics g, FrameSnapshot snapshot, float alpha) {
+		if (snapshot.getLevel() == null)
 			return;
 
-		Tile[][] levelData = level.getLevelData();
+		Level level = snapshot.getLevel();
+		SpriteCache sprites = SpriteCache.getInstance();
+		if (!isBackgroundValid(level, snapshot)) {
+			buildBackground(level, snapshot);
+		}
+		g.drawImage(background, 0, 0, null);
+
+		BufferedImage liftImage = sprites.get(liftTileImg, TILES_SIZE, TILES_SIZE);
+		List<LiftTile> lifts = level.getLifts();
+		for (int i = 0; i < lifts.size(); i++) {
+			g.drawImage(liftImage, (int) (lifts.get(i).getHitbox().x * SCALE), (int) (snapshot.getLiftRenderY(i, alpha) * SCALE), null);
+		}
+	}
+
+	/**
+     * Adds to a region the old and new bounds of the lifts that moved since the last planned frame.
+     * The new bounds cover every interpolated position of the snapshot.
+     *
+     * @param snapshot The snapshot of the next frame.
+     * @param region   The region to repaint.
+     */
+	public void addDirtyBounds(FrameSnapshot snapshot, DirtyRegion region) {
+		Level level = snapshot.getLevel();
+		int count = (level != null) ? snapshot.getLiftCount() : 0;
+		if (lastLiftBounds.length < count * 2) {
+			lastLiftBounds = Arrays.copyOf(lastLiftBounds, count * 2);
+		}
+		for (int i = 0; i < count; i++) {
+			int x = (int) (level.getLifts().get(i).getHitbox().x * SCALE);
+			int y = (int) Math.floor(Math.min(snapshot.getLiftRenderY(i, 0f), snapshot.getLiftRenderY(i, 1f)) * SCALE);
+			int height = (int) Math.ceil(Math.max(snapshot.getLiftRenderY(i, 0f), snapshot.getLiftRenderY(i, 1f)) * SCALE) - y + TILES_SIZE;
+			if (i >= lastLiftCount || y != lastLiftBounds[i * 2] || height != lastLiftBounds[i * 2 + 1]) {
+				if (i < lastLiftCount) {
+					region.add(x, lastLiftBounds[i * 2], TILES_SIZE, lastLiftBounds[i * 2 + 1]);
+				}
+				region.add(x, y, TILES_SIZE, height);
+			}
+			lastLiftBounds[i * 2] = y;
+			lastLiftBounds[i * 2 + 1] = height;
+		}
+		lastLiftCount = count;
+	}
+
+	/**
+     * Checks if the next frame will rebuild the background, which then changes as a whole.
+     *
+     * @param snapshot The snapshot of the next frame.
+     * @return True if the background must be rebuilt for this snapshot.
+     */
+	public boolean isBackgroundStale(FrameSnapshot snapshot) {
+		return snapshot.getLevel() != null && !isBackgroundValid(snapshot.getLevel(), snapshot);
+	}
 
-		for (int row = 0; row < levelData.length; row++) {
-			for (int col = 0; col < levelData[0].length; col++) {
-				Tile tile = levelData[row][col];
+	/**
+     * Checks if the background was built for this room, with the same vanished furniture, for the current display.
+     */
+	private boolean isBackgroundValid(Level level, FrameSnapshot snapshot) {
+		if (background == null || level != backgroundLevel || backgroundConfiguration != SpriteCache.getInstance().getConfiguration()
+				|| backgroundVanished.length != snapshot.getFurnitureCount()) {
+			return false;
+		}
+		for (int i = 0; i < backgroundVanished.length; i++) {
+			if (backgroundVanished[i] != snapshot.isFurnitureVanished(i)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+     * Pre-renders the background color and every tile but the lifts, skipping the vanished furniture.
+     */
+	private void buildBackground(Level level, FrameSnapshot snapshot) {
+		SpriteCache sprites = SpriteCache.getInstance();
+		int width = Math.max(GAME_WIDTH, level.getCols() * TILES_SIZE);
+		int height = Math.max(GAME_HEIGHT, level.getRows() * TILES_SIZE);
+		if (background == null || backgroundConfiguration != sprites.getConfiguration()
+				|| background.getWidth() != width || background.getHeight() != height) {
+			background = sprites.createImage(width, height, Transparency.OPAQUE);
+		}
+		backgroundLevel = level;
+		backgroundConfiguration = sprites.getConfiguration();
+		backgroundVanished = new boolean[snapshot.getFurnitureCount()];
+
+		Graphics2D g = background.createGraphics();
+		g.setColor(BACKGROUND_COLOR);
+		g.fillRect(0, 0, width, height);
+		int furnitureIndex = 0;
+
+		for (int row = 0; row < level.getRows(); row++) {
+			for (int col = 0; col < level.getCols(); col++) {
+				Tile tile = level.getTile(row, col);
 				
                 if (tile.getType() == FURNITURE) {
-                    FurnitureTile fTile = (FurnitureTile) tile;
-                    if (fTile.isVanished()) {
+                    backgroundVanished[furnitureIndex] = snapshot.isFurnitureVanished(furnitureIndex);
+                    if (backgroundVanished[furnitureIndex++]) {
                         continue; // Skip rendering vanished furniture
                     }
                 }
@@ -71,9 +186,6 @@ public class LevelView {
 				case PLATFORM:
 					tileImage = platformTileImg;
 					break;
-				case LIFT:
-					tileImage = liftTileImg;
-					break;
 				case PC:
 					tileImage = pcTileImg;
 					break;
@@ -82,21 +194,21 @@ public class LevelView {
 					tileImage = AssetLoader.getInstance()
 							.getImage(fTile.getFurnitureType().name().toLowerCase() + "Tile");
 					break;
+				case LIFT: // Drawn on every frame
 				case EMPTY:
 				default:
 					break;
 				}
 
 				if (tileImage != null) {
-					if (tile.getType() == TileTypes.LIFT)
-						g.drawImage(tileImage, (int) (col * TILES_SIZE), (int) (tile.getHitbox().y * SCALE), TILES_SIZE, TILES_SIZE, null);
-					else if (tile.getType() == TileTypes.PC || tile instanceof FurnitureTile)
-						g.drawImage(tileImage, (int) (tile.getHitbox().x * SCALE), (int) (tile.getHitbox().y * SCALE),
-								(int) (tile.getHitbox().width * SCALE), (int) (tile.getHitbox().height * SCALE), null);
+					if (tile.getType() == TileTypes.PC || tile instanceof FurnitureTile)
+						g.drawImage(sprites.get(tileImage, (int) (tile.getHitbox().width * SCALE), (int) (tile.getHitbox().height * SCALE)),
+								(int) (tile.getHitbox().x * SCALE), (int) (tile.getHitbox().y * SCALE), null);
 					else
-						g.drawImage(tileImage, (int) (col * TILES_SIZE), (int) (row * TILES_SIZE), TILES_SIZE, TILES_SIZE, null);
+						g.drawImage(sprites.get(tileImage, TILES_SIZE, TILES_SIZE), (int) (col * TILES_SIZE), (int) (row * TILES_SIZE), null);
 				}
 			}
 		}
+		g.dispose();
 	}
-}
\ No newline at end of file
+}
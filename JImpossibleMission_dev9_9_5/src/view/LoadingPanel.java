@@ -0,0 +1,60 @@
+package view;
+
+import java.awt.Dimension;
+import java.awt.Graphics;
+import java.awt.Rectangle;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.swing.JPanel;
+import static model.GameConstants.*;
+
+/**
+ * The panel shown in the window while the assets and sounds are loaded at startup, with a
+ * progress bar. It only uses the {@link UIStyle} theme, so it can be shown before any image is loaded.
+ * <p>
+ * {@link #advance()} may be called from any thread: it only counts the loaded resources and
+ * requests a repaint, which Swing coalesces.
+ */
+public class LoadingPanel extends JPanel {
+	private static final long serialVersionUID = 1L;
+
+	private final int total;
+	private final AtomicInteger loaded = new AtomicInteger();
+
+	/**
+     * Constructs a LoadingPanel with the size of the game panel.
+     *
+     * @param total The number of resources to load.
+     */
+	public LoadingPanel(int total) {
+		this.total = total;
+		setBackground(UIStyle.BACKGROUND);
+		setPreferredSize(new Dimension(GAME_WIDTH, GAME_HEIGHT));
+	}
+
+	/**
+     * Counts one more loaded resource.
+     */
+	public void advance() {
+		loaded.incrementAndGet();
+		repaint();
+	}
+
+	@Override
+	protected void paintComponent(Graphics g) {
+		super.paintComponent(g);
+		int barWidth = GAME_WIDTH / 2;
+		int barHeight = (int) (8 * SCALE);
+		int barX = (GAME_WIDTH - barWidth) / 2;
+		int barY = GAME_HEIGHT / 2;
+
+		g.setColor(UIStyle.FOREGROUND);
+		UIStyle.drawCenteredString(g, "LOADING", new Rectangle(0, barY - 3 * barHeight, GAME_WIDTH, 2 * barHeight), UIStyle.BUTTON_FONT);
+
+		g.setColor(UIStyle.BUTTON_BG);
+		g.fillRect(barX, barY, barWidth, barHeight);
+		g.setColor(UIStyle.FOREGROUND);
+		g.fillRect(barX, barY, total > 0 ? barWidth * Math.min(loaded.get(), total) / total : barWidth, barHeight);
+		g.setColor(UIStyle.BORDER);
+		g.drawRect(barX, barY, barWidth, barHeight);
+	}
+}
@@ -1,75 +1,70 @@
 package view;
 
-import javax.swing.JComponent;
 import javax.swing.JPanel;
+import javax.swing.SwingUtilities;
+import java.awt.Component;
 import java.awt.Dimension;
 import java.awt.Graphics;
-import java.util.Observable;
-import java.util.Observer;
+import java.awt.event.KeyEvent;
+import java.awt.event.MouseEvent;
+import java.lang.reflect.InvocationTargetException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import model.ChangeBus;
+import model.FrameSnapshot;
 import model.GameModel;
 import model.GameState;
+import model.Level;
+import model.SnapshotBuffer;
 
 import static model.GameConstants.*;
 
 /**
  * The main container panel for the entire game, extending {@link JPanel}.
- * It acts as the primary canvas where all game graphics are rendered.
- * This class observes the {@link GameModel} and routes the drawing commands to the
- * appropriate sub-view based on the current {@link GameState}.
+ * It is the default {@link GameSurface}, where all game graphics are rendered by Swing's passive
+ * painting. It listens to the {@link ChangeBus} of the {@link GameModel} and draws the latest
+ * {@link FrameSnapshot} with the {@link SceneRenderer}.
+ * <p>
+ * Only the part of the panel that changed is repainted. Before each frame, {@link #planFrame()}
+ * takes the latest snapshot and collects into a {@link DirtyRegion} the previous and next bounds of
+ * everything that moved: the player, the enemies, the lifts, the HUD fields and the popups.
+ * Only that region is passed to {@code repaint}, and the frame is skipped if it is empty. The whole
+ * panel is repainted on scene transitions (another game state, room or elevator position), and on
+ * the menus for a few ticks after any input or change posted on the bus, since the menu views have
+ * no bounds of their own to report.
  */
-@SuppressWarnings({ "deprecation", "serial" })
-public class MainGamePanel extends JPanel implements Observer {
-
-	private GameModel gameModel;
-	private PlayingView playingView;
-	private TerminalView terminalView;
-	private PausedView pausedView;
-	private GameoverView gameoverView;
-	private VictoryView victoryView;
-	private PopupView popupView;
-	private ElevatorView elevatorView;
-	private ProfileSelectionView profileSelectionView;
-	private MainMenuView mainMenuView;
-	private LeaderboardView leaderboardView;
-	private StatsView statsView;
-	private HUDView hudView;
+@SuppressWarnings("serial")
+public class MainGamePanel extends JPanel implements GameSurface {
+
+	private SnapshotBuffer snapshots;
+	private SceneRenderer sceneRenderer;
+	
+	private final FrameLatency latency = new FrameLatency();
+	private final AtomicInteger framesPainted = new AtomicInteger();
+	private final AtomicBoolean repaintPending = new AtomicBoolean();
+	private final AtomicInteger pendingChanges = new AtomicInteger();
+
+	// Dirty-region planning, on the Event Dispatch Thread only
+	private static final long INPUT_SETTLE_NANOS = 2 * 1_000_000_000L / FPS_SET;
+	private final DirtyRegion dirtyRegion = new DirtyRegion();
+	private FrameSnapshot frameSnapshot; // The snapshot of the planned frame, painted by paintComponent
+	private GameState lastGameState;
+	private GameState lastStateBeforePause;
+	private Level lastLevel;
+	private long lastGameTime = -1;
+	private int inputVersion;
+	private int lastInputVersion;
+	private long inputNanos;
 
     /**
-     * Constructs the MainGamePanel and initializes all the sub-views.
+     * Constructs the MainGamePanel.
      *
-     * @param gameModel The main game model.
-     * @param playingView The view for the main gameplay state.
-     * @param elevatorView The view for the elevator state.
-     * @param terminalView The view for the terminal screen.
-     * @param pausedView The view for the pause menu.
-     * @param gameoverView The view for the game over screen.
-     * @param profileSelectionView The view for the profile selection screen.
-     * @param mainMenuView The view for the main menu.
-     * @param statsView The view for the statistics screen.
-     * @param popupView The view for in-game popups.
-     * @param victoryView The view for the victory screen.
-     * @param leaderboardView The view for the leaderboard screen.
-     * @param hudView The view for the Heads-Up Display.
+     * @param snapshots The buffer through which the game thread publishes a snapshot after every tick.
+     * @param sceneRenderer The renderer drawing the frames with all the sub-views.
      */
-    public MainGamePanel(GameModel gameModel, PlayingView playingView, ElevatorView elevatorView,
-                         TerminalView terminalView, PausedView pausedView, GameoverView gameoverView,
-                         ProfileSelectionView profileSelectionView, MainMenuView mainMenuView,
-                         StatsView statsView, PopupView popupView, VictoryView victoryView, 
-                         LeaderboardView leaderboardView, HUDView hudView) {
-        
-        this.gameModel = gameModel;
-        this.playingView = playingView;
-        this.elevatorView = elevatorView;
-        this.terminalView = terminalView;
-        this.pausedView = pausedView;
-        this.gameoverView = gameoverView;
-        this.victoryView = victoryView;
-        this.profileSelectionView = profileSelectionView;
-        this.mainMenuView = mainMenuView;
-        this.statsView = statsView;
-        this.popupView = popupView;
-        this.leaderboardView = leaderboardView;
-        this.hudView = hudView;
+    public MainGamePanel(SnapshotBuffer snapshots, SceneRenderer sceneRenderer) {
+        this.snapshots = snapshots;
+        this.sceneRenderer = sceneRenderer;
         
         setFocusable(true);
         setPreferredSize(new Dimension(GAME_WIDTH, GAME_HEIGHT));
@@ -77,81 +72,152 @@ public class MainGamePanel extends JPanel implements Observer {
 
 	/**
      * Returns this panel as the component for attaching input listeners.
-     * @return This JComponent.
+     * @return This JPanel.
      */
-	public JComponent getDrawingComponent() {
+	@Override
+	public Component getDrawingComponent() {
 		return this;
 	}
 
 	/**
      * The main rendering method, overridden from {@link JPanel}.
-     * It delegates the drawing process to the appropriate view based on the current game state.
+     * It delegates the drawing process to the appropriate view based on the game state of the
+     * snapshot of the last planned frame. The same snapshot is used for the whole frame, so every view
+     * draws the same tick. Only the clip of the Graphics context reaches the screen.
      * @param g The Graphics context.
      */
 	@Override
 	protected void paintComponent(Graphics g) {
 		super.paintComponent(g);
+		framesPainted.incrementAndGet();
+		SpriteCache.getInstance().validate(getGraphicsConfiguration());
+
+		if (frameSnapshot == null) {
+			frameSnapshot = snapshots.getLatest();
+		}
+		sceneRenderer.draw(g, frameSnapshot);
+		latency.frameShown(frameSnapshot.getTickNanos());
+	}
+
+	/**
+	 * Paints the whole panel synchronously on the Event Dispatch Thread and waits for it to finish.
+	 * Used by the uncapped render loop, which requests a new frame as soon as the previous one is on screen.
+	 */
+	@Override
+	public void paintNow() {
+		try {
+			SwingUtilities.invokeAndWait(() -> {
+				frameSnapshot = snapshots.getLatest();
+				paintImmediately(0, 0, getWidth(), getHeight());
+			});
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} catch (InvocationTargetException e) {
+			e.printStackTrace();
+		}
+	}
+
+	/**
+	 * Requests the next frame. Called by the render loop: the frame is only planned if the
+	 * previous one has been planned, so the panel never has more than one frame queued.
+	 */
+	@Override
+	public void requestFrame() {
+		if (repaintPending.compareAndSet(false, true)) {
+			SwingUtilities.invokeLater(this::planFrame);
+		}
+	}
+
+	/**
+	 * Plans the next frame on the Event Dispatch Thread: takes the latest snapshot, and repaints
+	 * the region that differs from the previous frame, or nothing if no view changed.
+	 * The planned regions add up in the {@link javax.swing.RepaintManager} until they are painted,
+	 * so a frame planned twice before being painted still covers both.
+	 */
+	private void planFrame() {
+		repaintPending.set(false);
+		FrameSnapshot snapshot = snapshots.getLatest();
+		frameSnapshot = snapshot;
+		int changes = pendingChanges.getAndSet(0);
+		dirtyRegion.clear();
+
+		GameState gameState = snapshot.getGameState();
+		if (gameState != lastGameState || snapshot.getStateBeforePause() != lastStateBeforePause
+				|| snapshot.getLevel() != lastLevel) {
+			dirtyRegion.add(0, 0, GAME_WIDTH, GAME_HEIGHT);
+		}
 
-		switch (gameModel.getGameState()) {
-		case PROFILE_SELECTION:
-			profileSelectionView.draw(g);
-			break;
-		case HOMESCREEN:
-			mainMenuView.draw(g);
-			break;
-		case PLAYING:
-			playingView.draw(g);
-			break;
-		case TERMINAL_OPEN:
-			playingView.draw(g); // Draw the game world behind the terminal
-			terminalView.draw(g);
-			break;
-		case PAUSED:
-            if (gameModel.getStateBeforePause() == GameState.IN_ELEVATOR) {
-                elevatorView.draw(g);
-            } else {
-                playingView.draw(g); 
-            }
-            pausedView.draw(g);
-			break;
-		case GAMEOVER:
-			playingView.draw(g);
-			gameoverView.draw(g);
-			break;
-		case IN_ELEVATOR:
-			elevatorView.draw(g);
-			break;
-		case STATS_SCREEN:
-			statsView.draw(g);
-			break;
-		case VICTORY_SCREEN:
-			playingView.draw(g);
-            victoryView.draw(g);
-            break;
-		case LEADERBOARD_SCREEN:
-			leaderboardView.draw(g);
-			break;
-		default:
-			break;
+		if (!sceneRenderer.addDirtyBounds(snapshot, dirtyRegion)) {
+			boolean worldBehind = gameState == GameState.TERMINAL_OPEN || gameState == GameState.GAMEOVER
+					|| gameState == GameState.VICTORY_SCREEN;
+			if (inputVersion != lastInputVersion || snapshot.getTickNanos() - inputNanos <= INPUT_SETTLE_NANOS
+					|| changes != 0 || (worldBehind && snapshot.getGameTimeMs() != lastGameTime)) {
+				dirtyRegion.add(0, 0, GAME_WIDTH, GAME_HEIGHT);
+			}
 		}
-		
-        // The HUD is drawn on top of active game states
-        if (gameModel.getGameState() == GameState.PLAYING || gameModel.getGameState() == GameState.IN_ELEVATOR) {
-            hudView.draw(g);
-        }
-
-		// The popup view is drawn last, so it appears on top of everything
-		popupView.draw(g);
+
+		lastGameState = gameState;
+		lastStateBeforePause = snapshot.getStateBeforePause();
+		lastLevel = snapshot.getLevel();
+		lastGameTime = snapshot.getGameTimeMs();
+		lastInputVersion = inputVersion;
+		if (!dirtyRegion.isEmpty()) {
+			repaint(dirtyRegion.getX(), dirtyRegion.getY(), dirtyRegion.getWidth(), dirtyRegion.getHeight());
+		}
+	}
+
+	/**
+	 * Records the time of the input before dispatching it: the menus are repainted in full until
+	 * the game has reacted to it, and presses start a latency measure.
+	 */
+	@Override
+	protected void processKeyEvent(KeyEvent e) {
+		if (e.getID() == KeyEvent.KEY_PRESSED) {
+			latency.inputReceived();
+		}
+		inputVersion++;
+		inputNanos = System.nanoTime();
+		super.processKeyEvent(e);
+	}
+
+	@Override
+	protected void processMouseEvent(MouseEvent e) {
+		if (e.getID() == MouseEvent.MOUSE_PRESSED) {
+			latency.inputReceived();
+		}
+		inputVersion++;
+		inputNanos = System.nanoTime();
+		super.processMouseEvent(e);
+	}
+
+	@Override
+	protected void processMouseMotionEvent(MouseEvent e) {
+		inputVersion++;
+		inputNanos = System.nanoTime();
+		super.processMouseMotionEvent(e);
+	}
+
+	/**
+	 * @return The number of frames painted since the last call.
+	 */
+	@Override
+	public int getAndResetFrameCount() {
+		return framesPainted.getAndSet(0);
+	}
+
+	@Override
+	public FrameLatency getLatency() {
+		return latency;
 	}
 
 	/**
-     * This method is called by the {@link Observable} subjects (like GameModel) when their state changes.
-     * It triggers a repaint of the panel to reflect the updated state.
-     * @param o The observable object.
-     * @param arg An argument passed to the notifyObservers method.
+     * Called by the game thread once per tick with the changes of the tick.
+     * Frames are produced by the render loop at its own cadence, so the changes are only recorded
+     * and picked up by the next scheduled frame instead of triggering a repaint.
+     * @param changes The mask of the changes of the tick.
      */
 	@Override
-	public void update(Observable o, Object arg) {
-		repaint();
+	public void onChanges(int changes) {
+		pendingChanges.accumulateAndGet(changes, (a, b) -> a | b);
 	}
 }
\ No newline at end of file
@@ -51,7 +51,7 @@ public class MainMenuView {
         	UserProfile profile = gameModel.getActiveProfile();
             BufferedImage avatarImg = AssetLoader.getInstance().getAvatar(profile.getAvatarId());
             if (avatarImg != null) {
-                g2d.drawImage(avatarImg, (GAME_WIDTH / 2) - (int)(75 * SCALE), (int)(62 * SCALE), (int)(25 * SCALE), (int)(25 * SCALE), null);
+                g2d.drawImage(SpriteCache.getInstance().get(avatarImg, (int)(25 * SCALE), (int)(25 * SCALE)), (GAME_WIDTH / 2) - (int)(75 * SCALE), (int)(62 * SCALE), null);
             }
 
             g2d.setFont(UIStyle.TEXT_FONT);
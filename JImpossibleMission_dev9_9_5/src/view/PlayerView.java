@@ -4,8 +4,9 @@ import java.awt.*;
 import java.awt.image.BufferedImage;
 import controller.AssetLoader;
 import controller.AudioManager;
+import model.Directions;
+import model.FrameSnapshot;
 import model.GameState;
-import model.Player;
 import model.PlayerState;
 import static model.GameConstants.*;
 import static model.Directions.*;
@@ -27,6 +28,12 @@ public class PlayerView {
 	private BufferedImage[] jumpingAnimations;
 	private BufferedImage[] searchingAnimations;
 
+	// The same animations facing left
+	private BufferedImage[] mirroredRunningAnimations;
+	private BufferedImage[] mirroredIdleAnimations;
+	private BufferedImage[] mirroredJumpingAnimations;
+	private BufferedImage[] mirroredSearchingAnimations;
+
 	private final int spriteWidth = TILES_DEFAULT_SIZE;
 	private final int spriteHeight = TILES_DEFAULT_SIZE;
 
@@ -43,6 +50,11 @@ public class PlayerView {
 	private final int totalSearchingFrames = 1;
 	
 	private long lastFrameTime = 0;
+
+	// What the last planned frame covered, see addDirtyBounds
+	private final Rectangle lastBounds = new Rectangle();
+	private PlayerState lastState;
+	private Directions lastDirection;
 	
 	private final int STEP_FRAME_1 = 3;
     private final int STEP_FRAME_2 = 10;
@@ -64,7 +76,8 @@ public class PlayerView {
 	}
 
 	/**
-     * Slices the loaded sprite atlases into individual animation frames.
+     * Slices the loaded sprite atlases into individual animation frames, and mirrors them for
+     * the left-facing player.
      */
 	private void loadAnimations() {
         runningAnimations = new BufferedImage[totalRunningFrames];
@@ -86,68 +99,103 @@ public class PlayerView {
         for (int i = 0; i < totalSearchingFrames; i++) {
             searchingAnimations[i] = searchingAtlas.getSubimage(i * spriteWidth, 0, spriteWidth, spriteHeight);
         }
+
+        mirroredRunningAnimations = EnemyAnimationSet.mirror(runningAnimations);
+        mirroredIdleAnimations = EnemyAnimationSet.mirror(idleAnimations);
+        mirroredJumpingAnimations = EnemyAnimationSet.mirror(jumpingAnimations);
+        mirroredSearchingAnimations = EnemyAnimationSet.mirror(searchingAnimations);
     }
 
 	/**
      * Draws the player character on the screen.
      *
      * @param g          The Graphics context to draw on.
-     * @param player     The player data object.
-     * @param gameState  The current state of the game, used to determine if animations should update.
+     * @param snapshot   The latest frame snapshot, holding the player data and the game state.
+     * @param alpha      The interpolation factor between the previous and the current simulation tick.
      */
-	public void draw(Graphics g, Player player, GameState gameState) {
+	public void draw(Graphics g, FrameSnapshot snapshot, float alpha) {
+        PlayerState playerState = snapshot.getPlayerState();
+        GameState gameState = snapshot.getGameState();
         BufferedImage[] currentAnimation = null;
         int currentAniSpeed = 0;
         int currentTotalFrames = 0;
+        boolean facingRight = snapshot.getPlayerDirection() == RIGHT;
 
-        switch (player.getCurrentState()) {
+        switch (playerState) {
             case RUNNING:
-                currentAnimation = runningAnimations;
+                currentAnimation = facingRight ? runningAnimations : mirroredRunningAnimations;
                 currentAniSpeed = runningAniSpeed;
                 currentTotalFrames = totalRunningFrames;
                 break;
             case IDLE:
-                currentAnimation = idleAnimations;
+                currentAnimation = facingRight ? idleAnimations : mirroredIdleAnimations;
                 currentAniSpeed = idleAniSpeed;
                 currentTotalFrames = totalIdleFrames;
                 break;
             case JUMPING:
-                currentAnimation = jumpingAnimations;
+                currentAnimation = facingRight ? jumpingAnimations : mirroredJumpingAnimations;
                 currentAniSpeed = jumpingAniSpeed;
                 currentTotalFrames = totalJumpingFrames;
                 break;
             case SEARCHING:
-            	currentAnimation = searchingAnimations;
+            	currentAnimation = facingRight ? searchingAnimations : mirroredSearchingAnimations;
             	currentAniSpeed = searchingAniSpeed;
             	currentTotalFrames = totalSearchingFrames;
             	break;
             default:
-                currentAnimation = idleAnimations; // Fallback to idle
+                currentAnimation = facingRight ? idleAnimations : mirroredIdleAnimations; // Fallback to idle
                 currentAniSpeed = idleAniSpeed;
                 currentTotalFrames = totalIdleFrames;
                 break;
         }
 
-        if (currentAnimation == null || currentAnimation.length == 0 || player == null) {
+        if (currentAnimation == null || currentAnimation.length == 0) {
             return;
         }
         
         // Update the animation tick only if the game is in an active state.
         if (gameState == GameState.PLAYING || gameState == GameState.IN_ELEVATOR) {
-            updateAnimationTick(currentAniSpeed, currentTotalFrames, player.getCurrentState());
+            updateAnimationTick(currentAniSpeed, currentTotalFrames, playerState);
         }
 
         int frameToDraw = aniIndex % currentAnimation.length;
-        int drawX = (int) (player.getX() * SCALE);
-        int drawY = (int) (player.getY() * SCALE);
-        int drawWidth = (int) (player.getWidth() * SCALE);
-        int drawHeight = (int) (player.getHeight() * SCALE);
-        if(player.getDirection() == RIGHT)
-        	g.drawImage(currentAnimation[frameToDraw], drawX, drawY, drawWidth, drawHeight, null);
-        else // Flip sprite horizontally if facing left
-        	g.drawImage(currentAnimation[frameToDraw], drawX + drawWidth, drawY, -drawWidth, drawHeight, null);
+        int drawX = (int) (snapshot.getPlayerRenderX(alpha) * SCALE);
+        int drawY = (int) (snapshot.getPlayerRenderY(alpha) * SCALE);
+        int drawWidth = (int) (snapshot.getPlayerWidth() * SCALE);
+        int drawHeight = (int) (snapshot.getPlayerHeight() * SCALE);
+        g.drawImage(SpriteCache.getInstance().get(currentAnimation[frameToDraw], drawWidth, drawHeight), drawX, drawY, null);
     }
 	
+	/**
+     * Adds to a region the old and new bounds of the player if it must be redrawn for the next frame.
+     * The new bounds cover every interpolated position of the snapshot. Running and jumping are
+     * animated with the wall clock, so in these states the player is always redrawn.
+     *
+     * @param snapshot The snapshot of the next frame.
+     * @param region   The region to repaint.
+     */
+	public void addDirtyBounds(FrameSnapshot snapshot, DirtyRegion region) {
+		float minX = Math.min(snapshot.getPlayerRenderX(0f), snapshot.getPlayerRenderX(1f));
+		float maxX = Math.max(snapshot.getPlayerRenderX(0f), snapshot.getPlayerRenderX(1f));
+		float minY = Math.min(snapshot.getPlayerRenderY(0f), snapshot.getPlayerRenderY(1f));
+		float maxY = Math.max(snapshot.getPlayerRenderY(0f), snapshot.getPlayerRenderY(1f));
+		int x = (int) Math.floor(minX * SCALE);
+		int y = (int) Math.floor(minY * SCALE);
+		int width = (int) Math.ceil(maxX * SCALE) - x + (int) (snapshot.getPlayerWidth() * SCALE);
+		int height = (int) Math.ceil(maxY * SCALE) - y + (int) (snapshot.getPlayerHeight() * SCALE);
+
+		PlayerState state = snapshot.getPlayerState();
+		boolean animated = state == PlayerState.RUNNING || state == PlayerState.JUMPING;
+		if (animated || state != lastState || snapshot.getPlayerDirection() != lastDirection
+				|| x != lastBounds.x || y != lastBounds.y || width != lastBounds.width || height != lastBounds.height) {
+			region.add(lastBounds);
+			region.add(x, y, width, height);
+		}
+		lastBounds.setBounds(x, y, width, height);
+		lastState = state;
+		lastDirection = snapshot.getPlayerDirection();
+	}
+	
 	/**
      * Updates the animation index based on a time delay.
      * It also triggers step sounds at specific frames of the running animation.
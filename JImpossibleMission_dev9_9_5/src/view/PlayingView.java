@@ -1,69 +1,78 @@
 package view;
 
-import model.Enemy;
 import model.EnemyType;
-import model.GameModel;
-import model.Level;
+import model.FrameSnapshot;
 import java.awt.Graphics;
 import java.awt.Graphics2D;
-import java.awt.Color;
 import controller.AssetLoader;
 
 /**
  * Renders the main gameplay screen.
  * This class is responsible for orchestrating the drawing of the level, the player,
- * and all enemies by calling their respective view classes. It gets all necessary data
- * directly from the {@link GameModel}.
+ * and all enemies by calling their respective view classes. It only reads the
+ * {@link FrameSnapshot} published by the game thread, never the live model.
  */
 public class PlayingView {
 
-    private GameModel gameModel;
-    
     private PlayerView playerRenderer;
     private LevelView levelRenderer;
     private EnemyView enemyRenderer;
 
     /**
      * Constructs a PlayingView.
-     *
-     * @param gameModel The central game model, which is the single source of truth for rendering.
      */
-    public PlayingView(GameModel gameModel) {
-        this.gameModel = gameModel;
+    public PlayingView() {
         this.playerRenderer = new PlayerView();
         this.levelRenderer = new LevelView(); 
         this.enemyRenderer = new EnemyView();
     }
 
+    /**
+     * Adds to a region what must be redrawn for the next frame: the moving lifts, the player and
+     * the enemies, or the whole screen when the background of the room changes.
+     *
+     * @param snapshot The snapshot of the next frame.
+     * @param region   The region to repaint.
+     */
+    public void addDirtyBounds(FrameSnapshot snapshot, DirtyRegion region) {
+        if (levelRenderer.isBackgroundStale(snapshot)) {
+            region.add(0, 0, model.GameConstants.GAME_WIDTH, model.GameConstants.GAME_HEIGHT);
+        }
+        levelRenderer.addDirtyBounds(snapshot, region);
+        playerRenderer.addDirtyBounds(snapshot, region);
+        enemyRenderer.addDirtyBounds(snapshot, region);
+    }
+
     /**
      * Draws the entire gameplay scene.
      *
-     * @param g The Graphics context to draw on.
+     * @param g        The Graphics context to draw on.
+     * @param snapshot The latest frame snapshot published by the game thread.
      */
-    public void draw(Graphics g) {
+    public void draw(Graphics g, FrameSnapshot snapshot) {
         Graphics2D g2d = (Graphics2D) g;
-
-        // Draw the background color
-        g2d.setColor(new Color(30, 0, 50));
-        g2d.fillRect(0, 0, model.GameConstants.GAME_WIDTH, model.GameConstants.GAME_HEIGHT);
         
-        Level currentLevel = gameModel.getLevel();
-        
-        if (currentLevel == null) {
-            return; // Do not attempt to draw if no level is loaded
+        if (snapshot.getLevel() == null) {
+            // Draw the background color only, do not attempt to draw if no level is loaded
+            g2d.setColor(LevelView.BACKGROUND_COLOR);
+            g2d.fillRect(0, 0, model.GameConstants.GAME_WIDTH, model.GameConstants.GAME_HEIGHT);
+            return;
         }
 
-        // Delegate drawing to specialized renderers
-        levelRenderer.draw(g2d, gameModel.getLevel());
-        playerRenderer.draw(g2d, gameModel.getPlayer(), gameModel.getGameState());
+        // Entities are drawn between the last two simulation states
+        float alpha = snapshot.getInterpolationAlpha();
+
+        // Delegate drawing to specialized renderers; the level covers the whole background
+        levelRenderer.draw(g2d, snapshot, alpha);
+        playerRenderer.draw(g2d, snapshot, alpha);
         
-        for (Enemy enemy : gameModel.getEnemies()) {
-            EnemyType type = enemy.getEnemyType();
+        for (int i = 0; i < snapshot.getEnemyCount(); i++) {
+            EnemyType type = snapshot.getEnemyType(i);
             EnemyAnimationSet animSet = AssetLoader.getInstance().getAnimationsFor(type);
             
             if (animSet != null) {
-                enemyRenderer.draw(g2d, enemy, animSet);
+                enemyRenderer.draw(g2d, snapshot, i, animSet, alpha);
             }
         }
     }
-}
\ No newline at end of file
+}
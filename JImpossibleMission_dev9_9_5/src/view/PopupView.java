@@ -7,6 +7,7 @@ import java.awt.Color;
 import java.awt.Font;
 import java.awt.FontMetrics;
 import java.awt.BasicStroke;
+import java.awt.Rectangle;
 import model.FurnitureTile;
 import static model.GameConstants.*;
 
@@ -17,6 +18,8 @@ import static model.GameConstants.*;
 public class PopupView {
 
     private PopupHandler popupHandler;
+    private final Rectangle bounds = new Rectangle();
+    private final Rectangle lastBounds = new Rectangle(); // Covered by the last planned frame
 
     /**
      * Constructs a PopupView.
@@ -28,14 +31,33 @@ public class PopupView {
     }
 
     /**
-     * Draws the currently active popup, if any.
+     * Adds to a region the old and new bounds of the popup while one is shown, since its
+     * content may change on every tick.
      *
-     * @param g The Graphics context to draw on.
+     * @param region The region to repaint.
      */
-    public void draw(Graphics g) {
-        String text = popupHandler.getPopupText();
+    public void addDirtyBounds(DirtyRegion region) {
+        if (!computeBounds(popupHandler.getPopupText(), bounds)) {
+            bounds.setBounds(0, 0, 0, 0);
+        }
+        if (!bounds.isEmpty() || !lastBounds.isEmpty()) {
+            // Include the border, drawn with a 2 pixel stroke around the bounds
+            region.add(lastBounds.x - 2, lastBounds.y - 2, lastBounds.width + 4, lastBounds.height + 4);
+            region.add(bounds.x - 2, bounds.y - 2, bounds.width + 4, bounds.height + 4);
+        }
+        lastBounds.setBounds(bounds);
+    }
+
+    /**
+     * Computes where the popup is drawn.
+     *
+     * @param text   The text of the popup.
+     * @param bounds Receives the bounds of the popup.
+     * @return False if there is no popup to display.
+     */
+    private boolean computeBounds(String text, Rectangle bounds) {
         if (text.isEmpty()) {
-            return; // Do nothing if there is no popup to display
+            return false;
         }
 
         int popupX = 0;
@@ -60,6 +82,26 @@ public class PopupView {
             popupY = (int) (furniture.getHitbox().y * SCALE) - 60;
         }
 
+        bounds.setBounds(popupX, popupY, popupWidth, popupHeight);
+        return true;
+    }
+
+    /**
+     * Draws the currently active popup, if any.
+     *
+     * @param g The Graphics context to draw on.
+     */
+    public void draw(Graphics g) {
+        String text = popupHandler.getPopupText();
+        if (!computeBounds(text, bounds)) {
+            return; // Do nothing if there is no popup to display
+        }
+
+        int popupX = bounds.x;
+        int popupY = bounds.y;
+        int popupWidth = bounds.width;
+        int popupHeight = bounds.height;
+
         // Draw the popup background
         g.setColor(new Color(0, 0, 0, 200));
         g.fillRect(popupX, popupY, popupWidth, popupHeight);
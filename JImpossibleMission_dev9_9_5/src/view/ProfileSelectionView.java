@@ -81,7 +81,7 @@ public class ProfileSelectionView {
                 
                 BufferedImage avatarImg = AssetLoader.getInstance().getAvatar(profiles.get(i).getAvatarId());
                 if (avatarImg != null) {
-                    g2d.drawImage(avatarImg, popupX + (int)(12 * SCALE), itemY + (int)(2 * SCALE), (int)(15 * SCALE), (int)(15 * SCALE), null);
+                    g2d.drawImage(SpriteCache.getInstance().get(avatarImg, (int)(15 * SCALE), (int)(15 * SCALE)), popupX + (int)(12 * SCALE), itemY + (int)(2 * SCALE), null);
                 }
                 
                 // Draw delete button (trash icon)
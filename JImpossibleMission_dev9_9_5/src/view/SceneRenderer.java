@@ -0,0 +1,154 @@
+package view;
+
+import java.awt.Graphics;
+import model.FrameSnapshot;
+import model.GameState;
+
+/**
+ * Draws a whole frame of the game from a {@link FrameSnapshot}, routing the drawing commands to
+ * the appropriate sub-view based on its {@link GameState}.
+ * It is shared by the two rendering backends, the Swing {@link MainGamePanel} and the
+ * active-rendering {@link GameCanvas}, and is only used by the thread that paints the frames.
+ */
+public class SceneRenderer {
+
+	private PlayingView playingView;
+	private TerminalView terminalView;
+	private PausedView pausedView;
+	private GameoverView gameoverView;
+	private VictoryView victoryView;
+	private PopupView popupView;
+	private ElevatorView elevatorView;
+	private ProfileSelectionView profileSelectionView;
+	private MainMenuView mainMenuView;
+	private LeaderboardView leaderboardView;
+	private StatsView statsView;
+	private HUDView hudView;
+
+    /**
+     * Constructs the SceneRenderer from all the sub-views.
+     *
+     * @param playingView The view for the main gameplay state.
+     * @param elevatorView The view for the elevator state.
+     * @param terminalView The view for the terminal screen.
+     * @param pausedView The view for the pause menu.
+     * @param gameoverView The view for the game over screen.
+     * @param profileSelectionView The view for the profile selection screen.
+     * @param mainMenuView The view for the main menu.
+     * @param statsView The view for the statistics screen.
+     * @param popupView The view for in-game popups.
+     * @param victoryView The view for the victory screen.
+     * @param leaderboardView The view for the leaderboard screen.
+     * @param hudView The view for the Heads-Up Display.
+     */
+    public SceneRenderer(PlayingView playingView, ElevatorView elevatorView,
+                         TerminalView terminalView, PausedView pausedView, GameoverView gameoverView,
+                         ProfileSelectionView profileSelectionView, MainMenuView mainMenuView,
+                         StatsView statsView, PopupView popupView, VictoryView victoryView,
+                         LeaderboardView leaderboardView, HUDView hudView) {
+
+        this.playingView = playingView;
+        this.elevatorView = elevatorView;
+        this.terminalView = terminalView;
+        this.pausedView = pausedView;
+        this.gameoverView = gameoverView;
+        this.victoryView = victoryView;
+        this.profileSelectionView = profileSelectionView;
+        this.mainMenuView = mainMenuView;
+        this.statsView = statsView;
+        this.popupView = popupView;
+        this.leaderboardView = leaderboardView;
+        this.hudView = hudView;
+    }
+
+	/**
+     * Draws the frame of a snapshot. The same snapshot is used for the whole frame, so every view
+     * draws the same tick.
+     *
+     * @param g        The Graphics context.
+     * @param snapshot The snapshot to draw.
+     */
+	public void draw(Graphics g, FrameSnapshot snapshot) {
+		GameState gameState = snapshot.getGameState();
+		if (gameState == null) { // No tick has been completed yet
+			popupView.draw(g);
+			return;
+		}
+
+		switch (gameState) {
+		case PROFILE_SELECTION:
+			profileSelectionView.draw(g);
+			break;
+		case HOMESCREEN:
+			mainMenuView.draw(g);
+			break;
+		case PLAYING:
+			playingView.draw(g, snapshot);
+			break;
+		case TERMINAL_OPEN:
+			playingView.draw(g, snapshot); // Draw the game world behind the terminal
+			terminalView.draw(g);
+			break;
+		case PAUSED:
+            if (snapshot.getStateBeforePause() == GameState.IN_ELEVATOR) {
+                elevatorView.draw(g, snapshot);
+            } else {
+                playingView.draw(g, snapshot);
+            }
+            pausedView.draw(g);
+			break;
+		case GAMEOVER:
+			playingView.draw(g, snapshot);
+			gameoverView.draw(g);
+			break;
+		case IN_ELEVATOR:
+			elevatorView.draw(g, snapshot);
+			break;
+		case STATS_SCREEN:
+			statsView.draw(g);
+			break;
+		case VICTORY_SCREEN:
+			playingView.draw(g, snapshot);
+            victoryView.draw(g);
+            break;
+		case LEADERBOARD_SCREEN:
+			leaderboardView.draw(g);
+			break;
+		default:
+			break;
+		}
+
+        // The HUD is drawn on top of active game states
+        if (gameState == GameState.PLAYING || gameState == GameState.IN_ELEVATOR) {
+            hudView.draw(g, snapshot);
+        }
+
+		// The popup view is drawn last, so it appears on top of everything
+		popupView.draw(g);
+	}
+
+	/**
+     * Adds to a region the bounds reported by the views of the snapshot's state, for the views
+     * that track what they draw: the gameplay and elevator scenes with their HUD, and the popups.
+     *
+     * @param snapshot The snapshot of the next frame.
+     * @param region   The region to repaint.
+     * @return True if the views of this state reported their bounds, false if the menus and
+     *         overlays of the state must be repainted by other means.
+     */
+	public boolean addDirtyBounds(FrameSnapshot snapshot, DirtyRegion region) {
+		GameState gameState = snapshot.getGameState();
+		boolean tracked = true;
+		if (gameState == GameState.PLAYING) {
+			playingView.addDirtyBounds(snapshot, region);
+			hudView.addDirtyBounds(snapshot, region);
+		} else if (gameState == GameState.IN_ELEVATOR) {
+			elevatorView.addDirtyBounds(snapshot, region);
+			hudView.addDirtyBounds(snapshot, region);
+		} else {
+			tracked = gameState == null;
+		}
+		popupView.addDirtyBounds(region);
+		return tracked;
+	}
+}
@@ -0,0 +1,126 @@
+package view;
+
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * A cache of the sprites at their final on-screen size, in the pixel format of the display.
+ * The decoded images of the {@link controller.AssetLoader} are drawn scaled on every frame
+ * otherwise, and their format is whatever {@code ImageIO} produced, which Java2D may have to
+ * convert on every draw. Here each image is scaled and converted once, on first use, into an
+ * image created by {@link GraphicsConfiguration#createCompatibleImage(int, int, int)}, that Java2D
+ * can keep in video memory and copy without any transformation.
+ * <p>
+ * Images are identified by reference, so the frames sliced from an atlas at load time are
+ * cached separately. When the panel moves to another display, {@link #validate(GraphicsConfiguration)}
+ * drops every cached image, which are then rebuilt for the new display.
+ * The cache is only used while painting, by the thread that paints the frames: the Event Dispatch
+ * Thread, or the render thread with the {@link GameCanvas}.
+ */
+public class SpriteCache {
+    private static final SpriteCache instance = new SpriteCache();
+
+    private final Map<BufferedImage, BufferedImage[]> scaled = new IdentityHashMap<>();
+    private GraphicsConfiguration configuration;
+
+    /**
+     * Private constructor to enforce the Singleton pattern.
+     */
+    private SpriteCache() {
+    }
+
+    /**
+     * @return The singleton instance of SpriteCache.
+     */
+    public static SpriteCache getInstance() {
+        return instance;
+    }
+
+    /**
+     * Sets the display the sprites are drawn on, clearing the cache if it changed.
+     * Called before painting each frame.
+     *
+     * @param configuration The configuration of the painted component, or null if it is not displayable.
+     */
+    public void validate(GraphicsConfiguration configuration) {
+        if (configuration != this.configuration) {
+            this.configuration = configuration;
+            scaled.clear();
+        }
+    }
+
+    /**
+     * Returns an image at a given size, scaling and converting it the first time.
+     * The returned image is drawn with {@code drawImage(img, x, y, null)}, so that no scaling
+     * happens while painting; sprites facing the other way are cached from pre-mirrored frames.
+     *
+     * @param source The decoded image, or null.
+     * @param width  The on-screen width.
+     * @param height The on-screen height.
+     * @return The image at this size, or null if the source is null.
+     */
+    public BufferedImage get(BufferedImage source, int width, int height) {
+        if (source == null) {
+            return null;
+        }
+        BufferedImage[] sizes = scaled.get(source);
+        if (sizes != null) {
+            for (BufferedImage image : sizes) {
+                if (image.getWidth() == width && image.getHeight() == height) {
+                    return image;
+                }
+            }
+        }
+
+        BufferedImage image = scale(source, width, height);
+        if (sizes == null) {
+            sizes = new BufferedImage[] { image };
+        } else {
+            sizes = Arrays.copyOf(sizes, sizes.length + 1);
+            sizes[sizes.length - 1] = image;
+        }
+        scaled.put(source, sizes);
+        return image;
+    }
+
+    /**
+     * Creates an image in the pixel format of the current display, for the views that pre-render
+     * layers of their own. Such images must be rebuilt when {@link #getConfiguration()} changes.
+     *
+     * @param width        The width of the image.
+     * @param height       The height of the image.
+     * @param transparency The transparency of the image, see {@link java.awt.Transparency}.
+     * @return A new image.
+     */
+    public BufferedImage createImage(int width, int height, int transparency) {
+        int w = Math.max(1, width);
+        int h = Math.max(1, height);
+        return (configuration != null)
+                ? configuration.createCompatibleImage(w, h, transparency)
+                : new BufferedImage(w, h, BufferedImage.TYPE_INT_ARGB_PRE);
+    }
+
+    /**
+     * @return The configuration of the display the sprites are cached for, or null.
+     */
+    public GraphicsConfiguration getConfiguration() {
+        return configuration;
+    }
+
+    private BufferedImage scale(BufferedImage source, int width, int height) {
+        int w = Math.max(1, width);
+        int h = Math.max(1, height);
+        BufferedImage image = createImage(w, h, source.getTransparency());
+        Graphics2D g2d = image.createGraphics();
+        // Same nearest-neighbour sampling as the scaled drawImage it replaces
+        g2d.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_NEAREST_NEIGHBOR);
+        g2d.drawImage(source, 0, 0, w, h, null);
+        g2d.dispose();
+        return image;
+    }
+}